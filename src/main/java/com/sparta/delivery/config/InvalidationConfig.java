@@ -0,0 +1,57 @@
+package com.sparta.delivery.config;
+
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationTransport;
+import com.sparta.delivery.domain.invalidation.service.NoOpInvalidationTransport;
+import com.sparta.delivery.domain.invalidation.service.PgNotifyInvalidationTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 서버 간 캐시 무효화 전송 계층 설정
+ *
+ * invalidation.backend
+ * - auto (기본값) : DB 가 PostgreSQL 이면 LISTEN / NOTIFY, 그 외(H2 등)에는 전송하지 않음
+ * - postgres : 항상 LISTEN / NOTIFY
+ * - none : 전송하지 않음 (서버가 하나인 경우)
+ */
+@Slf4j
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(DataSource dataSource,
+                                                       @Value("${invalidation.backend:auto}") String backend,
+                                                       @Value("${invalidation.pg.channel:cache_invalidation}") String channel,
+                                                       @Value("${invalidation.pg.pollTimeoutMs:500}") int pollTimeoutMs,
+                                                       @Value("${invalidation.pg.reconnectDelayMs:1000}") long reconnectDelayMs) {
+        boolean usePostgres = switch (backend) {
+            case "postgres" -> true;
+            case "none" -> false;
+            default -> isPostgres(dataSource);
+        };
+
+        if (!usePostgres) {
+            log.info("Cache invalidation bus disabled (backend={})", backend);
+            return new NoOpInvalidationTransport();
+        }
+        log.info("Cache invalidation bus using PostgreSQL LISTEN/NOTIFY (channel={})", channel);
+        return new PgNotifyInvalidationTransport(dataSource, channel, pollTimeoutMs, reconnectDelayMs);
+    }
+
+    private boolean isPostgres(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect database for invalidation bus : {}", e.getMessage());
+            return false;
+        }
+    }
+}
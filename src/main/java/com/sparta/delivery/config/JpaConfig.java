@@ -1,10 +1,29 @@
 package com.sparta.delivery.config;
 
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class JpaConfig {
 
-}
\ No newline at end of file
+    // createdAt / updatedAt 을 DB 컬럼 정밀도(마이크로초)에 맞춰 저장
+    // 메모리의 엔티티 값과 DB 값이 같아야 (createdAt, id) 커서가 행을 중복/누락 없이 가리킵니다.
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    // ddl-auto 가 처리하지 못하는 스키마 변경을 EntityManagerFactory(ddl-auto) 보다 먼저 적용
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigrationDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(RefreshTokenSchemaMigration.class);
+    }
+}
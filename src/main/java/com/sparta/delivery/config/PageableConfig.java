@@ -1,9 +1,8 @@
 package com.sparta.delivery.config;
 
+import com.sparta.delivery.domain.common.SortSpec;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 @Configuration
 public class PageableConfig {
@@ -12,19 +11,25 @@ public class PageableConfig {
 
     private static final int maxPageSize = 50; // 최대 페이지 크기
 
-    private static final String sortBy = "createdAt"; // 기본 정렬 필드
-
-    public PageRequest createPageRequest(Integer page, Integer size, String sortBy, String orderBy) {
-        int pageNumber = (page != null) ? page : 0;
-        int pageSize = (size != null) ? size : defaultPageSize;
+    // 정렬 키는 sortSpec 의 허용 목록으로 검증 (허용되지 않은 키는 InvalidSortException, sortBy 가 없으면 기본 정렬)
+    public PageRequest createPageRequest(Integer page, Integer size, SortSpec sortSpec, String sortBy, String orderBy) {
+        int pageNumber = (page != null && page > 0) ? page : 0;
+        int pageSize = (size != null && size > 0) ? size : defaultPageSize;
 
         if (pageSize > maxPageSize)
             pageSize = defaultPageSize;
 
-        String sortField = (sortBy != null) ? sortBy : this.sortBy;
-        Sort.Direction direction = ("desc".equalsIgnoreCase(orderBy)) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return PageRequest.of(pageNumber, pageSize, sortSpec.toSort(sortBy, orderBy));
+    }
+
+    // 커서 기반 조회의 페이지 크기 (정렬은 (createdAt, id) 내림차순으로 고정)
+    public int resolveCursorPageSize(Integer size) {
+        int pageSize = (size != null && size > 0) ? size : defaultPageSize;
+
+        if (pageSize > maxPageSize)
+            pageSize = defaultPageSize;
 
-        return PageRequest.of(pageNumber, pageSize, Sort.by(direction, sortField));
+        return pageSize;
     }
 }
 
@@ -0,0 +1,77 @@
+package com.sparta.delivery.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * p_refresh_token 스키마 보정 (문자열 expiration → 타임스탬프 expires_at)
+ *
+ * ddl-auto: update 는 데이터가 있는 테이블에 NOT NULL 컬럼을 추가하지 못하고 기존 NOT NULL expiration 컬럼도 지우지 않으므로,
+ * EntityManagerFactory 보다 먼저 실행되어 (JpaConfig) 다음을 처리합니다.
+ * - expires_at 컬럼 추가 후 한 번의 UPDATE 로 현재 시각을 채움 (이전 토큰은 만료 처리되어 일괄 삭제 대상, 유효 기간이 1일이므로 한 번 재로그인)
+ * - expires_at 을 NOT NULL 로 변경하고 expiration 컬럼 삭제
+ * expiration 컬럼이 없으면(이미 보정됨 또는 테이블 없음) 컬럼 조회 외에는 아무것도 하지 않으며,
+ * 중간에 실패해도 다음 기동 시 남은 단계부터 다시 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSchemaMigration implements InitializingBean {
+
+    private static final String TABLE = "p_refresh_token";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    /**
+     * @return 보정한 경우 true, 이미 새 스키마(또는 테이블 없음)인 경우 false
+     */
+    public boolean migrate() {
+        Set<String> columns = columnNames();
+        if (!columns.contains("expiration")) {
+            return false;
+        }
+
+        if (!columns.contains("expires_at")) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN expires_at TIMESTAMP(6) WITH TIME ZONE");
+        }
+
+        int backfilled = jdbcTemplate.update("UPDATE " + TABLE + " SET expires_at = CURRENT_TIMESTAMP WHERE expires_at IS NULL");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN expires_at SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP COLUMN expiration");
+        log.info("p_refresh_token 스키마 보정 완료 (expires_at 백필 {} 건, expiration 컬럼 삭제)", backfilled);
+        return true;
+    }
+
+    // 테이블의 컬럼 이름 (소문자, 테이블이 없으면 빈 Set / PostgreSQL 은 소문자, H2 는 대문자로 저장)
+    private Set<String> columnNames() {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Set<String> columns = new HashSet<>();
+            for (String table : List.of(TABLE, TABLE.toUpperCase(Locale.ROOT))) {
+                try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, null)) {
+                    while (resultSet.next()) {
+                        columns.add(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return columns;
+        });
+    }
+}
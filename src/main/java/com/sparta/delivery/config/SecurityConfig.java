@@ -2,7 +2,9 @@ package com.sparta.delivery.config;
 
 
 import com.sparta.delivery.config.filter.JwtAuthenticationFilter;
+import com.sparta.delivery.config.filter.PublicUrlMatcher;
 import com.sparta.delivery.domain.token.service.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,9 +23,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final SecurityUrlProperties securityUrlProperties;
+    private final PublicUrlMatcher publicUrlMatcher;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
+    public SecurityConfig(JwtUtil jwtUtil, SecurityUrlProperties securityUrlProperties, PublicUrlMatcher publicUrlMatcher) {
         this.jwtUtil = jwtUtil;
+        this.securityUrlProperties = securityUrlProperties;
+        this.publicUrlMatcher = publicUrlMatcher;
     }
 
     @Bean
@@ -35,21 +41,19 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable());
 
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, publicUrlMatcher), UsernamePasswordAuthenticationFilter.class);
 
         http.sessionManagement((sessionManagement) ->
                 sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         http.authorizeHttpRequests(authorization -> {
 
-            // 공용 URL (인증 없이 접근 가능)
+            // 비동기 응답(CompletableFuture)의 디스패치 (최초 요청에서 이미 인증/인가를 통과함)
+            authorization.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
+            // 공용 URL (인증 없이 접근 가능, application.yml 의 security.permitAllUrls)
             authorization.requestMatchers(
-                    "/api/user/signup",
-                    "/api/user/signin",
-                    "/api/token/reissue",
-                    "/api/user/logout",
-                    "/swagger-ui/**",
-                    "/v3/api-docs/**"
+                    securityUrlProperties.getPermitAllUrls().toArray(String[]::new)
             ).permitAll();
 
             // 주문 관련
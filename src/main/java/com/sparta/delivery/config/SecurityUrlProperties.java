@@ -0,0 +1,23 @@
+package com.sparta.delivery.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 없이 접근 가능한 URL 설정 (application.yml 의 security.permitAllUrls)
+ *
+ * SecurityConfig 의 permitAll 경로와 JwtAuthenticationFilter 의 필터 제외 경로가 같은 목록을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security")
+public class SecurityUrlProperties {
+
+    private List<String> permitAllUrls = new ArrayList<>();
+}
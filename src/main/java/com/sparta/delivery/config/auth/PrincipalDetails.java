@@ -8,6 +8,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public class PrincipalDetails implements UserDetails {
 
@@ -36,4 +37,9 @@ public class PrincipalDetails implements UserDetails {
     public UserRoles getRole(){
         return user.getRole();
     }
+
+    // access token 에 담긴 userId (userId claim 이 없는 이전 토큰은 null)
+    public UUID getUserId(){
+        return user.getUserId();
+    }
 }
@@ -2,6 +2,7 @@ package com.sparta.delivery.config.filter;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.InvalidTokenException;
+import com.sparta.delivery.domain.token.dto.VerifiedToken;
 import com.sparta.delivery.domain.token.service.JwtUtil;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
@@ -16,12 +17,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.List;
 
 /**
  * 모든 Http 요청에서 JWT 토큰을 추철하고 사용자 인증을 처리하는 필터
@@ -39,7 +38,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    // 인증 없이 접근 가능한 URL 매처 (SecurityConfig permitAll 경로와 동일한 설정 사용)
+    private final PublicUrlMatcher publicUrlMatcher;
 
     // Header key 식별값
     public static final String AUTHORIZATION_HEADER = "Authorization";
@@ -47,32 +47,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
 
-
-    // 검사에서 제외할 경로
-    private static final List<String> excludeUrls = List.of(
-            "/api/user/signup",
-            "/api/user/signin",
-            "/api/token/reissue",
-            "/api/user/logout",
-            "/swagger-ui/**",
-            "/v3/api-docs/**"
-    );
-
     // 특정 URL이 해당하면 필터링을 저적용하지않도록 검사
+    // OncePerRequestFilter 가 요청당 한 번만 호출하므로 doFilterInternal 에서는 다시 검사하지 않음
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        return excludeUrls.stream().anyMatch(url -> pathMatcher.match(url, requestPath));
+        return publicUrlMatcher.matches(request.getRequestURI());
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        if (shouldNotFilter(request)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         String headerAuthorizationToken = request.getHeader(AUTHORIZATION_HEADER);
 
         // JWT 토큰이 없거나 Bearer 접두어가 없는 경우
@@ -86,20 +70,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String accessToken = headerAuthorizationToken.split(" ")[1];
 
         try {
-            jwtUtil.isExpired(accessToken);
+            // 토큰 파싱 및 서명 검증은 한 번만 수행 (검증 결과는 토큰 만료 시점까지 캐시)
+            VerifiedToken verifiedToken = jwtUtil.verify(accessToken);
 
-            if (!jwtUtil.getCategory(accessToken).equals("access")){
+            if (!"access".equals(verifiedToken.getCategory())){
                 throw new InvalidTokenException("Invalid token category. Expected 'access' token.");
             }
 
-            String username = jwtUtil.getUsername(accessToken);
-            String email = jwtUtil.getEmail(accessToken);
-            String role = jwtUtil.getRole(accessToken);
-
             User user = User.builder()
-                    .username(username)
-                    .email(email)
-                    .role(UserRoles.fromString(role))
+                    .userId(verifiedToken.getUserId())
+                    .username(verifiedToken.getUsername())
+                    .email(verifiedToken.getEmail())
+                    .role(UserRoles.fromString(verifiedToken.getRole()))
                     .build();
 
             // 인증 사용자 정보 생성
@@ -0,0 +1,76 @@
+package com.sparta.delivery.config.filter;
+
+import com.sparta.delivery.config.SecurityUrlProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 없이 접근 가능한 URL 을 판별하는 매처
+ *
+ * 애플리케이션 시작 시 URL 패턴을 한 번만 분류해 둡니다.
+ * 1. 와일드카드가 없는 경로 : HashSet 으로 정확히 일치하는지 검사
+ * 2. `/**` 로 끝나는 경로 : 접두어(prefix) 비교
+ * 3. 그 외 와일드카드 패턴 : AntPathMatcher 로 검사
+ */
+@Component
+public class PublicUrlMatcher {
+
+    private static final String ALL_SUFFIX = "/**";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Set<String> exactUrls = new HashSet<>();
+
+    // "/swagger-ui/**" -> "/swagger-ui"
+    private final List<String> prefixUrls = new ArrayList<>();
+
+    private final List<String> patternUrls = new ArrayList<>();
+
+    public PublicUrlMatcher(SecurityUrlProperties securityUrlProperties) {
+        for (String url : securityUrlProperties.getPermitAllUrls()) {
+            String prefix = url.endsWith(ALL_SUFFIX) ? url.substring(0, url.length() - ALL_SUFFIX.length()) : url;
+
+            if (!pathMatcher.isPattern(prefix)) {
+                if (url.endsWith(ALL_SUFFIX)) {
+                    prefixUrls.add(prefix);
+                } else {
+                    exactUrls.add(url);
+                }
+            } else {
+                patternUrls.add(url);
+            }
+        }
+    }
+
+    /**
+     * 요청 경로가 인증 없이 접근 가능한 URL 인지 검사하는 메서드
+     *
+     * @param requestPath 요청 URI
+     * @return 인증 제외 대상이면 true
+     */
+    public boolean matches(String requestPath) {
+        if (exactUrls.contains(requestPath)) {
+            return true;
+        }
+
+        for (String prefix : prefixUrls) {
+            if (requestPath.startsWith(prefix)
+                    && (requestPath.length() == prefix.length() || requestPath.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+
+        for (String pattern : patternUrls) {
+            if (pathMatcher.match(pattern, requestPath)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
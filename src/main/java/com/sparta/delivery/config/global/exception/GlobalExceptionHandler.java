@@ -215,6 +215,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    @ExceptionHandler(AiUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> AiUnavailableException(AiUnavailableException ex) {
+        int status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        ExceptionResponse response = new ExceptionResponse("AI_UNAVAILABLE", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ExceptionResponse> InvalidCursorException(InvalidCursorException ex) {
+        int status = HttpServletResponse.SC_BAD_REQUEST;
+        ExceptionResponse response = new ExceptionResponse("INVALID_CURSOR", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(InvalidSortException.class)
+    public ResponseEntity<ExceptionResponse> InvalidSortException(InvalidSortException ex) {
+        int status = HttpServletResponse.SC_BAD_REQUEST;
+        ExceptionResponse response = new ExceptionResponse("INVALID_SORT", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ExceptionResponse> IdempotencyKeyConflictException(IdempotencyKeyConflictException ex) {
+        int status = HttpServletResponse.SC_CONFLICT;
+        ExceptionResponse response = new ExceptionResponse("IDEMPOTENCY_KEY_CONFLICT", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionResponse> exception(Exception ex) {
         int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
@@ -0,0 +1,7 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class AiUnavailableException extends RuntimeException {
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+}
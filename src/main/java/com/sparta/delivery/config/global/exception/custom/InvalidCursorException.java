@@ -0,0 +1,5 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class InvalidCursorException extends RuntimeException{
+    public InvalidCursorException(String message) {super(message);}
+}
@@ -0,0 +1,5 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class InvalidSortException extends RuntimeException{
+    public InvalidSortException(String message) {super(message);}
+}
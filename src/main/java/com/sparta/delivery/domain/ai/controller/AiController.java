@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name ="AI API", description = "AI 상품 설명 문구 추천 관련 API")
 @RestController
 @RequiredArgsConstructor
@@ -20,8 +22,9 @@ public class AiController {
 
     @AiSwaggerDocs.RecommendText
     @PostMapping()
-    public ResponseEntity<AiResponseDto> recommendText(@Valid @RequestBody AiRequestDto requestDto) {
-        AiResponseDto aiResponseDto = aiService.recommendText(requestDto);
-        return ResponseEntity.ok(aiResponseDto);
+    public CompletableFuture<ResponseEntity<AiResponseDto>> recommendText(@Valid @RequestBody AiRequestDto requestDto) {
+        // AI API 응답을 기다리는 동안 요청 스레드를 반환 (응답이 오면 비동기 디스패치로 응답)
+        return aiService.recommendText(requestDto)
+                .thenApply(ResponseEntity::ok);
     }
 }
@@ -16,7 +16,8 @@ public @interface AiSwaggerDocs {
     @Operation(summary = "AI 상품 설명 문구 추천", description = "AI 상품 설명 문구 추천을 요청합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "AI 텍스트 추천 성공"),
-            @ApiResponse(responseCode = "500", description = "서버 오류")
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+            @ApiResponse(responseCode = "503", description = "AI API 응답 시간 초과, 호출 실패, 동시 요청 수 초과 또는 장애로 인한 일시 중단")
     })
     @interface RecommendText {}
 
@@ -14,10 +14,11 @@ public class AiRequestDto {
     @Size(max = 150, message = "질문은 150자 이내로 입력 가능합니다.")
     private String question;
 
-    public AiInfo toEntity(String answer) {
+    public AiInfo toEntity(String answer, String promptHash) {
         return AiInfo.builder()
                 .question(this.question)
                 .answer(answer)
+                .promptHash(promptHash)
                 .build();
     }
 }
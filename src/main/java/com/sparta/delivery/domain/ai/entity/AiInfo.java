@@ -5,15 +5,20 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
 @Entity
+@Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_ai_info")
+@Table(name = "p_ai_info", indexes = {
+        // 같은 질문의 이전 답변 조회 (AiService 응답 캐시)
+        @Index(name = "idx_ai_info_prompt_hash_created_at", columnList = "prompt_hash, created_at")
+})
 public class AiInfo extends Timestamped {
 
     @Id
@@ -25,4 +30,8 @@ public class AiInfo extends Timestamped {
 
     @Column(nullable = false)
     private String answer;
+
+    // 정규화한 질문 + 제약 조건 문구의 SHA-256 (이 컬럼이 추가되기 전의 행은 null)
+    @Column(length = 64)
+    private String promptHash;
 }
@@ -3,8 +3,12 @@ package com.sparta.delivery.domain.ai.repository;
 import com.sparta.delivery.domain.ai.entity.AiInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AiRepository extends JpaRepository<AiInfo, UUID> {
 
+    // 같은 질문의 가장 최근 답변 (createdAfter 이후 생성된 답변만)
+    Optional<AiInfo> findFirstByPromptHashAndCreatedAtAfterOrderByCreatedAtDesc(String promptHash, LocalDateTime createdAfter);
 }
@@ -0,0 +1,65 @@
+package com.sparta.delivery.domain.ai.service;
+
+/**
+ * AI API 호출 차단기 (circuit breaker)
+ *
+ * - CLOSED : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN : openMs 동안 호출하지 않고 바로 실패 처리 (응답하지 않는 외부 API 를 기다리며 스레드/연결을 잡아두지 않도록)
+ * - HALF_OPEN : openMs 가 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class AiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    public AiCircuitBreaker(int failureThreshold, long openMs) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMs * 1_000_000;
+    }
+
+    /**
+     * 호출 가능 여부 (true 를 반환한 경우 호출 결과를 onSuccess / onFailure 로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInProgress = false;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInProgress) {
+            trialInProgress = true;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInProgress = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            trialInProgress = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,91 +1,333 @@
 package com.sparta.delivery.domain.ai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.delivery.config.global.exception.custom.AiUnavailableException;
 import com.sparta.delivery.config.global.exception.custom.InvalidApiResponseException;
 import com.sparta.delivery.domain.ai.dto.AiRequestDto;
 import com.sparta.delivery.domain.ai.dto.AiResponseDto;
-import com.sparta.delivery.domain.ai.entity.AiInfo;
 import com.sparta.delivery.domain.ai.repository.AiRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * AI 상품 설명 문구 추천
+ *
+ * 외부 AI API 응답을 기다리는 동안 요청 스레드(Tomcat)를 점유하지 않도록 CompletableFuture 를 반환합니다.
+ * - 타임아웃 : 연결(ai.connectTimeoutMs), 응답(ai.responseTimeoutMs)
+ * - 동시 호출 수 제한 : ai.maxConcurrentCalls 를 넘는 요청은 기다리지 않고 바로 503
+ * - 차단기 : 연속 실패가 ai.circuitBreaker.failureThreshold 에 도달하면 ai.circuitBreaker.openMs 동안 호출하지 않고 바로 503
+ * - 같은 질문이 처리 중이면 새로 호출하지 않고 처리 중인 호출의 결과를 함께 사용 (새로 생성된 답변은 요청마다 p_ai_info 에 저장)
+ *
+ * 응답 캐시 : 같은 질문(공백/대소문자 정규화 + 제약 조건 문구)은 AI API 를 다시 호출하지 않고 이전 답변을 반환합니다.
+ * - 1차 : 서버 메모리 (cache.aiAnswer.maximumSize, expireAfterWriteSeconds)
+ * - 2차 : p_ai_info 에 저장된 답변 중 cache.aiAnswer.storedAnswerMaxAgeHours 이내에 생성된 가장 최근 답변
+ * 제약 조건 문구(CONSTRAINT)가 바뀌면 캐시 키도 바뀌므로 이전 문구로 생성된 답변은 사용하지 않습니다.
+ */
+@Slf4j
 @Service
 public class AiService {
 
+    private static final String GENERATE_PATH = "/v1beta/models/gemini-1.5-flash:generateContent";
+    private static final String CONSTRAINT = " 상품명 포함 시켜, 속담 활용해, 트렌디하고 독특하게 해, 의미 설명은 하지마, 이모지 사용해, 답변을 최대한 간결하게 50자 이하로";
+
     private final AiRepository aiRepository;
     private final WebClient webClient;
+    private final String apiKey;
+    private final Duration responseTimeout;
+    private final Semaphore callPermits;
+    private final AiCircuitBreaker circuitBreaker;
+    private final Duration storedAnswerMaxAge;
 
-    @Value("${ai.apikey}")
-    private String API_KEY;
-    private static final String BASE_URL = "https://generativelanguage.googleapis.com";
-    private static final String CONSTRAINT = " 상품명 포함 시켜, 속담 활용해, 트렌디하고 독특하게 해, 의미 설명은 하지마, 이모지 사용해, 답변을 최대한 간결하게 50자 이하로";
+    // 답변 캐시 (key : promptHash)
+    private final Cache<String, AiResponseDto> answerCache;
 
-    public AiService(AiRepository aiRepository, WebClient.Builder webClientBuilder) {
+    // 처리 중인 호출 (key : promptHash)
+    private final Map<String, CompletableFuture<CallResult>> inFlightCalls = new ConcurrentHashMap<>();
+
+    private final Counter upstreamCallCounter;     // 실제 AI API 호출 수
+    private final Counter coalescedCounter;        // 처리 중인 호출에 합쳐진 요청 수
+    private final Counter rejectedBusyCounter;     // 동시 호출 수 초과로 거절된 요청 수
+    private final Counter rejectedOpenCounter;     // 차단기가 열려 거절된 요청 수
+    private final Counter storedAnswerHitCounter;  // p_ai_info 에 저장된 답변으로 응답한 요청 수
+    private final Counter saveFailedCounter;       // 답변은 받았지만 p_ai_info 저장에 실패한 요청 수
+
+    public AiService(AiRepository aiRepository,
+                     WebClient.Builder webClientBuilder,
+                     MeterRegistry meterRegistry,
+                     @Value("${ai.apikey}") String apiKey,
+                     @Value("${ai.baseUrl:https://generativelanguage.googleapis.com}") String baseUrl,
+                     @Value("${ai.connectTimeoutMs:2000}") int connectTimeoutMs,
+                     @Value("${ai.responseTimeoutMs:10000}") long responseTimeoutMs,
+                     @Value("${ai.maxConcurrentCalls:20}") int maxConcurrentCalls,
+                     @Value("${ai.circuitBreaker.failureThreshold:5}") int failureThreshold,
+                     @Value("${ai.circuitBreaker.openMs:30000}") long openMs,
+                     @Value("${cache.aiAnswer.maximumSize:10000}") long cacheMaximumSize,
+                     @Value("${cache.aiAnswer.expireAfterWriteSeconds:3600}") long cacheExpireAfterWriteSeconds,
+                     @Value("${cache.aiAnswer.storedAnswerMaxAgeHours:168}") long storedAnswerMaxAgeHours) {
         this.aiRepository = aiRepository;
-        this.webClient = webClientBuilder.baseUrl(BASE_URL).build();
+        this.apiKey = apiKey;
+        this.responseTimeout = Duration.ofMillis(responseTimeoutMs);
+        this.callPermits = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new AiCircuitBreaker(failureThreshold, openMs);
+        this.storedAnswerMaxAge = Duration.ofHours(storedAnswerMaxAgeHours);
+        this.answerCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheExpireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, answerCache, "aiAnswer");
+
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(responseTimeout);
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        this.upstreamCallCounter = Counter.builder("ai.calls")
+                .description("Number of calls sent to the AI API")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("ai.requests.coalesced")
+                .description("Number of requests served by an identical in-flight call")
+                .register(meterRegistry);
+        this.rejectedBusyCounter = Counter.builder("ai.requests.rejected")
+                .description("Number of requests rejected without calling the AI API")
+                .tag("reason", "busy")
+                .register(meterRegistry);
+        this.rejectedOpenCounter = Counter.builder("ai.requests.rejected")
+                .description("Number of requests rejected without calling the AI API")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.storedAnswerHitCounter = Counter.builder("ai.answers.stored.hits")
+                .description("Number of requests served by an answer stored in p_ai_info")
+                .register(meterRegistry);
+        this.saveFailedCounter = Counter.builder("ai.answers.save.failed")
+                .description("Number of generated answers that could not be saved to p_ai_info")
+                .register(meterRegistry);
+        Gauge.builder("ai.calls.active", callPermits, permits -> maxConcurrentCalls - permits.availablePermits())
+                .description("Number of AI API calls in progress")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<AiResponseDto> recommendText(AiRequestDto aiRequestDto) {
+        String promptHash = promptHashOf(aiRequestDto.getQuestion());
+
+        AiResponseDto cached = answerCache.getIfPresent(promptHash);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        // 답변 저장 시 생성자(createdBy)가 요청 사용자로 기록되도록 요청 스레드의 인증 정보를 전달
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        CompletableFuture<CallResult> call = new CompletableFuture<>();
+        CompletableFuture<CallResult> inFlight = inFlightCalls.putIfAbsent(promptHash, call);
+        if (inFlight == null) {
+            inFlight = call;
+            startCall(aiRequestDto, promptHash, call);
+        } else {
+            coalescedCounter.increment();
+        }
+
+        // 요청마다 별도의 future 를 반환 (한 요청이 취소해도 같은 호출을 기다리는 다른 요청에는 영향 없음)
+        CompletableFuture<AiResponseDto> result = new CompletableFuture<>();
+        inFlight.whenComplete((callResult, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+                return;
+            }
+            result.complete(callResult.response());
+            if (callResult.generated()) {
+                saveAnswer(aiRequestDto, promptHash, callResult.response(), securityContext);
+            }
+        });
+        return result;
+    }
+
+    public AiCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 캐시 키 (정규화한 질문 + 제약 조건 문구의 SHA-256)
+     *
+     * 앞뒤 공백 제거, 연속 공백은 하나로, 영문은 소문자로 정규화합니다.
+     */
+    public static String promptHashOf(String question) {
+        String normalized = Normalizer.normalize(String.valueOf(question), Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((normalized + CONSTRAINT).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-    public AiResponseDto recommendText(AiRequestDto aiRequestDto) {
-        String userQuestion = aiRequestDto.getQuestion();
-        String questionWithConstraints = userQuestion + CONSTRAINT;
+    private void startCall(AiRequestDto aiRequestDto, String promptHash, CompletableFuture<CallResult> call) {
+        // DB 조회(JPA)와 요청별 후속 처리는 요청 스레드나 네트워크 이벤트 루프 스레드가 아닌 별도 스레드에서 실행
+        Mono.fromCallable(() -> findStoredAnswer(promptHash))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stored -> stored
+                        .map(response -> Mono.just(new CallResult(response, false)))
+                        .orElseGet(() -> callUpstream(aiRequestDto.getQuestion())
+                                .publishOn(Schedulers.boundedElastic())
+                                .map(response -> new CallResult(response, true))))
+                .doOnNext(callResult -> answerCache.put(promptHash, callResult.response()))
+                .subscribe(
+                        callResult -> finish(promptHash, call, callResult, null),
+                        ex -> finish(promptHash, call, null, ex));
+    }
 
+    /**
+     * 새로 생성된 답변을 요청한 사용자의 질문으로 p_ai_info 에 저장 (합쳐진 요청도 각각 저장)
+     *
+     * 답변은 이미 받았으므로 저장에 실패해도 요청은 실패로 처리하지 않고 기록만 남깁니다.
+     */
+    private void saveAnswer(AiRequestDto aiRequestDto, String promptHash, AiResponseDto response, SecurityContext securityContext) {
+        Schedulers.boundedElastic().schedule(new DelegatingSecurityContextRunnable(() -> {
+            try {
+                aiRepository.save(aiRequestDto.toEntity(response.getAnswer(), promptHash));
+            } catch (RuntimeException e) {
+                saveFailedCounter.increment();
+                log.warn("AI answer save failed : {}", e.getMessage());
+            }
+        }, securityContext));
+    }
+
+    // 저장된 답변 조회 (조회 실패 시 AI API 호출로 진행)
+    private Optional<AiResponseDto> findStoredAnswer(String promptHash) {
+        try {
+            Optional<AiResponseDto> stored = aiRepository
+                    .findFirstByPromptHashAndCreatedAtAfterOrderByCreatedAtDesc(promptHash, LocalDateTime.now().minus(storedAnswerMaxAge))
+                    .map(aiInfo -> new AiResponseDto(aiInfo.getAnswer()));
+            stored.ifPresent(response -> storedAnswerHitCounter.increment());
+            return stored;
+        } catch (RuntimeException e) {
+            log.warn("Stored AI answer lookup failed : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 동시 호출 수 제한과 차단기를 거쳐 AI API 호출
+    private Mono<AiResponseDto> callUpstream(String question) {
+        return Mono.defer(() -> {
+            if (!callPermits.tryAcquire()) {
+                rejectedBusyCounter.increment();
+                return Mono.error(new AiUnavailableException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                callPermits.release();
+                rejectedOpenCounter.increment();
+                return Mono.error(new AiUnavailableException("AI 서비스 장애로 요청이 일시 중단되었습니다. 잠시 후 다시 시도해주세요."));
+            }
+
+            upstreamCallCounter.increment();
+            return requestAnswer(question + CONSTRAINT)
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(ex -> circuitBreaker.onFailure())
+                    .onErrorMap(this::toUnavailable)
+                    .doFinally(signal -> callPermits.release());
+        });
+    }
+
+    // 처리 중 목록에서 먼저 제거한 뒤 완료 (완료 이후에 들어온 같은 질문은 새로 호출)
+    private void finish(String promptHash, CompletableFuture<CallResult> call, CallResult callResult, Throwable ex) {
+        inFlightCalls.remove(promptHash, call);
+        if (ex != null) {
+            call.completeExceptionally(ex);
+        } else {
+            call.complete(callResult);
+        }
+    }
+
+    private Mono<AiResponseDto> requestAnswer(String questionWithConstraints) {
         // AI API 요청 바디
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("contents", List.of(Map.of("parts", List.of(Map.of("text", questionWithConstraints)))));
 
-        CompletableFuture<AiResponseDto> completableFuture = webClient.post()
+        return webClient.post()
                 .uri(uriBuilder -> uriBuilder
-                        .path("/v1beta/models/gemini-1.5-flash:generateContent")
-                        .queryParam("key", API_KEY)
+                        .path(GENERATE_PATH)
+                        .queryParam("key", apiKey)
                         .build())
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(JsonNode.class) // JSON 전체를 받아서 처리
                 .map(this::extractText)
-                .toFuture();
+                .timeout(responseTimeout);
+    }
 
-        try {
-            AiResponseDto completedAiResponseDto = completableFuture.get();
-            AiInfo aiInfo = aiRequestDto.toEntity(completedAiResponseDto.getAnswer());
-            aiRepository.save(aiInfo);
-            return completedAiResponseDto;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("AI API 호출 비동기 작업을 기다리는 동안 스레드가 인터럽트로 인해 중단되었습니다.", e);
-        } catch (ExecutionException e) {
-            throw new RuntimeException("AI API 호출 비동기 작업 실행 중 알 수 없는 오류가 발생했습니다.", e);
+    private Throwable toUnavailable(Throwable ex) {
+        if (ex instanceof TimeoutException) {
+            return new AiUnavailableException("AI API 응답 시간이 초과되었습니다.");
+        }
+        if (ex instanceof WebClientException) {
+            log.warn("AI API call failed : {}", ex.getMessage());
+            return new AiUnavailableException("AI API 호출에 실패했습니다.");
         }
+        return ex;
     }
 
     private AiResponseDto extractText(JsonNode jsonNode) {
-        try {
-            // 응답 구조: candidates[0] → content → parts[0] → text
-            JsonNode textNode = jsonNode
-                    .path("candidates")
-                    .path(0)
-                    .path("content")
-                    .path("parts")
-                    .path(0)
-                    .path("text");
-
-            if (textNode.isMissingNode() || textNode.asText().isEmpty()) {
-                throw new InvalidApiResponseException("AI API 응답에서 text 필드의 값을 찾을 수 없습니다.");
-            }
-            return new AiResponseDto(textNode.asText());
-        } catch (Exception e) {
-            throw new RuntimeException("응답 파싱 중 알 수 없는 오류가 발생했습니다.");
+        // 응답 구조: candidates[0] → content → parts[0] → text
+        JsonNode textNode = jsonNode
+                .path("candidates")
+                .path(0)
+                .path("content")
+                .path("parts")
+                .path(0)
+                .path("text");
+
+        if (textNode.isMissingNode() || textNode.asText().isEmpty()) {
+            throw new InvalidApiResponseException("AI API 응답에서 text 필드의 값을 찾을 수 없습니다.");
         }
+        return new AiResponseDto(textNode.asText());
+    }
+
+    // 처리 중인 호출의 결과 (generated : AI API 로 새로 생성된 답변인지 여부)
+    private record CallResult(AiResponseDto response, boolean generated) {
     }
 }
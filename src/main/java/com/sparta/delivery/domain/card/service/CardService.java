@@ -4,8 +4,9 @@ import com.sparta.delivery.config.global.exception.custom.ExistCardException;
 import com.sparta.delivery.domain.card.dto.RegistrationCardDto;
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,11 +20,11 @@ import java.util.UUID;
 public class CardService {
 
     private final CardRepository cardRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     @Transactional
     public void registrationCard(String username, RegistrationCardDto registrationCardDto) {
 
-        User user = undeletedUser(username);
+        User user = currentUserResolver.getReference(undeletedUser(username));
         if(existCard(username,registrationCardDto)){
             throw new ExistCardException("이미 등록한 카드입니다");
         }
@@ -41,7 +42,7 @@ public class CardService {
     }
 
     public RegistrationCardDto getCard(String username, UUID cardId) {
-        User user = undeletedUser(username);
+        undeletedUser(username);
         Card card = getUserCard(cardId, username);
 
         return RegistrationCardDto.builder()
@@ -52,7 +53,7 @@ public class CardService {
     }
 
     public List<RegistrationCardDto> getCards(String username) {
-        User user = undeletedUser(username);
+        undeletedUser(username);
         List<Card> cards = cardRepository.findByUser_UsernameAndDeletedAtIsNull(username);
         return cards.stream().map(card -> RegistrationCardDto.builder()
                 .cardNumber(card.getCardNumber())
@@ -63,7 +64,7 @@ public class CardService {
 
     @Transactional
     public void updateCard(String username, UUID cardId, RegistrationCardDto registrationCardDto) {
-        User user = undeletedUser(username);
+        undeletedUser(username);
         Card card = getUserCard(cardId, username);
 
         if(existCard(username,registrationCardDto)){
@@ -79,7 +80,7 @@ public class CardService {
     }
 
     public void deleteCard(String username, UUID cardId) {
-        User user = undeletedUser(username);
+        undeletedUser(username);
         Card card = getUserCard(cardId, username);
         card.setDeletedAt(LocalDateTime.now());
         card.setDeletedBy(username);
@@ -91,8 +92,8 @@ public class CardService {
                 new NullPointerException("해당 카드가 존재하지 않습니다."));
     }
 
-    private User undeletedUser(String username){
-        return userRepository.findByUsernameAndDeletedAtIsNull(username).orElseThrow(() ->
+    private ResolvedUser undeletedUser(String username){
+        return currentUserResolver.resolve(username).orElseThrow(() ->
                 new NullPointerException("유저가 존재하지 않습니다."));
     }
 
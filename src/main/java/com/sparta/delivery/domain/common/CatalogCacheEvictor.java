@@ -0,0 +1,123 @@
+package com.sparta.delivery.domain.common;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.store.entity.Stores;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 가게/상품/운영 지역 2차 캐시 제거
+ *
+ * READ_WRITE 캐시는 같은 서버에서 엔티티로 변경한 값은 커밋 시 자동으로 갱신하지만,
+ * 수정/삭제(soft delete) 직후의 조회가 이전 값을 보지 않도록 커밋 이후에 해당 엔티티를 캐시에서 한 번 더 제거합니다.
+ * - 롤백된 변경으로 캐시가 비워지지 않도록 트랜잭션 커밋 이후에 제거합니다.
+ * - 다른 서버에는 InvalidationBus 로 알리고, 다른 서버에서 받은 이벤트로 자기 서버의 캐시를 제거합니다.
+ *   (전송에 실패하면 hibernate-cache.conf 의 after-write 만료 시간이 지나야 갱신됨)
+ */
+@Component
+public class CatalogCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final InvalidationBus invalidationBus;
+
+    public CatalogCacheEvictor(EntityManagerFactory entityManagerFactory, InvalidationBus invalidationBus) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(InvalidationTopic.STORE, new RemoteEviction(Stores.class, true));
+        invalidationBus.subscribe(InvalidationTopic.PRODUCT, new RemoteEviction(Product.class, true));
+        invalidationBus.subscribe(InvalidationTopic.PRODUCT_STOCK, new RemoteEviction(Product.class, false));
+        invalidationBus.subscribe(InvalidationTopic.REGION, new RemoteEviction(Region.class, true));
+    }
+
+    public void evictStore(UUID storeId) {
+        evictAfterCommit(Stores.class, storeId);
+        invalidationBus.publish(InvalidationTopic.STORE, storeId);
+    }
+
+    public void evictProduct(UUID productId) {
+        evictAfterCommit(Product.class, productId);
+        invalidationBus.publish(InvalidationTopic.PRODUCT, productId);
+    }
+
+    /**
+     * 재고만 변경된 상품 제거
+     *
+     * 재고는 쿼리 캐시 결과(삭제/숨김 조건의 상품 ID)를 바꾸지 않으므로 다른 서버에서도 상품 2차 캐시만 제거합니다.
+     */
+    public void evictProductStock(UUID productId) {
+        evictAfterCommit(Product.class, productId);
+        invalidationBus.publish(InvalidationTopic.PRODUCT_STOCK, productId);
+    }
+
+    public void evictRegion(UUID regionId) {
+        evictAfterCommit(Region.class, regionId);
+        invalidationBus.publish(InvalidationTopic.REGION, regionId);
+    }
+
+    private void evictAfterCommit(Class<?> entityType, UUID id) {
+        Runnable evict = () -> entityManagerFactory.getCache().evict(entityType, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 변경된 엔티티 제거
+     *
+     * 쿼리 캐시의 무효화 기준(테이블 변경 시각)도 서버마다 따로 관리되므로, 변경된 서버가 커밋 시 하는 것처럼
+     * 해당 엔티티 테이블의 변경 시각만 갱신해 그 테이블을 조회한 쿼리 캐시 결과만 무효화합니다.
+     * (삭제된 가게 ID 가 캐시된 findByStoreIdAndDeletedAtIsNull 결과로 계속 조회되지 않도록, 다른 테이블의 쿼리 캐시는 유지)
+     */
+    private class RemoteEviction implements InvalidationListener {
+
+        private final Class<?> entityType;
+        private final boolean invalidateQueries;
+
+        RemoteEviction(Class<?> entityType, boolean invalidateQueries) {
+            this.entityType = entityType;
+            this.invalidateQueries = invalidateQueries;
+        }
+
+        @Override
+        public void invalidate(String key) {
+            entityManagerFactory.getCache().evict(entityType, UUID.fromString(key));
+            if (invalidateQueries) {
+                invalidateQuerySpaces();
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            entityManagerFactory.getCache().evict(entityType);
+            if (invalidateQueries) {
+                invalidateQuerySpaces();
+            }
+        }
+
+        private void invalidateQuerySpaces() {
+            SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            String[] querySpaces = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityType).getSynchronizedQuerySpaces();
+            try (Session session = sessionFactory.openSession()) {
+                sessionFactory.getCache().getTimestampsCache().invalidate(querySpaces, (SharedSessionContractImplementor) session);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.sparta.delivery.domain.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 조회 결과 (count 쿼리 없이 다음 페이지 존재 여부만 반환)
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 토큰 (마지막 페이지면 null)
+ */
+public record CursorSlice<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    /**
+     * size + 1 건을 조회한 결과로 응답을 만드는 메서드
+     *
+     * @param rows     size + 1 건까지 조회한 행 (size 보다 많으면 다음 페이지가 있음)
+     * @param cursorOf 행의 (createdAt, id) 커서
+     * @param mapper   응답 DTO 변환
+     */
+    public static <E, T> CursorSlice<T> of(List<E> rows, int size, Function<E, KeysetCursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorSlice<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
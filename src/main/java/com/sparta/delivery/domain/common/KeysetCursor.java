@@ -0,0 +1,61 @@
+package com.sparta.delivery.domain.common;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.sparta.delivery.config.global.exception.custom.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 커서 기반(keyset) 페이지네이션의 위치 (마지막으로 조회한 행의 createdAt, id)
+ *
+ * 클라이언트에는 Base64 로 인코딩한 불투명한 토큰으로만 전달합니다.
+ * 다음 페이지는 OFFSET 없이 (createdAt, id) < (cursor.createdAt, cursor.id) 조건으로 조회하므로
+ * (store_id, created_at, id) 인덱스를 타고 페이지 깊이와 관계없이 일정한 비용으로 조회됩니다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 이전 응답의 nextCursor (null 또는 공백이면 첫 페이지)
+     * @return 커서 (첫 페이지는 null)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)), UUID.fromString(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * (createdAt, id) 내림차순 기준으로 커서 다음에 오는 행 조건 (커서가 없으면 조건 없음)
+     */
+    public static BooleanExpression after(KeysetCursor cursor, DateTimePath<LocalDateTime> createdAt, ComparablePath<UUID> id) {
+        if (cursor == null) {
+            return null;
+        }
+        return createdAt.lt(cursor.createdAt())
+                .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.delivery.domain.common;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.domain.Sort;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Pageable 의 Sort 를 QueryDSL OrderSpecifier 로 변환하는 유틸
+ *
+ * 엔티티를 조회하지 않는 projection 쿼리에서도 Pageable 정렬 조건을 그대로 적용하기 위해 사용합니다.
+ */
+public final class QuerydslSortUtils {
+
+    private QuerydslSortUtils() {
+    }
+
+    public static OrderSpecifier<?>[] toOrderSpecifiers(EntityPath<?> root, Sort sort) {
+        // PathBuilder를 이용하여 동적으로 컬럼을 지정
+        PathBuilder<?> entityPath = new PathBuilder<>(root.getType(), root.getMetadata());
+
+        return sort.stream()
+                .map(sortOrder -> new OrderSpecifier<>(
+                        sortOrder.isAscending() ? Order.ASC : Order.DESC, //querydsl Order, entityX
+                        Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())
+                ))
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 키워드 검색의 DB 조건 (검색 색인의 HangulNgramTokenizer.normalize 와 같이 NFC 정규화, 대소문자, 공백을 무시)
+     *
+     * 검색 색인의 결과가 search.maxHits 를 넘어 DB 에서 검색할 때 사용합니다.
+     * - "치킨 집" 과 "치킨집", "BBQ" 와 "bbq" 는 색인 검색과 같은 결과를 반환합니다.
+     * - 특수문자는 DB 에서 제거할 수 없으므로 색인 검색과 달리 원문 그대로 비교합니다.
+     */
+    public static BooleanExpression keywordMatches(StringExpression text, String keyword) {
+        return comparableText(text).contains(normalizeKeyword(keyword));
+    }
+
+    /**
+     * 키워드 검색의 관련도 순 정렬 (검색 색인과 같은 기준 : 완전 일치 > 접두 일치 > 부분 일치, 짧은 이름 우선)
+     *
+     * keywordMatches 와 같은 기준으로 비교합니다.
+     */
+    public static OrderSpecifier<?>[] keywordRelevance(StringExpression text, String keyword, ComparableExpressionBase<?> id) {
+        StringExpression comparable = comparableText(text);
+        String normalized = normalizeKeyword(keyword);
+        return new OrderSpecifier<?>[]{
+                new CaseBuilder()
+                        .when(comparable.eq(normalized)).then(0)
+                        .when(comparable.startsWith(normalized)).then(1)
+                        .otherwise(2)
+                        .asc(),
+                text.length().asc(),
+                id.asc()
+        };
+    }
+
+    // 검색어 : NFC 정규화 + 소문자 변환 + 공백 제거
+    private static String normalizeKeyword(String keyword) {
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    // 컬럼 : 소문자 변환 + 공백 제거 (저장된 이름은 NFC 로 가정)
+    private static StringExpression comparableText(StringExpression text) {
+        return Expressions.stringTemplate("replace({0}, ' ', '')", text.lower());
+    }
+}
@@ -0,0 +1,157 @@
+package com.sparta.delivery.domain.common;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.sparta.delivery.config.global.exception.custom.InvalidSortException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔티티별 허용 정렬 기준 목록
+ *
+ * 클라이언트가 지정할 수 있는 정렬 키를 인덱스가 있는 컬럼으로 제한하고, 키마다 OrderSpecifier 를 미리 만들어 둡니다.
+ * - 허용되지 않은 키는 쿼리를 실행하기 전에 InvalidSortException 으로 거부합니다. (인덱스 없는 컬럼의 전체 정렬 방지)
+ * - 정렬 키가 같은 행의 순서가 페이지마다 바뀌지 않도록 항상 ID 를 마지막 정렬 기준으로 붙입니다.
+ */
+public final class SortSpec {
+
+    private record Key(String property, String index, OrderSpecifier<?>[] ascending, OrderSpecifier<?>[] descending) {
+    }
+
+    private final Class<?> entityType;
+    private final String idProperty;
+    private final Map<String, Key> keys;
+    private final Sort defaultSort;
+
+    private SortSpec(Class<?> entityType, String idProperty, Map<String, Key> keys, Sort defaultSort) {
+        this.entityType = entityType;
+        this.idProperty = idProperty;
+        this.keys = keys;
+        this.defaultSort = defaultSort;
+    }
+
+    public static Builder builder(EntityPath<?> root, ComparablePath<?> id) {
+        return new Builder(root, id);
+    }
+
+    /**
+     * 요청 파라미터(sortBy, order)를 검증된 Sort 로 변환
+     *
+     * @param sortBy 정렬 키 (null 또는 공백이면 기본 정렬)
+     * @param order  asc 이면 오름차순, 그 외에는 내림차순
+     */
+    public Sort toSort(String sortBy, String order) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return defaultSort;
+        }
+        Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return sortOf(keyOf(sortBy), direction);
+    }
+
+    /**
+     * Pageable 의 정렬 조건을 검증 (정렬이 없으면 기본 정렬)
+     */
+    public Pageable validate(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), validate(pageable.getSort()));
+    }
+
+    public Sort validate(Sort sort) {
+        if (sort.isUnsorted()) {
+            return defaultSort;
+        }
+        Sort.Order primary = primaryOf(sort);
+        return sortOf(keyOf(primary.getProperty()), primary.getDirection());
+    }
+
+    /**
+     * 검증된 Sort 에 해당하는 OrderSpecifier (미리 만들어 둔 배열을 그대로 사용)
+     */
+    public OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        Sort.Order primary = primaryOf(sort.isUnsorted() ? defaultSort : sort);
+        Key key = keyOf(primary.getProperty());
+        return primary.isAscending() ? key.ascending() : key.descending();
+    }
+
+    /**
+     * 정렬 키별 인덱스 이름 (key : 정렬 키)
+     */
+    public Map<String, String> indexes() {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        keys.forEach((name, key) -> indexes.put(name, key.index()));
+        return Collections.unmodifiableMap(indexes);
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    private Key keyOf(String sortBy) {
+        Key key = keys.get(sortBy);
+        if (key == null) {
+            throw new InvalidSortException("정렬할 수 없는 필드입니다: " + sortBy + " (허용 : " + String.join(", ", keys.keySet()) + ")");
+        }
+        return key;
+    }
+
+    // 첫 번째 정렬 기준만 허용 (두 번째 기준은 ID 만 허용)
+    private Sort.Order primaryOf(Sort sort) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        Sort.Order primary = orders.next();
+        while (orders.hasNext()) {
+            Sort.Order next = orders.next();
+            if (!next.getProperty().equals(idProperty)) {
+                throw new InvalidSortException("정렬 기준은 하나만 지정할 수 있습니다.");
+            }
+        }
+        return primary;
+    }
+
+    private Sort sortOf(Key key, Sort.Direction direction) {
+        return Sort.by(direction, key.property(), idProperty);
+    }
+
+    public static final class Builder {
+
+        private final EntityPath<?> root;
+        private final ComparablePath<?> id;
+        private final Map<String, Key> keys = new LinkedHashMap<>();
+        private Sort defaultSort;
+
+        private Builder(EntityPath<?> root, ComparablePath<?> id) {
+            this.root = root;
+            this.id = id;
+        }
+
+        /**
+         * @param property 정렬 키 (엔티티 필드명)
+         * @param path     정렬 컬럼
+         * @param index    정렬에 사용되는 인덱스 이름 (엔티티의 @Table indexes 에 선언되어 있어야 함)
+         */
+        public Builder key(String property, ComparableExpressionBase<?> path, String index) {
+            keys.put(property, new Key(property, index,
+                    new OrderSpecifier<?>[]{path.asc(), id.asc()},
+                    new OrderSpecifier<?>[]{path.desc(), id.desc()}));
+            return this;
+        }
+
+        public Builder defaultSort(String property, Sort.Direction direction) {
+            this.defaultSort = Sort.by(direction, property, id.getMetadata().getName());
+            return this;
+        }
+
+        public SortSpec build() {
+            if (defaultSort == null || !keys.containsKey(defaultSort.iterator().next().getProperty())) {
+                throw new IllegalStateException("기본 정렬 키가 허용 목록에 없습니다.");
+            }
+            return new SortSpec(root.getType(), id.getMetadata().getName(), Collections.unmodifiableMap(new LinkedHashMap<>(keys)), defaultSort);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.delivery.domain.idempotency.entity;
+
+import com.sparta.delivery.domain.idempotency.enums.IdempotentOperation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_idempotency_key",
+        uniqueConstraints = {
+                // 같은 사용자, 같은 요청 종류에서 키는 한 번만 처리 (동시에 들어온 재시도는 이 제약으로 한 건만 실행)
+                @UniqueConstraint(name = "uk_idempotency_key_username_operation_key",
+                        columnNames = {"username", "operation", "idempotency_key"})
+        },
+        indexes = {
+                @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+        })
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID idempotencyKeyId;
+
+    @Column(nullable = false, length = 100)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private IdempotentOperation operation;
+
+    // 클라이언트가 보낸 Idempotency-Key 헤더 값
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    // 요청 본문의 SHA-256 (같은 키로 다른 요청을 보낸 경우 판별)
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    // 처음 처리한 요청의 응답 상태 코드 / 본문(JSON, 본문이 없으면 null)
+    @Column(nullable = false)
+    private int responseStatus;
+
+    @Column(length = 4000)
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // 이 시점 이후에는 같은 키를 새 요청으로 처리 (만료 키 일괄 삭제 기준)
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public void complete(int responseStatus, String responseBody) {
+        this.responseStatus = responseStatus;
+        this.responseBody = responseBody;
+    }
+}
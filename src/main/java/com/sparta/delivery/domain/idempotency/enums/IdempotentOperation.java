@@ -0,0 +1,7 @@
+package com.sparta.delivery.domain.idempotency.enums;
+
+// Idempotency-Key 를 지원하는 요청 종류 (같은 키라도 요청 종류가 다르면 별개의 키로 취급)
+public enum IdempotentOperation {
+    ORDER_CREATE,
+    PAYMENT_REGISTER
+}
@@ -0,0 +1,32 @@
+package com.sparta.delivery.domain.idempotency.repository;
+
+import com.sparta.delivery.domain.idempotency.entity.IdempotencyKey;
+import com.sparta.delivery.domain.idempotency.enums.IdempotentOperation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, UUID> {
+
+    Optional<IdempotencyKey> findByUsernameAndOperationAndIdempotencyKey(String username, IdempotentOperation operation, String idempotencyKey);
+
+    // 만료된 같은 키를 지우고 새 요청으로 처리 (유니크 제약 때문에 만료된 행이 남아 있으면 다시 저장할 수 없음)
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.username = :username and k.operation = :operation " +
+            "and k.idempotencyKey = :idempotencyKey and k.expiresAt < :now")
+    int deleteExpired(@Param("username") String username,
+                      @Param("operation") IdempotentOperation operation,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("now") Instant now);
+
+    // 만료된 키 ID 조회 (idx_idempotency_key_expires_at 사용, Pageable 로 배치 크기 제한)
+    @Query("select k.idempotencyKeyId from IdempotencyKey k where k.expiresAt < :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+}
@@ -0,0 +1,90 @@
+package com.sparta.delivery.domain.idempotency.service;
+
+import com.sparta.delivery.domain.idempotency.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 Idempotency-Key 를 주기적으로 삭제하는 스케줄러
+ *
+ * RefreshTokenPurgeScheduler 와 같이 만료된 ID 를 batchSize 만큼 조회해서 배치마다 트랜잭션을 나누어 삭제합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyPurgeScheduler {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Counter purgedCounter; // 삭제된 키 수
+
+    public IdempotencyKeyPurgeScheduler(IdempotencyKeyRepository idempotencyKeyRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${scheduler.idempotencyKeyPurge.batchSize:500}") int batchSize,
+                                        @Value("${scheduler.idempotencyKeyPurge.maxBatches:100}") int maxBatches) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purgedCounter = Counter.builder("idempotency.key.purge.deleted")
+                .description("Number of expired idempotency keys deleted")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.idempotencyKeyPurge.initialDelayMs:60000}",
+            fixedDelayString = "${scheduler.idempotencyKeyPurge.fixedDelayMs:600000}")
+    public void scheduledPurge() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            log.warn("Idempotency key purge failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 Idempotency-Key 삭제
+     *
+     * @return 삭제된 키 수
+     */
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        int purged = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<UUID> expiredIds = idempotencyKeyRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                if (!expiredIds.isEmpty()) {
+                    idempotencyKeyRepository.deleteAllByIdInBatch(expiredIds);
+                }
+                return expiredIds.size();
+            });
+
+            int count = deleted != null ? deleted : 0;
+            purged += count;
+            purgedCounter.increment(count);
+
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,211 @@
+package com.sparta.delivery.domain.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.delivery.config.global.exception.custom.IdempotencyKeyConflictException;
+import com.sparta.delivery.domain.idempotency.entity.IdempotencyKey;
+import com.sparta.delivery.domain.idempotency.enums.IdempotentOperation;
+import com.sparta.delivery.domain.idempotency.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리
+ *
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 실행하지 않고 처음 요청의 응답을 그대로 돌려줍니다.
+ * - 처리한 키는 p_idempotency_key 에 저장하고 (사용자, 요청 종류, 키) 유니크 제약으로 한 번만 실행되도록 보장합니다.
+ *   키 저장과 요청 처리를 한 트랜잭션에서 수행하므로 처리 중 예외가 나면 키도 함께 롤백되어 다시 요청할 수 있습니다.
+ * - 처리가 끝난 응답은 메모리 캐시에도 보관해서 재시도 요청은 DB 조회 없이 응답합니다.
+ * - 같은 키로 본문이 다른 요청을 보내거나, 처음 요청이 아직 처리 중이면 409 를 반환합니다.
+ *
+ * 요청 처리와 같은 트랜잭션을 사용해야 하므로 트랜잭션 밖(컨트롤러)에서 호출해야 합니다.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    // 재시도 요청에 저장된 응답을 돌려준 경우 응답 헤더에 표시
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+
+    // (요청 종류, 사용자, 키) → 처리가 끝난 응답
+    private final Cache<String, StoredResponse> responseCache;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${idempotency.ttlHours:24}") long ttlHours,
+                              @Value("${cache.idempotency.maximumSize:10000}") long cacheMaximumSize,
+                              @Value("${cache.idempotency.expireAfterWriteSeconds:600}") long cacheExpireAfterWriteSeconds) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.responseCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                // 메모리 캐시는 DB 보관 기간보다 길게 두지 않음
+                .expireAfterWrite(Duration.ofSeconds(Math.min(cacheExpireAfterWriteSeconds, ttl.toSeconds())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responseCache, "idempotency");
+    }
+
+    /**
+     * 요청 처리 (같은 키로 이미 처리된 요청이면 저장된 응답 반환)
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 그대로 실행)
+     * @param request        요청 본문 (같은 키로 다른 요청을 보냈는지 비교)
+     * @param action         실제 요청 처리
+     */
+    public ResponseEntity<?> execute(String idempotencyKey, String username, IdempotentOperation operation,
+                                     Object request, Supplier<ResponseEntity<?>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " 는 1 ~ " + MAX_KEY_LENGTH + " 자여야 합니다.");
+        }
+
+        String cacheKey = operation + ":" + username + ":" + idempotencyKey;
+        String requestHash = requestHashOf(request);
+
+        StoredResponse cached = responseCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        StoredResponse stored = idempotencyKeyRepository.findByUsernameAndOperationAndIdempotencyKey(username, operation, idempotencyKey)
+                .filter(key -> key.getExpiresAt().isAfter(Instant.now()))
+                .map(StoredResponse::of)
+                .orElse(null);
+        if (stored != null) {
+            responseCache.put(cacheKey, stored);
+            return replay(stored, requestHash);
+        }
+
+        StoredResponse executed;
+        try {
+            executed = transactionTemplate.execute(status -> {
+                IdempotencyKey key = claim(username, operation, idempotencyKey, requestHash);
+                ResponseEntity<?> response = action.get();
+                key.complete(response.getStatusCode().value(), toJson(response.getBody()));
+                return StoredResponse.of(key);
+            });
+        } catch (KeyAlreadyClaimedException e) {
+            // 같은 키의 다른 요청이 먼저 저장됨 (커밋되었으면 그 응답을 반환, 아직 처리 중이면 409)
+            StoredResponse winner = idempotencyKeyRepository.findByUsernameAndOperationAndIdempotencyKey(username, operation, idempotencyKey)
+                    .map(StoredResponse::of)
+                    .orElseThrow(() -> {
+                        countRequest("conflict");
+                        return new IdempotencyKeyConflictException("같은 " + HEADER + " 의 요청이 처리 중입니다.");
+                    });
+            responseCache.put(cacheKey, winner);
+            return replay(winner, requestHash);
+        }
+
+        responseCache.put(cacheKey, executed);
+        countRequest("executed");
+        return toResponse(executed, false);
+    }
+
+    // 키 선점 (유니크 제약 위반 / 잠금 대기 시간 초과면 다른 요청이 먼저 선점한 것)
+    private IdempotencyKey claim(String username, IdempotentOperation operation, String idempotencyKey, String requestHash) {
+        Instant now = Instant.now();
+        idempotencyKeyRepository.deleteExpired(username, operation, idempotencyKey, now);
+        try {
+            return idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                    .username(username)
+                    .operation(operation)
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            throw new KeyAlreadyClaimedException();
+        }
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            countRequest("conflict");
+            throw new IdempotencyKeyConflictException("이미 다른 요청에 사용된 " + HEADER + " 입니다.");
+        }
+        countRequest("replayed");
+        return toResponse(stored, true);
+    }
+
+    // 저장된 상태 코드 / 본문으로 응답 생성 (본문은 저장된 JSON 을 그대로 전송)
+    private ResponseEntity<?> toResponse(StoredResponse stored, boolean replayed) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status());
+        if (replayed) {
+            builder.header(REPLAYED_HEADER, "true");
+        }
+        if (stored.body() == null) {
+            return builder.build();
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(stored.body());
+    }
+
+    private String toJson(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 요청 DTO 의 toString (lombok @Data) 으로 요청 본문 비교
+    private static String requestHashOf(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void countRequest(String result) {
+        meterRegistry.counter("idempotency.requests", "result", result).increment();
+    }
+
+    private record StoredResponse(String requestHash, int status, String body) {
+        static StoredResponse of(IdempotencyKey key) {
+            return new StoredResponse(key.getRequestHash(), key.getResponseStatus(), key.getResponseBody());
+        }
+    }
+
+    private static class KeyAlreadyClaimedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,9 @@
+package com.sparta.delivery.domain.invalidation.dto;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+
+/**
+ * 무효화 이벤트 (같은 topic, key 의 이벤트는 하나로 합쳐집니다)
+ */
+public record InvalidationEvent(InvalidationTopic topic, String key) {
+}
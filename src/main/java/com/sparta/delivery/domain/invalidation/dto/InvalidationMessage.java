@@ -0,0 +1,69 @@
+package com.sparta.delivery.domain.invalidation.dto;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 서버 간에 전달되는 무효화 메시지 (이벤트 묶음)
+ *
+ * 형식 : 첫 줄은 보낸 서버 ID, 이후 한 줄에 이벤트 하나 ("TOPIC\tkey")
+ * 전송 계층의 최대 크기를 넘으면 여러 메시지로 나눠서 보냅니다. (PostgreSQL NOTIFY payload 는 8000 byte 미만)
+ */
+public record InvalidationMessage(String origin, Set<InvalidationEvent> events) {
+
+    private static final char LINE_SEPARATOR = '\n';
+    private static final char FIELD_SEPARATOR = '\t';
+
+    /**
+     * @param maxBytes 메시지 하나의 최대 크기 (UTF-8 기준)
+     */
+    public static List<String> encode(String origin, Collection<InvalidationEvent> events, int maxBytes) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(origin);
+        int payloadBytes = utf8Length(origin);
+        boolean empty = true;
+
+        for (InvalidationEvent event : events) {
+            String line = LINE_SEPARATOR + event.topic().name() + FIELD_SEPARATOR + event.key();
+            int lineBytes = utf8Length(line);
+            if (!empty && payloadBytes + lineBytes > maxBytes) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(origin);
+                payloadBytes = utf8Length(origin);
+            }
+            payload.append(line);
+            payloadBytes += lineBytes;
+            empty = false;
+        }
+
+        if (!empty) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    public static InvalidationMessage decode(String payload) {
+        String[] lines = payload.split(String.valueOf(LINE_SEPARATOR));
+        Set<InvalidationEvent> events = new LinkedHashSet<>();
+        for (int i = 1; i < lines.length; i++) {
+            int separator = lines[i].indexOf(FIELD_SEPARATOR);
+            if (separator < 0) {
+                continue;
+            }
+            events.add(new InvalidationEvent(
+                    InvalidationTopic.valueOf(lines[i].substring(0, separator)),
+                    lines[i].substring(separator + 1)));
+        }
+        return new InvalidationMessage(lines[0], events);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
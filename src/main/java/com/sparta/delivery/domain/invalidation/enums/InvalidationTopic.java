@@ -0,0 +1,14 @@
+package com.sparta.delivery.domain.invalidation.enums;
+
+/**
+ * 서버 간 캐시 무효화 대상 (key : 엔티티 ID)
+ */
+public enum InvalidationTopic {
+    STORE,          // 가게 2차 캐시
+    PRODUCT,        // 상품 2차 캐시
+    PRODUCT_STOCK,  // 상품 재고 변경 (상품 2차 캐시만 제거, 재고는 쿼리 캐시 결과에 영향을 주지 않음)
+    REGION,         // 운영 지역 2차 캐시
+    USER,           // CurrentUserResolver 사용자 캐시 (key : userId)
+    REFRESH_TOKEN,  // InMemoryRefreshTokenStore refresh 토큰 (key : userId)
+    ORDER_FEED      // 가게 주문 피드 새 이벤트 알림 (key : storeId, 받은 서버가 DB 에서 조회해 SSE 전송)
+}
@@ -0,0 +1,22 @@
+package com.sparta.delivery.domain.invalidation.interfaces;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+
+/**
+ * 서버(replica) 간 캐시 무효화 채널
+ *
+ * 자기 서버의 캐시는 호출하는 쪽에서 직접 제거하고, publish 는 다른 서버에 변경을 알리는 용도입니다.
+ * (자기 서버가 보낸 이벤트는 다시 받지 않음)
+ */
+public interface InvalidationBus {
+
+    /**
+     * 다른 서버에 무효화 이벤트 전송 (트랜잭션 안에서 호출되면 커밋 이후 전송, 롤백되면 전송하지 않음)
+     */
+    void publish(InvalidationTopic topic, Object key);
+
+    /**
+     * 다른 서버에서 보낸 topic 이벤트를 받을 리스너 등록
+     */
+    void subscribe(InvalidationTopic topic, InvalidationListener listener);
+}
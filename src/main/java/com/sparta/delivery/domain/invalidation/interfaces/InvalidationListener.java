@@ -0,0 +1,17 @@
+package com.sparta.delivery.domain.invalidation.interfaces;
+
+/**
+ * 다른 서버에서 발생한 무효화 이벤트를 받아 노드 로컬 캐시에서 제거하는 리스너
+ */
+public interface InvalidationListener {
+
+    /**
+     * key 에 해당하는 항목을 캐시에서 제거
+     */
+    void invalidate(String key);
+
+    /**
+     * 캐시 전체를 비움 (전송 연결이 끊겼다 복구되어 그 사이의 이벤트를 놓쳤을 수 있는 경우)
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,34 @@
+package com.sparta.delivery.domain.invalidation.interfaces;
+
+/**
+ * 무효화 메시지 전송 계층 (모든 서버에 broadcast, 보낸 서버도 자기 메시지를 받음)
+ */
+public interface InvalidationTransport {
+
+    /**
+     * 메시지 수신 시작
+     */
+    void start(Receiver receiver);
+
+    /**
+     * 모든 서버에 메시지 전송
+     */
+    void send(String payload);
+
+    void stop();
+
+    /**
+     * 메시지 하나의 최대 크기 (UTF-8 byte)
+     */
+    int maxPayloadBytes();
+
+    interface Receiver {
+
+        void onMessage(String payload);
+
+        /**
+         * 연결이 끊겼다가 다시 수신을 시작한 경우 (그 사이 메시지를 놓쳤을 수 있음)
+         */
+        void onReconnect();
+    }
+}
@@ -0,0 +1,200 @@
+package com.sparta.delivery.domain.invalidation.service;
+
+import com.sparta.delivery.domain.invalidation.dto.InvalidationEvent;
+import com.sparta.delivery.domain.invalidation.dto.InvalidationMessage;
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 간격으로 모아서 보내는 InvalidationBus
+ *
+ * publish 된 이벤트는 invalidation.flushIntervalMs 동안 모아 중복(같은 topic, key)을 제거한 뒤 한 번에 전송합니다.
+ * (같은 가게를 연속으로 수정해도 다른 서버에는 한 건만 전달)
+ * - 전송에 실패한 이벤트는 다시 보내지 않습니다. 이 경우 다른 서버의 캐시는 각 캐시의 만료 시간이 지나야 갱신됩니다.
+ * - 서버마다 시작할 때 만든 ID 를 메시지에 넣어, 자기 서버가 보낸 메시지는 수신 시 무시합니다.
+ */
+@Slf4j
+@Component
+public class BatchingInvalidationBus implements InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final long flushIntervalMs;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<InvalidationTopic, List<InvalidationListener>> listeners = new EnumMap<>(InvalidationTopic.class);
+
+    // 전송 대기 중인 이벤트 (pendingLock 으로 보호)
+    private final Object pendingLock = new Object();
+    private Set<InvalidationEvent> pending = new LinkedHashSet<>();
+
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "invalidation-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter publishedCounter;    // publish 된 이벤트 수
+    private final Counter coalescedCounter;    // 전송 전에 중복으로 합쳐진 이벤트 수
+    private final Counter sentCounter;         // 전송한 메시지 수
+    private final Counter receivedCounter;     // 다른 서버에서 받은 이벤트 수
+
+    public BatchingInvalidationBus(InvalidationTransport transport,
+                                   @Value("${invalidation.flushIntervalMs:20}") long flushIntervalMs,
+                                   MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.flushIntervalMs = flushIntervalMs;
+        for (InvalidationTopic topic : InvalidationTopic.values()) {
+            listeners.put(topic, new CopyOnWriteArrayList<>());
+        }
+        this.publishedCounter = Counter.builder("invalidation.events.published")
+                .description("Cache invalidation events published to other replicas")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("invalidation.events.coalesced")
+                .description("Cache invalidation events merged into an already pending event")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("invalidation.messages.sent")
+                .description("Cache invalidation messages sent to the transport")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("invalidation.events.received")
+                .description("Cache invalidation events received from other replicas")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(new InvalidationTransport.Receiver() {
+            @Override
+            public void onMessage(String payload) {
+                receive(payload);
+            }
+
+            @Override
+            public void onReconnect() {
+                invalidateAll();
+            }
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 대기 중인 이벤트를 마저 전송
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Invalidation flush did not finish within timeout");
+        }
+        flush();
+        transport.stop();
+    }
+
+    @Override
+    public void publish(InvalidationTopic topic, Object key) {
+        InvalidationEvent event = new InvalidationEvent(topic, key.toString());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        // 커밋되기 전에 다른 서버가 이전 값을 다시 캐시하지 않도록 커밋 이후에 전송
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(InvalidationTopic topic, InvalidationListener listener) {
+        listeners.get(topic).add(listener);
+    }
+
+    /**
+     * 대기 중인 이벤트 전송 (flushExecutor 에서 주기적으로 호출)
+     */
+    public void flush() {
+        Set<InvalidationEvent> batch;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashSet<>();
+        }
+
+        try {
+            for (String payload : InvalidationMessage.encode(nodeId, batch, transport.maxPayloadBytes())) {
+                transport.send(payload);
+                sentCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Invalidation send failed ({} events) : {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void enqueue(InvalidationEvent event) {
+        publishedCounter.increment();
+        synchronized (pendingLock) {
+            if (!pending.add(event)) {
+                coalescedCounter.increment();
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (RuntimeException e) {
+            log.warn("Invalid invalidation message ignored : {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+
+        for (InvalidationEvent event : message.events()) {
+            receivedCounter.increment();
+            for (InvalidationListener listener : listeners.get(event.topic())) {
+                try {
+                    listener.invalidate(event.key());
+                } catch (RuntimeException e) {
+                    log.warn("Invalidation listener failed ({} {}) : {}", event.topic(), event.key(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        listeners.forEach((topic, topicListeners) -> topicListeners.forEach(listener -> {
+            try {
+                listener.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener failed ({} all) : {}", topic, e.getMessage());
+            }
+        }));
+    }
+}
@@ -0,0 +1,26 @@
+package com.sparta.delivery.domain.invalidation.service;
+
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationTransport;
+
+/**
+ * 서버가 하나뿐인 환경(H2 로컬 실행, 테스트)에서 사용하는 전송 계층 (아무 곳에도 보내지 않음)
+ */
+public class NoOpInvalidationTransport implements InvalidationTransport {
+
+    @Override
+    public void start(Receiver receiver) {
+    }
+
+    @Override
+    public void send(String payload) {
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    @Override
+    public int maxPayloadBytes() {
+        return Integer.MAX_VALUE;
+    }
+}
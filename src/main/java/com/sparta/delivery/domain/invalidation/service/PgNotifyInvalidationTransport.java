@@ -0,0 +1,117 @@
+package com.sparta.delivery.domain.invalidation.service;
+
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN / NOTIFY 기반 전송 계층
+ *
+ * 모든 서버가 같은 DB 의 채널을 LISTEN 하므로 별도 인프라 없이 서버 간에 메시지를 주고받을 수 있습니다.
+ * - 수신 : 전용 커넥션 하나를 계속 점유하고 invalidation-listener 스레드에서 알림을 기다립니다.
+ * - 전송 : pg_notify() 를 autocommit 으로 실행합니다. (NOTIFY 는 커밋 시점에 전달됨)
+ * - 연결이 끊기면 invalidation.pg.reconnectDelayMs 후 다시 LISTEN 하고, 그 사이 놓친 메시지가 있을 수 있으므로 onReconnect 를 호출합니다.
+ */
+@Slf4j
+public class PgNotifyInvalidationTransport implements InvalidationTransport {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int MAX_PAYLOAD_BYTES = 7900; // NOTIFY payload 는 8000 byte 미만
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PgNotifyInvalidationTransport(DataSource dataSource, String channel, int pollTimeoutMs, long reconnectDelayMs) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name : " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.channel = channel;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        running = true;
+        listenerThread = new Thread(() -> listen(receiver), "invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void send(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, payload);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public int maxPayloadBytes() {
+        return MAX_PAYLOAD_BYTES;
+    }
+
+    private void listen(Receiver receiver) {
+        boolean firstAttempt = true;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (!firstAttempt) {
+                    log.info("Invalidation listener reconnected (channel={})", channel);
+                    receiver.onReconnect();
+                }
+                firstAttempt = false;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receiver.onMessage(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                firstAttempt = false;
+                if (running) {
+                    log.warn("Invalidation listener disconnected (channel={}) : {}", channel, e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sparta.delivery.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 결제 대기 중인 주문이 점유한 재고
+ *
+ * 주문 시 상품 재고를 차감하면서 함께 저장되며, 다음 중 하나로 제거됩니다.
+ * - 결제 완료 : 재고는 차감된 상태로 예약만 제거 (confirm)
+ * - 주문 취소/변경, 결제 대기 시간 만료 : 예약을 제거하고 재고 복구 (release)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "p_inventory_reservation", indexes = {
+        @Index(name = "idx_inventory_reservation_order_id", columnList = "order_id"),
+        @Index(name = "idx_inventory_reservation_expires_at", columnList = "expires_at")
+})
+public class InventoryReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID reservationId;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    // 예약 만료 시점 (이때까지 결제되지 않으면 주문 취소 후 재고 복구)
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,38 @@
+package com.sparta.delivery.domain.inventory.repository;
+
+import com.sparta.delivery.domain.inventory.entity.InventoryReservation;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, UUID> {
+
+    List<InventoryReservation> findAllByOrderId(UUID orderId);
+
+    List<InventoryReservation> findAllByOrderIdIn(Collection<UUID> orderIds);
+
+    long countByProductId(UUID productId);
+
+    // 삭제된 행 수로 동시에 들어온 release/confirm 중 하나만 처리되도록 함
+    @Modifying
+    @Query("delete from InventoryReservation r where r.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") UUID orderId);
+
+    // 삭제된 행 수가 조회한 예약 수와 다르면 다른 요청이 먼저 해제/확정한 것
+    @Modifying
+    @Query("delete from InventoryReservation r where r.reservationId in :reservationIds")
+    int deleteAllByReservationIdIn(@Param("reservationIds") Collection<UUID> reservationIds);
+
+    // 만료된 예약 중 결제 대기 주문이 아닌 (이미 결제/취소된) 주문의 남은 예약 제거
+    @Modifying
+    @Query("delete from InventoryReservation r where r.expiresAt < :now and not exists " +
+            "(select o.orderId from Order o where o.orderId = r.orderId and o.orderStatus = :waitStatus and o.deletedAt is null)")
+    int deleteExpiredWithoutWaitingOrder(@Param("now") Instant now, @Param("waitStatus") OrderStatus waitStatus);
+}
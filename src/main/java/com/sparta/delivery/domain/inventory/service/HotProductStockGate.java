@@ -0,0 +1,122 @@
+package com.sparta.delivery.domain.inventory.service;
+
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 주문이 몰리는 상품(hot product)의 재고를 메모리에서 먼저 차감하는 게이트
+ *
+ * 설정된 상품만 대상으로 하며, 상품별 카운터를 CAS 로 차감하여 품절된 상품의 주문을 DB 까지 보내지 않고 거절합니다.
+ * 실제 재고의 기준은 항상 DB 의 조건부 UPDATE 이고 이 카운터는 사전 필터일 뿐이므로, 카운터가 틀려도 초과 판매는 발생하지 않습니다.
+ * 다른 서버의 재고 복구는 반영되지 않으므로 카운터가 부족하면 refreshIntervalMs 마다 DB 재고로 다시 맞춥니다.
+ */
+@Component
+public class HotProductStockGate {
+
+    private final ProductRepository productRepository;
+    private final Set<UUID> hotProductIds;
+    private final long refreshIntervalMs;
+
+    private final Map<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+    public HotProductStockGate(ProductRepository productRepository,
+                               @Value("${inventory.hotProduct.ids:}") Set<UUID> hotProductIds,
+                               @Value("${inventory.hotProduct.refreshIntervalMs:1000}") long refreshIntervalMs) {
+        this.productRepository = productRepository;
+        this.hotProductIds = Set.copyOf(hotProductIds);
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public boolean isHot(UUID productId) {
+        return hotProductIds.contains(productId);
+    }
+
+    /**
+     * hot product 재고를 메모리에서 먼저 차감
+     *
+     * @return 차감에 성공했거나 hot product 가 아닌 경우 true, 메모리상 재고가 부족한 경우 false
+     */
+    public boolean tryAcquire(UUID productId, int quantity) {
+        if (!isHot(productId)) {
+            return true;
+        }
+
+        Counter counter = counters.computeIfAbsent(productId, this::load);
+        if (counter.tryDecrement(quantity)) {
+            return true;
+        }
+
+        // 부족하면 DB 재고로 다시 맞춘 뒤 한 번 더 시도 (refreshIntervalMs 에 한 번만)
+        return counter.refreshIfStale(() -> currentQuantity(productId), refreshIntervalMs)
+                && counter.tryDecrement(quantity);
+    }
+
+    /**
+     * 메모리에서 차감한 재고를 되돌림 (DB 차감 실패, 예약 해제)
+     */
+    public void release(UUID productId, int quantity) {
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            counter.remaining.addAndGet(quantity);
+        }
+    }
+
+    /**
+     * 다음 요청에서 DB 재고를 다시 읽도록 카운터 제거 (DB 차감 실패 시)
+     */
+    public void invalidate(UUID productId) {
+        counters.remove(productId);
+    }
+
+    private Counter load(UUID productId) {
+        return new Counter(currentQuantity(productId));
+    }
+
+    private int currentQuantity(UUID productId) {
+        return productRepository.findById(productId)
+                .map(Product::getQuantity)
+                .orElse(0);
+    }
+
+    private static class Counter {
+
+        private final AtomicInteger remaining;
+        private final AtomicLong refreshedAt = new AtomicLong(System.currentTimeMillis());
+
+        Counter(int remaining) {
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        boolean tryDecrement(int quantity) {
+            while (true) {
+                int current = remaining.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean refreshIfStale(IntSupplier quantitySupplier, long refreshIntervalMs) {
+            long last = refreshedAt.get();
+            long now = System.currentTimeMillis();
+            if (now - last < refreshIntervalMs || !refreshedAt.compareAndSet(last, now)) {
+                return false;
+            }
+            remaining.set(quantitySupplier.getAsInt());
+            return true;
+        }
+    }
+}
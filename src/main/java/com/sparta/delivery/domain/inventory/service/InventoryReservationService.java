@@ -0,0 +1,183 @@
+package com.sparta.delivery.domain.inventory.service;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.inventory.entity.InventoryReservation;
+import com.sparta.delivery.domain.inventory.repository.InventoryReservationRepository;
+import com.sparta.delivery.domain.product.service.ProductService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 재고 예약 서비스
+ *
+ * 1. reserve : hot product 는 메모리 카운터에서 먼저 차감하고, DB 의 조건부 UPDATE(quantity >= 주문 수량)로 재고를 차감한 뒤 예약 저장
+ * 2. confirm : 결제 완료 시 예약만 제거 (재고는 차감된 상태 유지)
+ * 3. release : 주문 취소/변경 시 예약을 제거하고 재고 복구
+ * 4. releaseAll : 결제 대기 만료 주문들의 예약을 한 번에 제거하고 상품별로 합산한 수량을 한 번의 UPDATE 로 복구
+ *
+ * 재고 차감은 DB 의 조건부 UPDATE 한 번으로 처리하므로 동시에 주문이 몰려도 재고가 음수가 되지 않습니다.
+ * 예약 삭제 시 삭제된 행 수를 확인하여, 같은 주문에 대한 release/confirm 이 동시에 들어와도 재고는 한 번만 복구됩니다.
+ * hot product 메모리 카운터는 트랜잭션 결과에 맞춰 되돌립니다. (예약 트랜잭션이 롤백되면 반환, 예약 해제는 커밋 이후에 반환)
+ */
+@Service
+public class InventoryReservationService {
+
+    private final InventoryReservationRepository inventoryReservationRepository;
+    private final ProductService productService;
+    private final HotProductStockGate hotProductStockGate;
+    private final Duration reservationTtl;
+
+    public InventoryReservationService(InventoryReservationRepository inventoryReservationRepository,
+                                       ProductService productService,
+                                       HotProductStockGate hotProductStockGate,
+                                       @Value("${inventory.reservation.ttlMinutes:15}") long ttlMinutes) {
+        this.inventoryReservationRepository = inventoryReservationRepository;
+        this.productService = productService;
+        this.hotProductStockGate = hotProductStockGate;
+        this.reservationTtl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * 주문 상품 재고 예약
+     *
+     * @param orderId 주문 ID
+     * @param quantities 상품 ID 별 주문 수량
+     * @throws ProductQuantityNotAllowedException 재고가 부족한 상품이 있는 경우
+     */
+    @Transactional
+    public void reserve(UUID orderId, Map<UUID, Integer> quantities) {
+        // 예약 이후 주문 트랜잭션이 롤백되어도 (피드 기록, 멱등성 키 저장 실패 등) 메모리에서 차감한 재고를 되돌림
+        Map<UUID, Integer> acquired = new LinkedHashMap<>();
+        releaseGateOnRollback(acquired);
+        try {
+            for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+                if (!hotProductStockGate.tryAcquire(entry.getKey(), entry.getValue())) {
+                    throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
+                }
+                acquired.put(entry.getKey(), entry.getValue());
+            }
+
+            productService.decreaseProductQuantities(quantities);
+        } catch (ProductQuantityNotAllowedException e) {
+            acquired.forEach(hotProductStockGate::release);
+            acquired.clear();
+            quantities.keySet().forEach(hotProductStockGate::invalidate);
+            throw e;
+        }
+
+        Instant expiresAt = Instant.now().plus(reservationTtl);
+        List<InventoryReservation> reservations = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> reservations.add(InventoryReservation.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .build()));
+
+        inventoryReservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 결제 완료 시 예약 확정 (재고는 차감된 상태로 예약만 제거)
+     *
+     * @param orderId 주문 ID
+     */
+    @Transactional
+    public void confirm(UUID orderId) {
+        inventoryReservationRepository.deleteByOrderId(orderId);
+    }
+
+    /**
+     * 예약 해제 후 재고 복구
+     *
+     * @param orderId 주문 ID
+     * @return 해제한 예약이 있으면 true, 없으면 (이미 해제/확정되었거나 예약 없이 생성된 주문) false
+     */
+    @Transactional
+    public boolean release(UUID orderId) {
+        List<InventoryReservation> reservations = inventoryReservationRepository.findAllByOrderId(orderId);
+        if (reservations.isEmpty() || inventoryReservationRepository.deleteByOrderId(orderId) == 0) {
+            return false;
+        }
+
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (InventoryReservation reservation : reservations) {
+            quantities.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+        }
+
+        productService.increaseProductQuantities(quantities);
+        releaseGateAfterCommit(quantities);
+        return true;
+    }
+
+    /**
+     * 여러 주문의 예약 일괄 해제 후 재고 복구 (결제 대기 만료)
+     *
+     * 예약 삭제 건수가 조회한 예약 수와 다르면 (그 사이 다른 요청이 해제/확정) 재고를 중복 복구하지 않도록 예외를 던져 롤백합니다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 상품 ID 별 복구한 수량
+     */
+    @Transactional
+    public Map<UUID, Integer> releaseAll(Collection<UUID> orderIds) {
+        List<InventoryReservation> reservations = inventoryReservationRepository.findAllByOrderIdIn(orderIds);
+        if (reservations.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> reservationIds = reservations.stream().map(InventoryReservation::getReservationId).toList();
+        if (inventoryReservationRepository.deleteAllByReservationIdIn(reservationIds) != reservationIds.size()) {
+            throw new IllegalStateException("재고 예약이 이미 해제되었거나 확정되었습니다.");
+        }
+
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (InventoryReservation reservation : reservations) {
+            quantities.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+        }
+
+        productService.increaseProductQuantities(quantities);
+        releaseGateAfterCommit(quantities);
+        return quantities;
+    }
+
+    // 트랜잭션이 롤백되면 메모리에서 차감한 재고 반환 (호출 시점에는 비어 있고 차감할 때마다 채워지는 map)
+    private void releaseGateOnRollback(Map<UUID, Integer> acquired) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    acquired.forEach(hotProductStockGate::release);
+                }
+            }
+        });
+    }
+
+    // 롤백된 예약 해제가 메모리 재고를 늘리지 않도록 커밋 이후에 반환
+    private void releaseGateAfterCommit(Map<UUID, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            quantities.forEach(hotProductStockGate::release);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                quantities.forEach(hotProductStockGate::release);
+            }
+        });
+    }
+}
@@ -2,8 +2,11 @@ package com.sparta.delivery.domain.order.controller;
 
 import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.idempotency.enums.IdempotentOperation;
+import com.sparta.delivery.domain.idempotency.service.IdempotencyService;
 import com.sparta.delivery.domain.order.dto.OrderRequestDto;
 import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.order.service.OrderService;
 import com.sparta.delivery.domain.order.swagger.OrderSwaggerDocs;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.List;
@@ -28,16 +33,21 @@ import java.util.UUID;
 @RequestMapping("/api/order")
 public class OrderController {
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
     private final PageableConfig pageableConfig;
 
     @OrderSwaggerDocs.addOrder
-    @Operation(summary = "주문 등록")
+    @Operation(summary = "주문 등록", description = "Idempotency-Key 헤더를 보내면 같은 키의 재시도는 주문을 다시 만들지 않고 처음 응답을 반환")
     @PostMapping("")
-    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderRequestDto requestDto, @AuthenticationPrincipal PrincipalDetails userDetails) {
+    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderRequestDto requestDto,
+                                         @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                         @AuthenticationPrincipal PrincipalDetails userDetails) {
         requestDto.isValidDeliveryAddress();
-        orderService.createOrder(requestDto, userDetails.getUsername());
-        return ResponseEntity.status(HttpStatus.OK).build();
+        return idempotencyService.execute(idempotencyKey, userDetails.getUsername(), IdempotentOperation.ORDER_CREATE, requestDto, () -> {
+            orderService.createOrder(requestDto, userDetails.getUsername());
+            return ResponseEntity.status(HttpStatus.OK).build();
+        });
     }
 
     @OrderSwaggerDocs.getOrder
@@ -64,7 +74,7 @@ public class OrderController {
         if (deliveryAddressIdList == null)
             deliveryAddressIdList = Collections.emptyList();
 
-        PageRequest pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
+        PageRequest pageable = pageableConfig.createPageRequest(page, size, OrderRepository.SORT_SPEC, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(orderService.getUserOrderList(userDetails.getUsername(), pageable, storeIdList, deliveryAddressIdList));
     }
@@ -78,11 +88,30 @@ public class OrderController {
                                                @RequestParam(name = "sortBy", required = false) String sortBy,
                                                @RequestParam(name = "orderBy", required = false) String orderBy,
                                                @AuthenticationPrincipal PrincipalDetails userDetails) {
-        Pageable pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
+        Pageable pageable = pageableConfig.createPageRequest(page, size, OrderRepository.SORT_SPEC, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(orderService.getStoreOrderList(storeId, pageable, userDetails.getUsername()));
     }
 
+    @OrderSwaggerDocs.getStoreOrderByCursor
+    @GetMapping("/getStoreOrder/{storeId}/cursor")
+    public ResponseEntity<?> getStoreOrderListByCursor(@PathVariable("storeId") UUID storeId,
+                                                       @RequestParam(name = "cursor", required = false) String cursor,
+                                                       @RequestParam(name = "size", required = false) Integer size,
+                                                       @AuthenticationPrincipal PrincipalDetails userDetails) {
+        int pageSize = pageableConfig.resolveCursorPageSize(size);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(orderService.getStoreOrderListByCursor(storeId, cursor, pageSize, userDetails.getUsername()));
+    }
+
+    @OrderSwaggerDocs.getStoreOrderStream
+    @GetMapping(value = "/getStoreOrder/{storeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getStoreOrderStream(@PathVariable("storeId") UUID storeId,
+                                          @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+                                          @AuthenticationPrincipal PrincipalDetails userDetails) {
+        return orderService.subscribeStoreOrders(storeId, lastEventId, userDetails.getUsername());
+    }
+
     @OrderSwaggerDocs.deleteOrder
     @Operation(summary = "주문 삭제")
     @PatchMapping("/deleteOrder/{orderId}")
@@ -0,0 +1,33 @@
+package com.sparta.delivery.domain.order.dto;
+
+import com.sparta.delivery.domain.order.entity.OrderEvent;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 가게 주문 피드(SSE) 이벤트 data (SSE id 는 seq)
+@Builder
+@Getter
+@AllArgsConstructor
+public class OrderEventDto {
+    private long seq;
+    private UUID orderId;
+    private OrderEventType type;
+    private OrderStatus orderStatus;
+    private Instant createdAt;
+
+    public static OrderEventDto from(OrderEvent event) {
+        return OrderEventDto.builder()
+                .seq(event.getSeq())
+                .orderId(event.getOrderId())
+                .type(event.getType())
+                .orderStatus(event.getOrderStatus())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
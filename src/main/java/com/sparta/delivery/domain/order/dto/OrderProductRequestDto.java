@@ -0,0 +1,19 @@
+package com.sparta.delivery.domain.order.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.UUID;
+
+@Builder
+@Data
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderProductRequestDto {
+    @NotNull(message = "상품Id를 입력해주세요")
+    private UUID productId;
+    @Min(value = 1, message = "주문 수량은 1개 이상이어야 합니다.")
+    private int quantity;
+}
@@ -6,13 +6,16 @@ import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Builder
@@ -28,6 +31,13 @@ public class OrderRequestDto {
     @NotNull(message = "주문 유형을 입력해주세요")
     private OrderType orderType;
     private String requirements;
+    //상품별 주문 수량. productId 목록과 함께 보내면 합산
+    @Valid
+    private List<OrderProductRequestDto> orderProducts;
+
+    public OrderRequestDto(UUID deliveryAddressId, UUID storeId, List<UUID> productId, OrderType orderType, String requirements) {
+        this(deliveryAddressId, storeId, productId, orderType, requirements, null);
+    }
 
     @AssertTrue(message = "배달 주문일 경우 배송 주소 ID가 필요합니다.")
     public boolean isValidDeliveryAddress() {
@@ -38,6 +48,20 @@ public class OrderRequestDto {
         return deliveryAddressId == null;
     }
 
+    //상품 ID 별 주문 수량 (productId 목록은 상품당 1개씩)
+    public Map<UUID, Integer> toProductQuantityMap() {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        if (productId != null) {
+            for (UUID id : productId)
+                quantities.merge(id, 1, Integer::sum);
+        }
+        if (orderProducts != null) {
+            for (OrderProductRequestDto orderProduct : orderProducts)
+                quantities.merge(orderProduct.getProductId(), orderProduct.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     public Order toOrder(Stores store, DeliveryAddress deliveryAddress, User user) {
         return Order.builder()
                 .orderTime(LocalDateTime.now())
@@ -27,8 +27,21 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        // 가게 주문 커서 조회 (store_id = ? AND (created_at, order_id) < (?, ?) ORDER BY created_at DESC, order_id DESC)
+        @Index(name = "idx_order_store_created_at", columnList = "store_id, created_at, order_id"),
+        // 결제 대기 만료 주문 조회 (order_status = 'PAYMENT_WAIT' AND created_at < ?)
+        @Index(name = "idx_order_status_created_at", columnList = "order_status, created_at"),
+        // 가게 순위 주문 수 갱신 대상 조회 (updated_at >= ?)
+        @Index(name = "idx_order_updated_at", columnList = "updated_at"),
+        // 유저 주문 목록 정렬 (OrderRepositoryCustom.SORT_SPEC, 가게 주문 목록은 idx_order_store_created_at 사용)
+        @Index(name = "idx_order_user_created_at", columnList = "user_id, created_at, order_id")
+})
+@NamedEntityGraph(name = Order.DETAIL_GRAPH, attributeNodes = @NamedAttributeNode("orderProductList"))
 public class Order extends Timestamped {
+    // 단건 조회 / 수정 / 삭제용 (주문 상품 목록을 함께 조회)
+    public static final String DETAIL_GRAPH = "Order.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID orderId;
@@ -47,21 +60,22 @@ public class Order extends Timestamped {
     @Column
     private String requirements;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "storeId", nullable = false)
     private Stores stores;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "deliveryAddressId")
     private DeliveryAddress deliveryAddress;
 
     //주문상품 테이블과의 연관관계 매핑. 필요 시 사용
+    @Builder.Default
     @OneToMany(mappedBy = "order", orphanRemoval = true, cascade = CascadeType.ALL)
-    private List<OrderProduct> orderProductList;
+    private List<OrderProduct> orderProductList = new ArrayList<>();
 
     public void updateOrderProductList(List<OrderProduct> newList) {
         orderProductList.clear();
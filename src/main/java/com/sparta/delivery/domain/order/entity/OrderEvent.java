@@ -0,0 +1,60 @@
+package com.sparta.delivery.domain.order.entity;
+
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 가게 주문 피드(SSE) 이벤트
+ *
+ * 주문 변경과 같은 트랜잭션에서 저장되며, seq 는 가게마다 1 부터 빈 번호 없이 커밋 순서대로 증가합니다.
+ * (SSE 의 id 로 전송되어 재연결 시 Last-Event-ID 이후의 이벤트만 다시 조회)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_order_event",
+        uniqueConstraints = {
+                // 재연결 시 조회 (store_id = ? AND seq > ? ORDER BY seq)
+                @UniqueConstraint(name = "uk_order_event_store_seq", columnNames = {"store_id", "seq"})
+        },
+        indexes = {
+                @Index(name = "idx_order_event_created_at", columnList = "created_at")
+        })
+public class OrderEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID orderEventId;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(nullable = false)
+    private long seq;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderEventType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus orderStatus;
+
+    // 보관 기간이 지난 이벤트 일괄 삭제 기준
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,32 @@
+package com.sparta.delivery.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 가게별 주문 이벤트 번호
+ *
+ * 이벤트 저장 전에 lastSeq 를 UPDATE 로 증가시키므로, 같은 가게의 이벤트를 저장하는 트랜잭션은 커밋될 때까지 이 행에서 순서대로 처리됩니다.
+ * (오래된 이벤트를 삭제해도 번호는 이어짐)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_order_event_sequence")
+public class OrderEventSequence {
+
+    @Id
+    private UUID storeId;
+
+    @Column(nullable = false)
+    private long lastSeq;
+}
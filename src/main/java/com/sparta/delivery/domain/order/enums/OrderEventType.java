@@ -0,0 +1,8 @@
+package com.sparta.delivery.domain.order.enums;
+
+// 가게 주문 피드(SSE) 이벤트 종류
+public enum OrderEventType {
+    CREATED,        // 주문 등록
+    STATUS_CHANGED, // 주문 상태 변경 (결제 완료 포함)
+    CANCELLED       // 주문 취소 (고객 취소, 결제 대기 만료)
+}
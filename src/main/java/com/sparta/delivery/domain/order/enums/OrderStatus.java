@@ -1,6 +1,16 @@
 package com.sparta.delivery.domain.order.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     //결제 대기중, 결제 완료, 주문 진행중, 배달중, 배달완료/픽업완료, 주문 취소
-    PAYMENT_WAIT, PAYMENT_COMPLETE, ORDER_IN, DELIVERING, ORDER_COMPLETE, ORDER_CANCEL
+    PAYMENT_WAIT, PAYMENT_COMPLETE, ORDER_IN, DELIVERING, ORDER_COMPLETE, ORDER_CANCEL;
+
+    // 결제가 완료되어 가게 판매량에 포함되는 상태
+    public static final Set<OrderStatus> PAID = Set.copyOf(EnumSet.of(PAYMENT_COMPLETE, ORDER_IN, DELIVERING, ORDER_COMPLETE));
+
+    public boolean isPaid() {
+        return PAID.contains(this);
+    }
 }
@@ -0,0 +1,21 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.sparta.delivery.domain.order.entity.OrderEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderEventRepository extends JpaRepository<OrderEvent, UUID> {
+
+    // seq 이후의 이벤트 (uk_order_event_store_seq 사용, Pageable 로 한 번에 보낼 개수 제한)
+    List<OrderEvent> findByStoreIdAndSeqGreaterThanOrderBySeqAsc(UUID storeId, long seq, Pageable pageable);
+
+    // 보관 기간이 지난 이벤트 ID 조회 (idx_order_event_created_at 사용, Pageable 로 배치 크기 제한)
+    @Query("select e.orderEventId from OrderEvent e where e.createdAt < :cutoff")
+    List<UUID> findExpiredIds(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
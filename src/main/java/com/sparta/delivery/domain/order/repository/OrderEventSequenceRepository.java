@@ -0,0 +1,21 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.sparta.delivery.domain.order.entity.OrderEventSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderEventSequenceRepository extends JpaRepository<OrderEventSequence, UUID> {
+
+    // 번호 증가 (행 잠금은 트랜잭션이 끝날 때까지 유지, 행이 없으면 0 반환)
+    @Modifying
+    @Query("update OrderEventSequence s set s.lastSeq = s.lastSeq + 1 where s.storeId = :storeId")
+    int increment(@Param("storeId") UUID storeId);
+
+    @Query("select s.lastSeq from OrderEventSequence s where s.storeId = :storeId")
+    Optional<Long> findLastSeq(@Param("storeId") UUID storeId);
+}
@@ -2,25 +2,62 @@ package com.sparta.delivery.domain.order.repository;
 
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPredicateExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPredicateExecutor<Order>, OrderRepositoryCustom {
+    // 단건 조회는 주문 상품까지 함께 조회 (목록 조회는 연관 엔티티 없이 FK 값만 사용)
+    @EntityGraph(Order.DETAIL_GRAPH)
     Optional<Order> findByOrderIdAndDeletedAtIsNull(UUID orderId);
     Page<Order> findAllByUserAndDeletedAtIsNull(User user, Pageable pageable);
     Page<Order> findAllByStoresAndDeletedAtIsNull(Stores store, Pageable pageable);
+    @EntityGraph(Order.DETAIL_GRAPH)
     Optional<Order> findByOrderIdAndUserAndDeletedAtIsNull(UUID orderId, User user);
 
     Page<Order> findByUserAndDeletedAtIsNullAndStoresInAndDeliveryAddressInOrderByCreatedAtAsc(User user, List<Stores> stores, List<DeliveryAddress> deliveryAddresses, Pageable pageable);
 
+    // 결제 처리 중 주문 행 잠금 (결제 대기 만료 스케줄러가 같은 주문을 동시에 취소하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.orderId = :orderId and o.deletedAt is null")
+    Optional<Order> findByOrderIdForUpdate(@Param("orderId") UUID orderId);
+
+    // 결제 대기 시간이 지난 주문 선점 (idx_order_status_created_at 사용)
+    // SKIP LOCKED : 다른 서버가 처리 중이거나 결제 중(잠긴) 주문은 기다리지 않고 건너뜀
+    // (JPA 잠금 힌트는 DB 방언에 따라 SKIP LOCKED 가 빠질 수 있어 native 쿼리로 작성)
+    @Query(value = "select o.* from p_order o " +
+            "where o.order_status = :status and o.created_at < :cutoff and o.deleted_at is null " +
+            "order by o.created_at limit :limit for update skip locked", nativeQuery = true)
+    List<Order> findExpiredSkipLocked(@Param("status") String status,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      @Param("limit") int limit);
+
+    // 선점한 주문 일괄 취소
+    @Modifying
+    @Query("update Order o set o.orderStatus = :cancelStatus, o.deletedAt = :now, o.deletedBy = :deletedBy, " +
+            "o.updatedAt = :now, o.updatedBy = :deletedBy " +
+            "where o.orderId in :orderIds and o.orderStatus = :waitStatus and o.deletedAt is null")
+    int cancelAll(@Param("orderIds") Collection<UUID> orderIds,
+                  @Param("waitStatus") OrderStatus waitStatus,
+                  @Param("cancelStatus") OrderStatus cancelStatus,
+                  @Param("now") LocalDateTime now,
+                  @Param("deletedBy") String deletedBy);
 
 }
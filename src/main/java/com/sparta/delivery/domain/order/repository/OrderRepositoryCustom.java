@@ -0,0 +1,44 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.QOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface OrderRepositoryCustom {
+
+    // 유저/가게 주문 목록에서 허용하는 정렬 기준 (유저별, 가게별 복합 인덱스 사용)
+    SortSpec SORT_SPEC = SortSpec.builder(QOrder.order, QOrder.order.orderId)
+            .key("createdAt", QOrder.order.createdAt, "idx_order_user_created_at")
+            .defaultSort("createdAt", Sort.Direction.DESC)
+            .build();
+
+    Page<OrderListResponseWithReviewDto> findUserOrderListWithReview(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Pageable pageable);
+
+    List<Order> findStoreOrdersByCursor(UUID storeId, KeysetCursor cursor, int limit);
+
+    /**
+     * 가게별 결제 완료 주문 수 (OrderStatus.PAID, 취소/삭제된 주문 제외)
+     *
+     * @param storeIds 가게 ID (null 이면 전체)
+     * @return key : 가게 ID, value : 주문 수 (주문이 없는 가게는 포함되지 않음)
+     */
+    Map<UUID, Long> countPaidOrdersByStore(Collection<UUID> storeIds);
+
+    /**
+     * 주문이 생성/변경(결제, 취소, 삭제)된 가게 ID
+     *
+     * @param since 이 시각 이후에 변경된 주문만 확인
+     */
+    List<UUID> findStoreIdsWithOrdersUpdatedSince(LocalDateTime since);
+}
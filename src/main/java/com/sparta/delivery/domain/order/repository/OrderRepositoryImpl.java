@@ -0,0 +1,146 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.QOrder;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import com.sparta.delivery.domain.review.entity.QReview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QOrder order = QOrder.order;
+    private final QReview review = QReview.review;
+
+    /**
+     * 유저 주문 내역을 리뷰와 함께 조회
+     *
+     * 주문과 리뷰를 left join 하여 필요한 컬럼만 한 번에 조회하고, 전체 건수는 별도의 count 쿼리로 구합니다. (페이지당 최대 2번의 쿼리)
+     * 가게/배달지 조건은 엔티티를 조회하지 않고 ID 로 바로 필터링합니다.
+     */
+    public Page<OrderListResponseWithReviewDto> findUserOrderListWithReview(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.user.userId.eq(userId));
+        builder.and(order.deletedAt.isNull());
+
+        if (storeIdList != null && !storeIdList.isEmpty()) {
+            builder.and(order.stores.storeId.in(storeIdList));
+        }
+        if (deliveryAddressIdList != null && !deliveryAddressIdList.isEmpty()) {
+            builder.and(order.deliveryAddress.deliveryAddressId.in(deliveryAddressIdList));
+        }
+
+        JPAQuery<Tuple> query = jpaQueryFactory
+                .select(order.orderId, order.orderTime, order.orderType, order.orderStatus, order.requirements,
+                        order.stores.storeId, order.user.userId, order.deliveryAddress.deliveryAddressId,
+                        review.reviewId, review.comment, review.star, review.user.userId, review.stores.storeId)
+                .from(order)
+                .leftJoin(review).on(review.order.orderId.eq(order.orderId))
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()));
+
+        List<OrderListResponseWithReviewDto> content = query.fetch().stream()
+                .map(this::toResponseDto)
+                .toList();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(order.count())
+                .from(order)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 가게 주문을 커서 기반으로 조회 (최신순)
+     *
+     * OFFSET / count 쿼리 없이 커서 다음의 limit 건만 idx_order_store_created_at 인덱스로 조회합니다.
+     *
+     * @param cursor 마지막으로 조회한 주문의 위치 (첫 페이지는 null)
+     */
+    public List<Order> findStoreOrdersByCursor(UUID storeId, KeysetCursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(order)
+                .where(
+                        order.stores.storeId.eq(storeId),
+                        order.deletedAt.isNull(),
+                        KeysetCursor.after(cursor, order.createdAt, order.orderId)
+                )
+                .orderBy(order.createdAt.desc(), order.orderId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private OrderListResponseWithReviewDto toResponseDto(Tuple tuple) {
+        UUID orderId = tuple.get(order.orderId);
+        UUID storeId = tuple.get(order.stores.storeId);
+        UUID reviewId = tuple.get(review.reviewId);
+
+        // 리뷰가 없는 주문은 review 를 null 로 반환
+        ReviewResponseDto reviewDto = (reviewId != null)
+                ? new ReviewResponseDto(reviewId, tuple.get(review.comment), tuple.get(review.star),
+                        orderId, tuple.get(review.user.userId), tuple.get(review.stores.storeId))
+                : null;
+
+        return new OrderListResponseWithReviewDto(
+                orderId,
+                tuple.get(order.orderTime),
+                tuple.get(order.orderType),
+                tuple.get(order.orderStatus),
+                tuple.get(order.requirements),
+                storeId,
+                tuple.get(order.user.userId),
+                tuple.get(order.deliveryAddress.deliveryAddressId),
+                reviewDto
+        );
+    }
+
+    public Map<UUID, Long> countPaidOrdersByStore(Collection<UUID> storeIds) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.orderStatus.in(OrderStatus.PAID));
+        builder.and(order.deletedAt.isNull());
+        if (storeIds != null) {
+            builder.and(order.stores.storeId.in(storeIds));
+        }
+
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Tuple tuple : jpaQueryFactory
+                .select(order.stores.storeId, order.count())
+                .from(order)
+                .where(builder)
+                .groupBy(order.stores.storeId)
+                .fetch()) {
+            counts.put(tuple.get(order.stores.storeId), tuple.get(order.count()));
+        }
+        return counts;
+    }
+
+    public List<UUID> findStoreIdsWithOrdersUpdatedSince(LocalDateTime since) {
+        return jpaQueryFactory
+                .select(order.stores.storeId)
+                .distinct()
+                .from(order)
+                .where(order.updatedAt.goe(since))
+                .fetch();
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.delivery.domain.order.service;
+
+import com.sparta.delivery.domain.order.repository.OrderEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 가게 주문 피드 이벤트를 주기적으로 삭제하는 스케줄러
+ *
+ * 보관 기간보다 오래 끊겨 있던 구독자는 재연결해도 놓친 이벤트를 받을 수 없으므로 목록 조회로 다시 불러와야 합니다.
+ */
+@Slf4j
+@Component
+public class OrderEventPurgeScheduler {
+
+    private final OrderEventRepository orderEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Counter purgedCounter; // 삭제된 이벤트 수
+
+    public OrderEventPurgeScheduler(OrderEventRepository orderEventRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${orderFeed.retentionHours:24}") long retentionHours,
+                                    @Value("${scheduler.orderEventPurge.batchSize:500}") int batchSize,
+                                    @Value("${scheduler.orderEventPurge.maxBatches:100}") int maxBatches) {
+        this.orderEventRepository = orderEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofHours(retentionHours);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purgedCounter = Counter.builder("order.feed.event.purge.deleted")
+                .description("Number of order feed events deleted after the retention period")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.orderEventPurge.initialDelayMs:60000}",
+            fixedDelayString = "${scheduler.orderEventPurge.fixedDelayMs:600000}")
+    public void scheduledPurge() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            log.warn("Order event purge failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제
+     *
+     * @return 삭제된 이벤트 수
+     */
+    public int purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        int purged = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<UUID> expiredIds = orderEventRepository.findExpiredIds(cutoff, PageRequest.of(0, batchSize));
+                if (!expiredIds.isEmpty()) {
+                    orderEventRepository.deleteAllByIdInBatch(expiredIds);
+                }
+                return expiredIds.size();
+            });
+
+            int count = deleted != null ? deleted : 0;
+            purged += count;
+            purgedCounter.increment(count);
+
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} expired order feed events", purged);
+        }
+        return purged;
+    }
+}
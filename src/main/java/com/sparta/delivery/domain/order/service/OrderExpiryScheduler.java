@@ -0,0 +1,148 @@
+package com.sparta.delivery.domain.order.service;
+
+import com.sparta.delivery.domain.inventory.repository.InventoryReservationRepository;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 결제 대기 시간이 지난 주문을 취소하는 스케줄러
+ *
+ * 생성 후 ttlMinutes 가 지나도록 PAYMENT_WAIT 인 주문을 batchSize 만큼 선점해서 배치 단위로 처리합니다.
+ * - 선점 : SELECT ... FOR UPDATE SKIP LOCKED 로 다른 서버가 처리 중이거나 결제 중인 주문은 건너뛰므로 여러 서버에서 동시에 실행해도 됩니다.
+ * - 취소 : 선점한 주문을 UPDATE 한 번으로 ORDER_CANCEL 처리
+ * - 재고 복구 : 예약을 일괄 삭제하고 상품별로 합산한 수량을 UPDATE 한 번으로 복구
+ * - 주문 피드 : 취소된 주문마다 CANCELLED 이벤트 기록 (가게 순서로 번호 행을 잠가 다른 배치와 교착되지 않도록 함)
+ * 배치마다 트랜잭션을 나누고, 한 번의 실행에서 최대 maxBatches 개의 배치만 처리합니다.
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduler {
+
+    private static final String SYSTEM_USER = "system";
+
+    private final InventoryReservationRepository inventoryReservationRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final OrderRepository orderRepository;
+    private final OrderFeedService orderFeedService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Counter expiredCounter; // 취소된 주문 수
+    private final Counter releasedCounter; // 복구된 재고 수량
+
+    public OrderExpiryScheduler(InventoryReservationRepository inventoryReservationRepository,
+                                InventoryReservationService inventoryReservationService,
+                                OrderRepository orderRepository,
+                                OrderFeedService orderFeedService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${scheduler.orderExpiry.ttlMinutes:${inventory.reservation.ttlMinutes:15}}") long ttlMinutes,
+                                @Value("${scheduler.orderExpiry.batchSize:100}") int batchSize,
+                                @Value("${scheduler.orderExpiry.maxBatches:100}") int maxBatches) {
+        this.inventoryReservationRepository = inventoryReservationRepository;
+        this.inventoryReservationService = inventoryReservationService;
+        this.orderRepository = orderRepository;
+        this.orderFeedService = orderFeedService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.expiredCounter = Counter.builder("order.expiry.expired")
+                .description("Number of PAYMENT_WAIT orders cancelled after the payment TTL")
+                .register(meterRegistry);
+        this.releasedCounter = Counter.builder("order.expiry.stock.released")
+                .description("Product quantity restored from expired PAYMENT_WAIT orders")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.orderExpiry.initialDelayMs:60000}",
+            fixedDelayString = "${scheduler.orderExpiry.fixedDelayMs:60000}")
+    public void scheduledExpire() {
+        try {
+            expirePaymentWaitOrders();
+        } catch (RuntimeException e) {
+            log.warn("Order expiry failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 결제 대기 시간이 지난 주문 취소
+     *
+     * @return 취소된 주문 수
+     */
+    public int expirePaymentWaitOrders() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        int cancelled = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            BatchResult result = transactionTemplate.execute(status -> expireBatch(cutoff));
+            if (result == null) {
+                break;
+            }
+
+            cancelled += result.cancelled();
+            expiredCounter.increment(result.cancelled());
+            releasedCounter.increment(result.releasedQuantity());
+
+            if (result.claimed() < batchSize) {
+                break;
+            }
+        }
+
+        // 이미 결제/취소된 주문에 남은 만료 예약 제거 (재고는 복구하지 않음)
+        transactionTemplate.executeWithoutResult(status ->
+                inventoryReservationRepository.deleteExpiredWithoutWaitingOrder(Instant.now(), OrderStatus.PAYMENT_WAIT));
+
+        if (cancelled > 0) {
+            log.info("Cancelled {} expired PAYMENT_WAIT orders", cancelled);
+        }
+        return cancelled;
+    }
+
+    private BatchResult expireBatch(LocalDateTime cutoff) {
+        List<Order> orders = orderRepository.findExpiredSkipLocked(OrderStatus.PAYMENT_WAIT.name(), cutoff, batchSize);
+        List<UUID> orderIds = orders.stream()
+                .map(Order::getOrderId)
+                .toList();
+        if (orderIds.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        int cancelled = orderRepository.cancelAll(orderIds, OrderStatus.PAYMENT_WAIT, OrderStatus.ORDER_CANCEL,
+                LocalDateTime.now(), SYSTEM_USER);
+        Map<UUID, Integer> released = inventoryReservationService.releaseAll(orderIds);
+
+        // 벌크 UPDATE 로 취소되어 엔티티 상태는 PAYMENT_WAIT 그대로이므로 취소 상태를 직접 전달
+        orders.stream()
+                .sorted(Comparator.comparing((Order order) -> order.getStores().getStoreId()))
+                .forEach(order -> orderFeedService.append(order.getStores().getStoreId(), order.getOrderId(),
+                        OrderStatus.ORDER_CANCEL, OrderEventType.CANCELLED));
+
+        return new BatchResult(orderIds.size(), cancelled,
+                released.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    private record BatchResult(int claimed, int cancelled, int releasedQuantity) {
+    }
+}
@@ -0,0 +1,450 @@
+package com.sparta.delivery.domain.order.service;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.order.dto.OrderEventDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.OrderEvent;
+import com.sparta.delivery.domain.order.entity.OrderEventSequence;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.repository.OrderEventRepository;
+import com.sparta.delivery.domain.order.repository.OrderEventSequenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가게 주문 피드 (SSE)
+ *
+ * 사장님 화면이 가게 주문 목록을 주기적으로 다시 조회하지 않도록 주문 등록 / 상태 변경 / 취소를 SSE 로 전송합니다.
+ * - 기록 : 주문을 변경하는 트랜잭션에서 p_order_event 에 가게별 번호(seq)를 붙여 저장합니다. (롤백되면 이벤트도 남지 않음)
+ * - 전송 : 커밋 이후 이 서버의 구독자에게 전송하고, InvalidationBus 로 다른 서버에도 알려 각 서버가 자기 구독자에게 DB 에서 조회해 전송합니다.
+ * - 재연결 : SSE id 가 seq 이므로 브라우저가 보내는 Last-Event-ID 이후의 이벤트부터 다시 전송합니다.
+ * - heartbeat : 주기적으로 주석을 보내 연결을 유지하고, 그 전에 놓친 이벤트가 있는지 DB 를 다시 확인합니다. (다른 서버 알림이 유실되어도 한 주기 안에 전송)
+ *
+ * 전송은 크기가 정해진 스레드 풀(orderFeed.sendThreads)에서 처리하고, 구독자마다 작업 큐를 따로 두어 한 구독자의 작업은 한 번에 하나씩 실행합니다.
+ * - 구독자마다 마지막으로 보낸 seq 이후의 이벤트를 조회해 자기 작업 순서대로 전송하므로 같은 이벤트를 두 번 보내거나 순서가 바뀌지 않습니다.
+ * - 응답을 늦게 읽는 구독자는 자기 작업만 밀리고, 다른 가게/구독자의 전송과 heartbeat 는 막지 않습니다.
+ * - 쓰기가 orderFeed.sendTimeoutMs 안에 끝나지 않는 구독자는 구독을 해제하고 연결을 종료합니다. (브라우저는 Last-Event-ID 로 재연결)
+ *   막힌 쓰기는 컨테이너의 쓰기 제한 시간(server.tomcat.connection-timeout)이 지나야 실패하므로, 그동안 전송 스레드를 하나 더 두어
+ *   막힌 구독자 수와 관계없이 다른 구독자의 전송이 계속되도록 합니다.
+ */
+@Slf4j
+@Service
+public class OrderFeedService {
+
+    private static final long NO_EVENT = 0L;
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderEventSequenceRepository orderEventSequenceRepository;
+    private final InvalidationBus invalidationBus;
+    private final TransactionTemplate newTransactionTemplate; // 가게의 첫 이벤트 번호 행 생성
+    private final long emitterTimeoutMs;
+    private final int batchSize;
+    private final long sendTimeoutNanos;
+
+    // 가게 ID → 이 서버에 연결된 구독자
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sendExecutor;
+    private final ExecutorService closeExecutor; // 해제한 구독자의 연결 종료 (쓰기가 끝날 때까지 기다리므로 전송 스레드와 분리)
+    private final int sendThreads;
+    private int blockedSendThreads; // 해제한 구독자의 쓰기에 막혀 있는 전송 스레드 수 (sendExecutor 로 동기화)
+
+    private final Counter sentCounter; // 전송한 이벤트 수
+    private final Counter droppedCounter; // 쓰기 제한 시간을 넘어 해제한 구독자 수
+
+    public OrderFeedService(OrderEventRepository orderEventRepository,
+                            OrderEventSequenceRepository orderEventSequenceRepository,
+                            InvalidationBus invalidationBus,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${orderFeed.emitterTimeoutMs:1800000}") long emitterTimeoutMs,
+                            @Value("${orderFeed.batchSize:100}") int batchSize,
+                            @Value("${orderFeed.sendThreads:8}") int sendThreads,
+                            @Value("${orderFeed.sendTimeoutMs:10000}") long sendTimeoutMs) {
+        this.orderEventRepository = orderEventRepository;
+        this.orderEventSequenceRepository = orderEventSequenceRepository;
+        this.invalidationBus = invalidationBus;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.batchSize = batchSize;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.sendThreads = sendThreads;
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory("order-feed-"));
+        this.closeExecutor = Executors.newCachedThreadPool(threadFactory("order-feed-close-"));
+        this.sentCounter = Counter.builder("order.feed.events.sent")
+                .description("Number of order feed events sent to SSE subscribers")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("order.feed.subscribers.dropped")
+                .description("Number of SSE subscribers dropped because a write did not finish in time")
+                .register(meterRegistry);
+        Gauge.builder("order.feed.subscribers", subscribers, map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("Number of SSE subscribers connected to this node")
+                .register(meterRegistry);
+
+        // 다른 서버에서 커밋된 이벤트 알림 (key : storeId)
+        invalidationBus.subscribe(InvalidationTopic.ORDER_FEED, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                deliver(UUID.fromString(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                subscribers.keySet().forEach(OrderFeedService.this::deliver);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+        closeExecutor.shutdownNow();
+        subscribers.values().forEach(storeSubscribers -> storeSubscribers.forEach(subscriber -> subscriber.emitter().complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * 주문 이벤트 기록 (주문을 변경하는 트랜잭션 안에서 호출, 커밋 이후 구독자에게 전송)
+     */
+    @Transactional
+    public void append(Order order, OrderEventType type) {
+        append(order.getStores().getStoreId(), order.getOrderId(), order.getOrderStatus(), type);
+    }
+
+    /**
+     * 주문 이벤트 기록 (벌크 UPDATE 등으로 엔티티 상태가 반영되지 않은 경우 변경된 상태를 직접 전달)
+     *
+     * 가게의 이벤트 번호 행을 커밋할 때까지 잠그므로 주문 변경의 마지막에 호출해야 합니다.
+     */
+    @Transactional
+    public void append(UUID storeId, UUID orderId, OrderStatus orderStatus, OrderEventType type) {
+        long seq = nextSeq(storeId);
+        orderEventRepository.save(OrderEvent.builder()
+                .storeId(storeId)
+                .seq(seq)
+                .orderId(orderId)
+                .type(type)
+                .orderStatus(orderStatus)
+                .createdAt(Instant.now())
+                .build());
+
+        invalidationBus.publish(InvalidationTopic.ORDER_FEED, storeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(storeId);
+                }
+            });
+        } else {
+            deliver(storeId);
+        }
+    }
+
+    /**
+     * 가게 주문 피드 구독
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (없거나 숫자가 아니면 지금 이후의 이벤트만 전송)
+     */
+    public SseEmitter subscribe(UUID storeId, String lastEventId) {
+        long lastSeq = parseLastEventId(lastEventId)
+                .orElseGet(() -> orderEventSequenceRepository.findLastSeq(storeId).orElse(NO_EVENT));
+
+        SseEmitter emitter = createEmitter(storeId);
+        Subscriber subscriber = new Subscriber(storeId, emitter);
+        subscriber.lastSeq = lastSeq;
+
+        subscribers.computeIfAbsent(storeId, key -> new CopyOnWriteArraySet<>()).add(subscriber);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        // 연결 직후 응답 헤더를 바로 보내고, 재연결이면 놓친 이벤트 전송
+        enqueue(subscriber, () -> send(subscriber, SseEmitter.event().comment("connected")));
+        catchUp(subscriber);
+        return emitter;
+    }
+
+    protected SseEmitter createEmitter(UUID storeId) {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    /**
+     * 가게의 새 이벤트를 이 서버의 구독자에게 전송 (비동기, 구독자마다 이미 전송 대기 중이면 합침)
+     */
+    public void deliver(UUID storeId) {
+        Set<Subscriber> storeSubscribers = subscribers.get(storeId);
+        if (storeSubscribers != null) {
+            storeSubscribers.forEach(this::catchUp);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${orderFeed.heartbeatIntervalMs:15000}",
+            fixedDelayString = "${orderFeed.heartbeatIntervalMs:15000}")
+    public void heartbeat() {
+        try {
+            long now = System.nanoTime();
+            subscribers.values().forEach(storeSubscribers -> storeSubscribers.forEach(subscriber -> {
+                if (subscriber.isWriteTimedOut(now, sendTimeoutNanos)) {
+                    drop(subscriber);
+                    return;
+                }
+                // 밀린 작업이 있으면 연결이 유지되고 있으므로 heartbeat 는 생략
+                if (subscriber.tasks.isEmpty()) {
+                    enqueue(subscriber, () -> send(subscriber, SseEmitter.event().comment("heartbeat")));
+                }
+                catchUp(subscriber);
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Order feed heartbeat failed : {}", e.getMessage());
+        }
+    }
+
+    // 구독자가 아직 받지 않은 이벤트 조회 작업 추가 (이미 대기 중인 조회가 있으면 합침)
+    private void catchUp(Subscriber subscriber) {
+        if (subscriber.catchUpPending.compareAndSet(false, true)) {
+            enqueue(subscriber, () -> {
+                subscriber.catchUpPending.set(false);
+                sendNewEvents(subscriber);
+            });
+        }
+    }
+
+    // 구독자가 마지막으로 받은 seq 이후의 이벤트를 순서대로 전송
+    private void sendNewEvents(Subscriber subscriber) {
+        List<OrderEvent> events;
+        do {
+            events = orderEventRepository.findByStoreIdAndSeqGreaterThanOrderBySeqAsc(subscriber.storeId(), subscriber.lastSeq,
+                    PageRequest.of(0, batchSize));
+            for (OrderEvent event : events) {
+                if (!send(subscriber, toSseEvent(event))) {
+                    return;
+                }
+                subscriber.lastSeq = event.getSeq();
+                sentCounter.increment();
+            }
+        } while (events.size() == batchSize);
+    }
+
+    private static SseEmitter.SseEventBuilder toSseEvent(OrderEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getSeq()))
+                .name(event.getType().name())
+                .data(OrderEventDto.from(event), MediaType.APPLICATION_JSON);
+    }
+
+    // 전송 실패 (연결 끊김) 시 구독 해제
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return false;
+        }
+        subscriber.writeStartedAt = System.nanoTime();
+        subscriber.writing = true;
+        try {
+            subscriber.emitter().send(event);
+            return !subscriber.closed;
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return false;
+        } finally {
+            subscriber.writing = false;
+            if (subscriber.blockingSendThread.compareAndSet(true, false)) {
+                resizeSendExecutor(-1);
+            }
+        }
+    }
+
+    /**
+     * 쓰기가 제한 시간 안에 끝나지 않은 구독자 해제
+     *
+     * 1. 더 이상 작업을 주지 않고, 막힌 쓰기가 끝나는 동안 전송 스레드를 하나 더 둠 (쓰기가 끝나면 send 에서 되돌림)
+     * 2. 연결 종료 요청 : emitter 는 쓰기 중인 스레드가 잡고 있으므로 별도 스레드에서 완료 처리
+     *    (컨테이너 쓰기 제한 시간으로 쓰기가 실패하거나, 늦게라도 끝나면 바로 연결 종료)
+     */
+    private void drop(Subscriber subscriber) {
+        close(subscriber);
+        if (subscriber.blockingSendThread.compareAndSet(false, true)) {
+            resizeSendExecutor(1);
+            // 그 사이 쓰기가 끝났으면 바로 되돌림 (send 와 둘 중 한 곳에서만 되돌림)
+            if (!subscriber.writing && subscriber.blockingSendThread.compareAndSet(true, false)) {
+                resizeSendExecutor(-1);
+            }
+        }
+        try {
+            closeExecutor.execute(() -> subscriber.emitter().completeWithError(
+                    new IOException("Order feed write did not finish in time")));
+        } catch (RejectedExecutionException ignored) {
+            // 종료 중
+        }
+        droppedCounter.increment();
+        log.warn("Order feed subscriber dropped (store {}) : write did not finish in time", subscriber.storeId());
+    }
+
+    private void resizeSendExecutor(int delta) {
+        synchronized (sendExecutor) {
+            blockedSendThreads += delta;
+            int poolSize = sendThreads + Math.max(0, blockedSendThreads);
+            // 늘릴 때는 최대 크기 먼저, 줄일 때는 기본 크기 먼저 변경 (core <= max 유지)
+            if (delta > 0) {
+                sendExecutor.setMaximumPoolSize(poolSize);
+                sendExecutor.setCorePoolSize(poolSize);
+            } else {
+                sendExecutor.setCorePoolSize(poolSize);
+                sendExecutor.setMaximumPoolSize(poolSize);
+            }
+        }
+    }
+
+    // 가게의 첫 이벤트면 번호 행을 별도 트랜잭션으로 생성 (동시에 생성되면 먼저 생성된 행 사용)
+    private long nextSeq(UUID storeId) {
+        if (orderEventSequenceRepository.increment(storeId) == 0) {
+            try {
+                newTransactionTemplate.executeWithoutResult(status ->
+                        orderEventSequenceRepository.saveAndFlush(new OrderEventSequence(storeId, NO_EVENT)));
+            } catch (DataIntegrityViolationException ignored) {
+            }
+            orderEventSequenceRepository.increment(storeId);
+        }
+        return orderEventSequenceRepository.findLastSeq(storeId)
+                .orElseThrow(() -> new IllegalStateException("주문 이벤트 번호를 생성하지 못했습니다."));
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.tasks.clear();
+        subscribers.computeIfPresent(subscriber.storeId(), (storeId, storeSubscribers) -> {
+            storeSubscribers.remove(subscriber);
+            return storeSubscribers.isEmpty() ? null : storeSubscribers;
+        });
+    }
+
+    private void enqueue(Subscriber subscriber, Runnable task) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.tasks.add(task);
+        schedule(subscriber);
+    }
+
+    // 실행 중인 작업이 없을 때만 스레드 풀에 제출 (한 구독자의 작업은 동시에 하나만 실행)
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.tasks.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException ignored) {
+            // 종료 중
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Runnable task;
+        while (!subscriber.closed && (task = subscriber.tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Order feed delivery failed : {}", e.getMessage());
+            }
+        }
+        subscriber.draining.set(false);
+        // 마지막 확인 이후에 추가된 작업
+        schedule(subscriber);
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // 브라우저가 자동으로 보내는 헤더이므로 잘못된 값은 오류로 처리하지 않고 무시
+    private static Optional<Long> parseLastEventId(String lastEventId) {
+        if (lastEventId == null) {
+            return Optional.empty();
+        }
+        try {
+            long seq = Long.parseLong(lastEventId.trim());
+            return seq >= 0 ? Optional.of(seq) : Optional.empty();
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed Last-Event-ID : {}", lastEventId);
+            return Optional.empty();
+        }
+    }
+
+    // 구독자 (lastSeq 는 자기 작업 안에서만 변경)
+    private static final class Subscriber {
+        private final UUID storeId;
+        private final SseEmitter emitter;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean catchUpPending = new AtomicBoolean();
+        private final AtomicBoolean blockingSendThread = new AtomicBoolean(); // 해제 후에도 쓰기에 막혀 전송 스레드를 하나 더 둔 상태
+        private volatile long lastSeq;
+        private volatile long writeStartedAt;
+        private volatile boolean writing;
+        private volatile boolean closed;
+
+        private Subscriber(UUID storeId, SseEmitter emitter) {
+            this.storeId = storeId;
+            this.emitter = emitter;
+        }
+
+        UUID storeId() {
+            return storeId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        boolean isWriteTimedOut(long now, long timeoutNanos) {
+            return writing && now - writeStartedAt > timeoutNanos;
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.sparta.delivery.domain.order.service;
 
-import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.global.exception.custom.OrderNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.CursorSlice;
+import com.sparta.delivery.domain.common.KeysetCursor;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
 import com.sparta.delivery.domain.order.dto.*;
 import com.sparta.delivery.domain.order.entity.Order;
-import com.sparta.delivery.domain.order.entity.QOrder;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
@@ -15,61 +17,65 @@ import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
 import com.sparta.delivery.domain.product.entity.Product;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
 import com.sparta.delivery.domain.product.service.ProductService;
-import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
-import com.sparta.delivery.domain.review.entity.Review;
-import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
     private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final DeliveryAddressRepository deliveryAddressRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
-    private final ReviewRepository reviewRepository;
 
     private final ProductService productService;
+    private final InventoryReservationService inventoryReservationService;
+    private final StoreRankingService storeRankingService;
+    private final OrderFeedService orderFeedService;
 
+    @Transactional
     public Order createOrder(OrderRequestDto requestDto, String username) {
         try {
-            User user = getUser(username);
+            User user = currentUserResolver.getReference(getUser(username));
             DeliveryAddress deliveryAddress = null;
             if(requestDto.getOrderType() == OrderType.DELIVERY) {
                 deliveryAddress = getDeliveryAddress(requestDto.getDeliveryAddressId());
             }
             Stores store = getStores(requestDto.getStoreId());
-            List<Product> productList = getProductList(requestDto.getProductId());
-            List<OrderProduct> orderProductList = new ArrayList<>();
+            Map<UUID, Integer> quantities = requestDto.toProductQuantityMap();
+            List<Product> productList = getProductList(quantities, store);
 
             Order order = requestDto.toOrder(store, deliveryAddress, user);
-            for(Product product : productList) {
-                if(product.getStore().getStoreId() != store.getStoreId()) {
-                    throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
-                }
-                //주문 상품 수량 -1
-                productService.updateProductQuantity(product, -1);
-                orderProductList.add(new OrderProduct(order, product));
-            }
-            order.setOrderProductList(orderProductList);
-            return orderRepository.save(order);
+            order.setOrderProductList(toOrderProductList(order, productList, quantities));
+            Order savedOrder = orderRepository.save(order);
+
+            //주문 상품 수량만큼 재고 예약 (재고 부족 시 예외, 주문 저장도 롤백)
+            inventoryReservationService.reserve(savedOrder.getOrderId(), quantities);
+            orderFeedService.append(savedOrder, OrderEventType.CREATED);
+            return savedOrder;
         }
         catch (Exception e) {
             throw e;
@@ -85,45 +91,20 @@ public class OrderService {
 
     public Page<OrderListResponseWithReviewDto> getUserOrderList(String username, PageRequest pageable, List<UUID> storeIdList, List<UUID> deliveryAddressIdList) {
         try {
-            User user = getUser(username);
-
-            List<Stores> storeList = new ArrayList<>();
-            for(UUID storeId : storeIdList)
-                storeList.add(getStores(storeId));
-
-            List<DeliveryAddress> deliveryAddressList = new ArrayList<>();
-            for(UUID deliveryAddressId : deliveryAddressIdList)
-                deliveryAddressList.add(getDeliveryAddress(deliveryAddressId));
-
-            QOrder qOrder = QOrder.order;
-
-            BooleanBuilder builder = new BooleanBuilder();
-            builder.and(qOrder.user.eq(user));
-            builder.and(qOrder.deletedAt.isNull());
-
-            if(!storeList.isEmpty() && storeList != null) {
-                builder.and(qOrder.stores.in(storeList));
-            }
-            if(!deliveryAddressList.isEmpty() && deliveryAddressList != null) {
-                builder.and(qOrder.deliveryAddress.in(deliveryAddressList));
-            }
+            ResolvedUser user = getUser(username);
 
-            Page<Order> userOrderList = orderRepository.findAll(builder, pageable);
+            //주문 + 리뷰를 한 번의 조회로 가져옴 (가게, 배달지 조건은 ID 로 필터링)
+            Page<OrderListResponseWithReviewDto> userOrderList = orderRepository.findUserOrderListWithReview(
+                    user.userId(), storeIdList, deliveryAddressIdList, pageable);
 
             if(userOrderList.isEmpty()) {
-                if(storeList.isEmpty() && deliveryAddressList.isEmpty())
+                if(storeIdList.isEmpty() && deliveryAddressIdList.isEmpty())
                     throw new OrderNotFoundException("주문 내역이 없습니다.");
 
                 throw new OrderNotFoundException("조건에 해당하는 주문이 없습니다.");
             }
 
-            //가게 고유값으로 호출하면 리뷰까지 같이.
-            return userOrderList.map(order -> {
-                Review review = reviewRepository.findByOrder(order).orElse(null);
-                ReviewResponseDto reviewDto = (review != null) ? review.toResponseDto() : null;
-
-                return order.toResponseListDto(reviewDto);
-            });
+            return userOrderList;
         } catch (Exception e) {
             throw e;
         }
@@ -131,10 +112,10 @@ public class OrderService {
 
     public Page<OrderListResponseDto> getStoreOrderList(UUID storeId, Pageable pageable, String username) {
         try {
-            User owner  = getUser(username);
+            ResolvedUser owner = getUser(username);
             Stores store = getStores(storeId);
 
-            if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+            if(owner.role() == UserRoles.ROLE_OWNER && !owner.userId().equals(store.getUser().getUserId())) {
                 throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
             }
             Page<Order> storeOrderList = orderRepository.findAllByStoresAndDeletedAtIsNull(store, pageable);
@@ -148,25 +129,69 @@ public class OrderService {
         }
     }
 
+    /**
+     * 가게 주문을 커서 기반으로 조회 (최신순, OFFSET / count 쿼리 없음)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<OrderListResponseDto> getStoreOrderListByCursor(UUID storeId, String cursor, int size, String username) {
+        ResolvedUser owner = getUser(username);
+        Stores store = getStores(storeId);
+
+        if(owner.role() == UserRoles.ROLE_OWNER && !owner.userId().equals(store.getUser().getUserId())) {
+            throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<Order> storeOrderList = orderRepository.findStoreOrdersByCursor(storeId, keysetCursor, size + 1);
+
+        if(storeOrderList.isEmpty() && keysetCursor == null) {
+            throw new OrderNotFoundException("해당 가게에 존재하는 주문건이 없습니다.");
+        }
+        return CursorSlice.of(storeOrderList, size,
+                order -> new KeysetCursor(order.getCreatedAt(), order.getOrderId()), Order::toResponseListDto);
+    }
+
+    /**
+     * 가게 주문 피드 구독 (SSE, 가게 주문 조회와 같은 권한 확인)
+     *
+     * @param lastEventId 재연결 시 Last-Event-ID 헤더 (이후의 이벤트부터 다시 전송)
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeStoreOrders(UUID storeId, String lastEventId, String username) {
+        ResolvedUser owner = getUser(username);
+        Stores store = getStores(storeId);
+
+        if(owner.role() == UserRoles.ROLE_OWNER && !owner.userId().equals(store.getUser().getUserId())) {
+            throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
+        }
+        return orderFeedService.subscribe(storeId, lastEventId);
+    }
+
     @Transactional
     public Order deleteOrder(UUID orderId, String username) {
         try {
-            User user = getUser(username);
-            Order order = getUserOrder(orderId, user);
+            ResolvedUser user = getUser(username);
+            Order order = getUserOrderForUpdate(orderId, user);
 
             //주문 시간으로부터 5분 이내일때만 취소 가능
             LocalDateTime now = LocalDateTime.now();
             if(Duration.between(order.getOrderTime(), now).toMinutes() <= Long.valueOf(5)) {
-                //주문 취소 상품 수량 + 1
-                for(OrderProduct product : order.getOrderProductList()) {
-                    productService.updateProductQuantity(product.getProduct(), 1);
-                }
+                //주문 취소 상품 수량만큼 재고 복구
+                restoreStock(order);
 
+                if (order.getOrderStatus().isPaid()) {
+                    storeRankingService.addPaidOrders(order.getStores().getStoreId(), -1);
+                }
                 order.setOrderStatus(OrderStatus.ORDER_CANCEL);
                 order.setDeletedAt(now);
                 order.setDeletedBy(username);
 
-                return orderRepository.save(order);
+                Order deletedOrder = orderRepository.save(order);
+                orderFeedService.append(deletedOrder, OrderEventType.CANCELLED);
+                return deletedOrder;
             }
             else {
                 throw new OrderModificationNotAllowedException("주문 취소 가능 시간이 지났습니다.");
@@ -179,14 +204,15 @@ public class OrderService {
     @Transactional
     public OrderResponseDto updateOrder(OrderRequestDto requestDto, UUID orderId, String username) {
         try {
-            User user = getUser(username);
+            ResolvedUser user = getUser(username);
             DeliveryAddress deliveryAddress = null;
             if(requestDto.getOrderType() == OrderType.DELIVERY) {
                 deliveryAddress = getDeliveryAddress(requestDto.getDeliveryAddressId());
             }
             Stores store = getStores(requestDto.getStoreId());
-            List<Product> productList = getProductList(requestDto.getProductId());
-            Order order = getUserOrder(orderId, user);
+            Map<UUID, Integer> quantities = requestDto.toProductQuantityMap();
+            List<Product> productList = getProductList(quantities, store);
+            Order order = getUserOrderForUpdate(orderId, user);
 
             //결제 전일 때 주문 변경 가능
             //취소 주문건은 위에서 걸러 옴
@@ -196,22 +222,11 @@ public class OrderService {
                 order.setRequirements(requestDto.getRequirements());
                 order.setDeliveryAddress(deliveryAddress);
 
-                //주문 취소 상품 수량 +1
-                for(OrderProduct product : order.getOrderProductList()) {
-                    productService.updateProductQuantity(product.getProduct(), 1);
-                }
-
-                //주문 상품 수량 -1
-                List<OrderProduct> orderProductList = new ArrayList<>();
-                for(Product product : productList) {
-                    if(product.getStore().getStoreId() != store.getStoreId()) {
-                        throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
-                    }
+                //기존 주문 상품 재고 복구 후 변경된 주문 상품 재고 예약
+                restoreStock(order);
+                inventoryReservationService.reserve(order.getOrderId(), quantities);
 
-                    productService.updateProductQuantity(product, -1);
-                    orderProductList.add(new OrderProduct(order, product));
-                }
-                order.updateOrderProductList(orderProductList);
+                order.updateOrderProductList(toOrderProductList(order, productList, quantities));
             }
             else {
                 throw new OrderModificationNotAllowedException("결제 이후 주문 변경은 불가능합니다.");
@@ -228,16 +243,22 @@ public class OrderService {
     @Transactional
     public OrderResponseDto updateOrderStatus(UUID orderId, String username, OrderStatusRequestDto requestDto) {
         try {
-            User owner = getUser(username);
+            ResolvedUser owner = getUser(username);
             Order order = getOrder(orderId);
             Stores store = getStores(order.getStores().getStoreId());
 
-            if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+            if(owner.role() == UserRoles.ROLE_OWNER && !owner.userId().equals(store.getUser().getUserId())) {
                 throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 주문 상태를 수정할 수 없습니다.");
             }
 
+            OrderStatus previousStatus = order.getOrderStatus();
             order.setOrderStatus(requestDto.getUpdateStatus());
             orderRepository.save(order);
+            // 결제 완료 상태에서 취소되거나 다시 결제 완료 상태가 되면 판매량 변경
+            storeRankingService.addPaidOrders(store.getStoreId(),
+                    (requestDto.getUpdateStatus().isPaid() ? 1 : 0) - (previousStatus.isPaid() ? 1 : 0));
+            orderFeedService.append(order, requestDto.getUpdateStatus() == OrderStatus.ORDER_CANCEL
+                    ? OrderEventType.CANCELLED : OrderEventType.STATUS_CHANGED);
 
             return order.toResponseDto();
 
@@ -246,8 +267,10 @@ public class OrderService {
         }
     }
 
-    private Order getUserOrder(UUID orderId, User user) {
-        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, user)
+    //주문 행을 잠근 뒤 조회 (결제 대기 만료 스케줄러가 같은 주문의 재고 예약을 동시에 해제하지 않도록)
+    private Order getUserOrderForUpdate(UUID orderId, ResolvedUser user) {
+        return orderRepository.findByOrderIdForUpdate(orderId)
+                .filter(order -> order.getUser().getUserId().equals(user.userId()))
                 .orElseThrow(() -> new UserOrderNotFoundException("해당 유저에 존재하지 않거나 취소된 주문입니다."));
     }
 
@@ -256,8 +279,8 @@ public class OrderService {
                 .orElseThrow(() -> new UserOrderNotFoundException("존재하지 않는 주문입니다."));
     }
 
-    private User getUser(String username) {
-        return userRepository.findByUsernameAndDeletedAtIsNull(username)
+    private ResolvedUser getUser(String username) {
+        return currentUserResolver.resolve(username)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
     }
 
@@ -271,19 +294,52 @@ public class OrderService {
                 .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
     }
 
-    private List<Product> getProductList(List<UUID> productIdList) {
-        List<Product> productList = new ArrayList<>();
-        if(productIdList.size() == 0) {
+    //주문 상품을 IN 쿼리 한 번으로 조회하고, 모두 해당 가게의 상품인지 검증
+    private List<Product> getProductList(Map<UUID, Integer> quantities, Stores store) {
+        if(quantities.isEmpty()) {
             throw new ProductSelectionRequiredException ("1개 이상의 상품을 선택해야합니다.");
         }
-        else {
-            for (UUID productId : productIdList) {
-                Product product = productRepository.findByProductIdAndDeletedAtIsNullAndHiddenFalse(productId)
-                        .orElseThrow(() -> new ProductNotFoundException("존재하지 않거나 품절된 상품입니다."));
 
-                productList.add(product);
+        Map<UUID, Product> productMap = productRepository.findAllByProductIdInAndDeletedAtIsNullAndHiddenFalse(quantities.keySet())
+                .stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        List<Product> productList = new ArrayList<>();
+        for (UUID productId : quantities.keySet()) {
+            Product product = productMap.get(productId);
+            if(product == null) {
+                throw new ProductNotFoundException("존재하지 않거나 품절된 상품입니다.");
+            }
+            if(!product.getStore().getStoreId().equals(store.getStoreId())) {
+                throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
             }
+            productList.add(product);
         }
         return productList;
     }
+
+    private List<OrderProduct> toOrderProductList(Order order, List<Product> productList, Map<UUID, Integer> quantities) {
+        List<OrderProduct> orderProductList = new ArrayList<>();
+        for(Product product : productList) {
+            orderProductList.add(new OrderProduct(order, product, quantities.get(product.getProductId())));
+        }
+        return orderProductList;
+    }
+
+    //재고 예약을 해제하여 재고 복구. 예약이 확정된 결제 완료 주문만 주문 상품 수량만큼 복구
+    //결제 대기 주문에 예약이 없으면 이미 만료 처리로 재고가 복구된 것이므로 복구하지 않음
+    private void restoreStock(Order order) {
+        if(!inventoryReservationService.release(order.getOrderId()) && order.getOrderStatus().isPaid()) {
+            productService.increaseProductQuantities(getOrderedQuantities(order));
+        }
+    }
+
+    //주문에 담긴 상품 ID 별 수량
+    private Map<UUID, Integer> getOrderedQuantities(Order order) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for(OrderProduct orderProduct : order.getOrderProductList()) {
+            quantities.merge(orderProduct.getProduct().getProductId(), orderProduct.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
 }
@@ -86,6 +86,48 @@ public @interface OrderSwaggerDocs {
     )
     @interface getStoreOrder {}
 
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 주문 커서 조회", description = "가게의 주문을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @Parameters({
+            @Parameter(name = "storeId", description = "주문을 조회할 가게의 UUID", example = "f47ac10b-58cc-4372-a567-0e02b2c3d479"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "403", description = "가게의 주인이 아님"),
+            @ApiResponse(responseCode = "404", description = "주문이 존재하지 않거나 가게 ID가 잘못됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @Parameter(
+            name = "Authorization",
+            description = "새로운 엑세스 토큰 (응답 헤더에서 반환)",
+            required = false
+    )
+    @interface getStoreOrderByCursor {}
+
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 주문 실시간 구독 (SSE)", description = "가게의 주문 등록(CREATED) / 상태 변경(STATUS_CHANGED) / 취소(CANCELLED) 이벤트를 SSE 로 전송합니다. 이벤트 id 는 가게별 순번이며, 재연결 시 Last-Event-ID 이후의 이벤트부터 다시 전송합니다.")
+    @Parameters({
+            @Parameter(name = "storeId", description = "구독할 가게의 UUID", example = "f47ac10b-58cc-4372-a567-0e02b2c3d479"),
+            @Parameter(name = "Last-Event-ID", description = "마지막으로 받은 이벤트 id (첫 연결은 생략, 이후 이벤트만 전송)")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 Last-Event-ID"),
+            @ApiResponse(responseCode = "403", description = "가게의 주인이 아님"),
+            @ApiResponse(responseCode = "404", description = "가게 ID가 잘못됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @Parameter(
+            name = "Authorization",
+            description = "새로운 엑세스 토큰 (응답 헤더에서 반환)",
+            required = false
+    )
+    @interface getStoreOrderStream {}
+
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "주문 삭제", description = "주문을 삭제합니다.")
@@ -4,6 +4,7 @@ import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
@@ -19,16 +20,26 @@ public class OrderProduct {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID orderProductId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderId", nullable = false)
     private Order order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "productId", nullable = false)
     private Product product;
 
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int quantity = 1;
+
     public OrderProduct(Order order, Product product) {
+        this(order, product, 1);
+    }
+
+    public OrderProduct(Order order, Product product, int quantity) {
         this.order = order;
         this.product = product;
+        this.quantity = quantity;
     }
 }
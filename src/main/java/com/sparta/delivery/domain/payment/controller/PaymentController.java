@@ -1,6 +1,9 @@
 package com.sparta.delivery.domain.payment.controller;
 
+import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.idempotency.enums.IdempotentOperation;
+import com.sparta.delivery.domain.idempotency.service.IdempotencyService;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
@@ -23,12 +26,18 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PageableConfig pageableConfig;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "결제")
+    @Operation(summary = "결제", description = "Idempotency-Key 헤더를 보내면 같은 키의 재시도는 결제를 다시 처리하지 않고 처음 응답을 반환")
     @PostMapping
-    public ResponseEntity<?> requestPayment(@RequestBody RegisterPaymentDto registerPaymentDto, @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        paymentService.isRegisterPayment(registerPaymentDto, principalDetails.getUsername());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<?> requestPayment(@RequestBody RegisterPaymentDto registerPaymentDto,
+                                            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                            @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return idempotencyService.execute(idempotencyKey, principalDetails.getUsername(), IdempotentOperation.PAYMENT_REGISTER, registerPaymentDto, () -> {
+            paymentService.isRegisterPayment(registerPaymentDto, principalDetails.getUsername());
+            return ResponseEntity.ok().build();
+        });
     }
 
     @Operation(summary = "결제 내역 조회")
@@ -39,13 +48,21 @@ public class PaymentController {
 
     @Operation(summary = "결제 내역 리스트 조회")
     @GetMapping("/payments")
-    public ResponseEntity<?> getPayments(@AuthenticationPrincipal PrincipalDetails principalDetails) {
-        return ResponseEntity.ok().body(paymentService.getPayments(principalDetails.getUsername()));
+    public ResponseEntity<?> getPayments(@RequestParam(name = "cursor", required = false) String cursor,
+                                         @RequestParam(name = "size", required = false) Integer size,
+                                         @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        int pageSize = pageableConfig.resolveCursorPageSize(size);
+        return ResponseEntity.ok().body(paymentService.getPayments(principalDetails.getUsername(), cursor, pageSize));
     }
 
-    @Operation(summary = "결제 내역 검색")
+    @Operation(summary = "결제 내역 검색", description = "sortBy : createdAt(기본값), amount / slice=true 이면 전체 건수 없이 다음 페이지 존재 여부만 반환")
     @GetMapping("/search")
     public ResponseEntity<?> searchPayments(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(defaultValue = "false") boolean slice,
             @RequestParam(required = false) Integer minAmount,
             @RequestParam(required = false) Integer maxAmount,
             @RequestParam(required = false) OrderStatus orderStatus,
@@ -55,7 +72,9 @@ public class PaymentController {
             @AuthenticationPrincipal PrincipalDetails principalDetails
     ) {
         SearchDto searchDto = new SearchDto(minAmount, maxAmount, orderStatus, orderType, paymentTime, cardCompany);
-        return ResponseEntity.ok().body(paymentService.searchPayments(searchDto, principalDetails.getUsername()));
+        int pageSize = pageableConfig.resolveCursorPageSize(size);
+        return ResponseEntity.ok().body(paymentService.searchPayments(searchDto, principalDetails.getUsername(),
+                page, pageSize, sortBy, order, !slice));
     }
 
     @Operation(summary = "결제 내역 삭제")
@@ -20,4 +20,5 @@ public class PaymentDto {
     private OrderType orderType;
     private OrderStatus orderStatus;
     private String requirements;
+    private LocalDateTime paidAt; // 결제 일시 (결제 내역 커서 기준)
 }
@@ -17,22 +17,31 @@ import java.util.UUID;
 @Getter
 @Builder
 @Setter
-@Table(name = "p_payment")
+@Table(name = "p_payment", indexes = {
+        // 사용자 결제 내역 커서 조회
+        @Index(name = "idx_payment_user_created_at", columnList = "user_id, created_at, payment_id"),
+        // 사용자 결제 내역 금액 범위 검색 / 금액순 정렬
+        @Index(name = "idx_payment_user_amount", columnList = "user_id, amount, payment_id")
+})
+@NamedEntityGraph(name = Payment.VIEW_GRAPH, attributeNodes = @NamedAttributeNode("order"))
 public class Payment extends Timestamped {
+    // 결제 내역 조회용 (결제 + 주문)
+    public static final String VIEW_GRAPH = "Payment.view";
+
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID paymentId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "card_id")
     private Card card;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private Order order;
 
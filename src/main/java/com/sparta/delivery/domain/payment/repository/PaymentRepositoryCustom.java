@@ -1,8 +1,29 @@
 package com.sparta.delivery.domain.payment.repository;
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
-import com.sparta.delivery.domain.payment.entity.Payment;
+import com.sparta.delivery.domain.payment.entity.QPayment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
 import java.util.List;
+import java.util.UUID;
 
 public interface PaymentRepositoryCustom {
-    List<Payment> searchPayments(SearchDto searchDto, String username);
+
+    // 결제 내역 검색에서 허용하는 정렬 기준 (사용자별 복합 인덱스 사용)
+    SortSpec SORT_SPEC = SortSpec.builder(QPayment.payment, QPayment.payment.paymentId)
+            .key("createdAt", QPayment.payment.createdAt, "idx_payment_user_created_at")
+            .key("amount", QPayment.payment.amount, "idx_payment_user_amount")
+            .defaultSort("createdAt", Sort.Direction.DESC)
+            .build();
+
+    Page<PaymentDto> searchPayments(SearchDto searchDto, UUID userId, Pageable pageable);
+
+    Slice<PaymentDto> searchPaymentSlice(SearchDto searchDto, UUID userId, Pageable pageable);
+
+    List<PaymentDto> findPaymentHistory(UUID userId, KeysetCursor cursor, int limit);
 }
@@ -1,29 +1,114 @@
 package com.sparta.delivery.domain.payment.repository;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
-import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.entity.QPayment;
 import com.sparta.delivery.domain.order.entity.QOrder;
-import com.sparta.delivery.domain.card.entity.QCard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.UUID;
 @Repository
 @RequiredArgsConstructor
 public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
     private final JPAQueryFactory queryFactory;
 
+    private final QPayment payment = QPayment.payment;
+    private final QOrder order = QOrder.order;
+
+    /**
+     * 결제 내역 검색 (페이지 + 전체 건수)
+     *
+     * 사용자 조건이 항상 포함되므로 정렬 기준에 맞는 (user_id, created_at) / (user_id, amount) 인덱스로 요청한 페이지만 조회합니다.
+     * 첫 페이지의 결과가 페이지 크기보다 작으면 count 쿼리는 생략됩니다. (PageableExecutionUtils)
+     *
+     * @param pageable 정렬은 SORT_SPEC 으로 검증된 Sort
+     */
     @Override
-    public List<Payment> searchPayments(SearchDto searchDto, String username) {
-        QPayment payment = QPayment.payment;
-        QOrder order = QOrder.order;
-        QCard card = QCard.card;
+    public Page<PaymentDto> searchPayments(SearchDto searchDto, UUID userId, Pageable pageable) {
+        BooleanBuilder condition = searchCondition(searchDto, userId);
+
+        List<PaymentDto> content = searchQuery(condition, pageable)
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(payment.count())
+                .from(payment)
+                .join(payment.order, order)
+                .where(condition);
 
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 결제 내역 검색 (count 쿼리 없이 다음 페이지 존재 여부만 반환)
+     *
+     * 페이지 크기 + 1 건을 조회해 다음 페이지 존재 여부를 판단합니다. (전체 건수가 많은 사용자도 조회 비용이 페이지 크기에 비례)
+     */
+    @Override
+    public Slice<PaymentDto> searchPaymentSlice(SearchDto searchDto, UUID userId, Pageable pageable) {
+        List<PaymentDto> content = searchQuery(searchCondition(searchDto, userId), pageable)
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * 사용자 결제 내역을 커서 기반으로 조회 (최신순, 결제 + 주문을 한 번의 쿼리로 PaymentDto 로 변환)
+     *
+     * @param cursor 마지막으로 조회한 결제의 위치 (첫 페이지는 null)
+     */
+    @Override
+    public List<PaymentDto> findPaymentHistory(UUID userId, KeysetCursor cursor, int limit) {
+        return queryFactory
+                .select(paymentDto())
+                .from(payment)
+                .join(payment.order, order)
+                .where(
+                        payment.user.userId.eq(userId),
+                        payment.deletedAt.isNull(),
+                        order.deletedAt.isNull(),
+                        KeysetCursor.after(cursor, payment.createdAt, payment.paymentId)
+                )
+                .orderBy(payment.createdAt.desc(), payment.paymentId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<PaymentDto> searchQuery(BooleanBuilder condition, Pageable pageable) {
+        return queryFactory
+                .select(paymentDto())
+                .from(payment)
+                .join(payment.order, order)
+                .where(condition)
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset());
+    }
+
+    private BooleanBuilder searchCondition(SearchDto searchDto, UUID userId) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        builder.and(payment.user.username.eq(username));
+        builder.and(payment.user.userId.eq(userId));
+        builder.and(payment.deletedAt.isNull());
+        builder.and(order.deletedAt.isNull());
+
+        if (searchDto == null) {
+            return builder;
+        }
 
         // 최소 금액 설정
         if (searchDto.getMinAmount() != null) {
@@ -37,12 +122,12 @@ public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
 
         // 주문 상태 설정
         if (searchDto.getOrderStatus() != null) {
-            builder.and(payment.order.orderStatus.eq(searchDto.getOrderStatus()));
+            builder.and(order.orderStatus.eq(searchDto.getOrderStatus()));
         }
 
         // 주문 타입 설정
         if (searchDto.getOrderType() != null) {
-            builder.and(payment.order.orderType.eq(searchDto.getOrderType()));
+            builder.and(order.orderType.eq(searchDto.getOrderType()));
         }
 
         // 결제 시간 설정
@@ -55,11 +140,18 @@ public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
             builder.and(payment.card.cardCompany.eq(searchDto.getCardCompany()));
         }
 
-        return queryFactory
-                .selectFrom(payment)
-                .leftJoin(payment.order, order).fetchJoin()
-                .leftJoin(payment.card, card).fetchJoin()
-                .where(builder)
-                .fetch();
+        return builder;
+    }
+
+    private ConstructorExpression<PaymentDto> paymentDto() {
+        return Projections.constructor(PaymentDto.class,
+                payment.paymentId,
+                payment.amount,
+                order.orderId,
+                order.orderTime,
+                order.orderType,
+                order.orderStatus,
+                order.requirements,
+                payment.createdAt);
     }
 }
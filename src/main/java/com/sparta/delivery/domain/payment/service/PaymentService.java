@@ -3,24 +3,34 @@ package com.sparta.delivery.domain.payment.service;
 import com.sparta.delivery.config.global.exception.custom.PaymentAlreadyCompletedException;
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.common.CursorSlice;
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
 import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderFeedService;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -28,19 +38,27 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final CardRepository cardRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final OrderRepository orderRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final StoreRankingService storeRankingService;
+    private final OrderFeedService orderFeedService;
 
     @Transactional
     public void isRegisterPayment(RegisterPaymentDto registerPaymentDto, String username) {
         Card card = getCard(registerPaymentDto.getCardId(), username);
-        Order order = getOrder(registerPaymentDto.getOrderId());
-        User user = undeletedUser(username);
+        // 결제 대기 만료 스케줄러와 동시에 처리되지 않도록 주문 행을 잠그고 상태 확인
+        Order order = orderRepository.findByOrderIdForUpdate(registerPaymentDto.getOrderId())
+                .orElseThrow(() -> new NullPointerException("주문이 존재하지 않습니다"));
+        User user = currentUserResolver.getReference(undeletedUser(username));
 
         if(!order.getOrderStatus().equals(OrderStatus.PAYMENT_WAIT)){
             throw new PaymentAlreadyCompletedException("이미 결제된 주문입니다.");
         }
         order.setOrderStatus(OrderStatus.PAYMENT_COMPLETE);
+        storeRankingService.addPaidOrders(order.getStores().getStoreId(), 1);
+        //결제 완료된 주문의 재고 예약 확정
+        inventoryReservationService.confirm(order.getOrderId());
         try {
             paymentRepository.save(Payment.builder()
                     .user(user)
@@ -51,13 +69,14 @@ public class PaymentService {
         } catch (Exception ignored) {
 
         }
+        orderFeedService.append(order, OrderEventType.STATUS_CHANGED);
     }
 
     public PaymentDto getPayment(UUID paymentId,String username) {
         Payment payment = paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,username).orElseThrow(()
                 -> new NullPointerException("결제 내역이 존재하지 않습니다."));
         Order order = getOrder(payment.getOrder().getOrderId());
-        User user = undeletedUser(username);
+        undeletedUser(username);
 
         PaymentDto paymentDto = PaymentDto.builder()
                 .paymentId(paymentId)
@@ -67,40 +86,52 @@ public class PaymentService {
                 .orderType(order.getOrderType())
                 .orderStatus(order.getOrderStatus())
                 .requirements(order.getRequirements())
+                .paidAt(payment.getCreatedAt())
                 .build();
         return paymentDto;
     }
 
-    public List<PaymentDto> getPayments(String username) {
-        User user = undeletedUser(username);
-        List<PaymentDto> paymentDtos = new ArrayList<>();
-
-        List<Payment> payments = paymentRepository.findByUser_UsernameAndDeletedAtIsNull(username);
-        for (Payment payment : payments) {
-            paymentDtos.add(getPayment(payment.getPaymentId(),username));
-        }
-
-        return paymentDtos;
+    /**
+     * 결제 내역을 커서 기반으로 조회 (최신순)
+     *
+     * 결제 + 주문을 한 번의 쿼리로 조회하므로 내역 건수와 관계없이 실행되는 쿼리 수가 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<PaymentDto> getPayments(String username, String cursor, int size) {
+        ResolvedUser user = undeletedUser(username);
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<PaymentDto> payments = paymentRepository.findPaymentHistory(user.userId(), keysetCursor, size + 1);
+
+        return CursorSlice.of(payments, size,
+                payment -> new KeysetCursor(payment.getPaidAt(), payment.getPaymentId()), Function.identity());
     }
 
-    public List<PaymentDto> searchPayments(SearchDto searchDto, String username) {
-        User user = undeletedUser(username);
-        List<Payment> payments = paymentRepository.searchPayments(searchDto, username);
-        return payments.stream().map(payment -> PaymentDto.builder()
-                .paymentId(payment.getPaymentId())
-                .amount(payment.getAmount())
-                .orderId(payment.getOrder().getOrderId())
-                .orderTime(payment.getOrder().getOrderTime())
-                .orderType(payment.getOrder().getOrderType())
-                .orderStatus(payment.getOrder().getOrderStatus())
-                .requirements(payment.getOrder().getRequirements())
-                .build()).toList();
+    /**
+     * 결제 내역 검색
+     *
+     * @param sortBy    정렬 키 (createdAt, amount / 없으면 최신순)
+     * @param withCount false 이면 count 쿼리 없이 다음 페이지 존재 여부만 반환 (Slice)
+     */
+    @Transactional(readOnly = true)
+    public Slice<PaymentDto> searchPayments(SearchDto searchDto, String username, int page, int size,
+                                            String sortBy, String order, boolean withCount) {
+        ResolvedUser user = undeletedUser(username);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), size, PaymentRepository.SORT_SPEC.toSort(sortBy, order));
+
+        if (withCount) {
+            return paymentRepository.searchPayments(searchDto, user.userId(), pageable);
+        }
+        return paymentRepository.searchPaymentSlice(searchDto, user.userId(), pageable);
     }
 
 
     @Transactional
     public void deletePayment(UUID paymentId, String username) {
-        User user = undeletedUser(username);
+        undeletedUser(username);
         Payment payment = paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,username).orElseThrow(() ->
                 new NullPointerException("결제 정보가 존재하지 않습니다."));
         try {
@@ -111,8 +142,8 @@ public class PaymentService {
         }
     }
 
-    private User undeletedUser(String username){
-        return userRepository.findByUsernameAndDeletedAtIsNull(username).orElseThrow(() ->
+    private ResolvedUser undeletedUser(String username){
+        return currentUserResolver.resolve(username).orElseThrow(() ->
                 new NullPointerException("유저가 존재하지 않습니다."));
     }
 
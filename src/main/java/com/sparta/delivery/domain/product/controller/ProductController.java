@@ -1,11 +1,14 @@
 package com.sparta.delivery.domain.product.controller;
 
+import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.common.CursorSlice;
 import com.sparta.delivery.domain.product.dto.ProductRequestDto;
 import com.sparta.delivery.domain.product.dto.ProductResponseDto;
 import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
 import com.sparta.delivery.domain.product.service.ProductService;
 import com.sparta.delivery.domain.product.swagger.ProductSwaggerDocs;
+import com.sparta.delivery.domain.search.service.RelevancePaging;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,7 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final PageableConfig pageableConfig;
 
     @ProductSwaggerDocs.AddProductToStore
     @PostMapping("/stores/{storeId}")
@@ -53,6 +57,14 @@ public class ProductController {
         return ResponseEntity.ok(storeProducts);
     }
 
+    @ProductSwaggerDocs.GetStoreProductsByCursor
+    @GetMapping("/stores/{storeId}/cursor")
+    public ResponseEntity<CursorSlice<ProductResponseDto>> getStoreProductsByCursor(@PathVariable UUID storeId, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal PrincipalDetails userDetails) {
+        int pageSize = pageableConfig.resolveCursorPageSize(size);
+        CursorSlice<ProductResponseDto> storeProducts = productService.getStoreProductsByCursor(storeId, cursor, pageSize, userDetails);
+        return ResponseEntity.ok(storeProducts);
+    }
+
     @ProductSwaggerDocs.UpdateProduct
     @PatchMapping("/{productId}")
     public ResponseEntity<ProductResponseDto> updateProduct(@PathVariable UUID productId, @Valid @RequestBody ProductUpdateRequestDto productUpdateRequestDto, @AuthenticationPrincipal PrincipalDetails userDetails) {
@@ -69,7 +81,7 @@ public class ProductController {
 
     @ProductSwaggerDocs.SearchProduct
     @GetMapping("search/{productName}")
-    public ResponseEntity<Page<ProductResponseDto>> searchProduct(@PathVariable String productName, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "desc") String order, @AuthenticationPrincipal PrincipalDetails userDetails) {
+    public ResponseEntity<Page<ProductResponseDto>> searchProduct(@PathVariable String productName, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = RelevancePaging.RELEVANCE) String sortBy, @RequestParam(defaultValue = "desc") String order, @AuthenticationPrincipal PrincipalDetails userDetails) {
         Page<ProductResponseDto> searchProducts = productService.searchProducts(productName, page, size, sortBy, order, userDetails);
         return ResponseEntity.ok(searchProducts);
     }
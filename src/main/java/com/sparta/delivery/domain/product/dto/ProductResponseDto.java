@@ -35,4 +35,16 @@ public class ProductResponseDto {
                 .storeId(product.getStore().getStoreId())
                 .build();
     }
+
+    public static ProductResponseDto from(ProductView product) {
+        return ProductResponseDto.builder()
+                .productId(product.productId())
+                .name(product.name())
+                .description(product.description())
+                .price(product.price())
+                .quantity(product.quantity())
+                .hidden(product.hidden())
+                .storeId(product.storeId())
+                .build();
+    }
 }
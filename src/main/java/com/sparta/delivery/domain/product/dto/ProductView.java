@@ -0,0 +1,10 @@
+package com.sparta.delivery.domain.product.dto;
+
+import java.util.UUID;
+
+/**
+ * 상품 목록 조회용 read model (영속성 컨텍스트를 거치지 않는 projection 결과)
+ */
+public record ProductView(UUID productId, String name, String description, int price, int quantity,
+                          boolean hidden, UUID storeId) {
+}
@@ -5,6 +5,8 @@ import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
 import com.sparta.delivery.domain.store.entity.Stores;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,7 +17,16 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_product")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
+@Table(name = "p_product", indexes = {
+        // 스토어 상품 커서 조회
+        @Index(name = "idx_product_store_created_at", columnList = "store_id, created_at, product_id"),
+        // 상품 목록/검색 정렬 (ProductRepositoryCustom.SORT_SPEC)
+        @Index(name = "idx_product_created_at", columnList = "created_at, product_id"),
+        @Index(name = "idx_product_name", columnList = "name, product_id"),
+        @Index(name = "idx_product_price", columnList = "price, product_id")
+})
 public class Product extends Timestamped {
 
     @Id
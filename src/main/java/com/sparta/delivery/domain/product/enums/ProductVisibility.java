@@ -0,0 +1,37 @@
+package com.sparta.delivery.domain.product.enums;
+
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 권한별 상품 조회 범위
+ */
+public enum ProductVisibility {
+    ALL,            // 삭제/숨김 상품 포함 (마스터, 매니저)
+    NOT_DELETED,    // 삭제되지 않은 상품 (가게 주인)
+    VISIBLE;        // 삭제/숨김 처리되지 않은 상품 (고객)
+
+    public static ProductVisibility of(UserRoles role) {
+        if (role == UserRoles.ROLE_MASTER || role == UserRoles.ROLE_MANAGER) {
+            return ALL;
+        }
+        if (role == UserRoles.ROLE_OWNER) {
+            return NOT_DELETED;
+        }
+        return VISIBLE;
+    }
+
+    /**
+     * 조회 범위에 포함되는 검색 색인 공개 범위
+     */
+    public Set<SearchVisibility> searchVisibilities() {
+        return switch (this) {
+            case ALL -> EnumSet.allOf(SearchVisibility.class);
+            case NOT_DELETED -> EnumSet.of(SearchVisibility.PUBLIC, SearchVisibility.HIDDEN);
+            case VISIBLE -> EnumSet.of(SearchVisibility.PUBLIC);
+        };
+    }
+}
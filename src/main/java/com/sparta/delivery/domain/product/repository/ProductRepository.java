@@ -1,26 +1,29 @@
 package com.sparta.delivery.domain.product.repository;
 
 import com.sparta.delivery.domain.product.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductRepositoryCustom {
 
     boolean existsByNameAndStore_StoreIdAndDeletedAtIsNull(String name, UUID storeId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Product> findByProductIdAndDeletedAtIsNullAndHiddenFalse(UUID productId);
 
-    Optional<Product> findByProductIdAndDeletedAtIsNull(UUID productId);
-
-    Page<Product> findAllByNameContaining(String productName, Pageable pageable);
+    List<Product> findAllByProductIdInAndDeletedAtIsNullAndHiddenFalse(Collection<UUID> productIds);
 
-    Page<Product> findAllByNameContainingAndDeletedAtIsNull(String productName, Pageable pageable);
-
-    Page<Product> findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(String productName, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Product> findByProductIdAndDeletedAtIsNull(UUID productId);
 
     Page<Product> findByDeletedAtIsNullAndHiddenFalse(Pageable pageable);
 
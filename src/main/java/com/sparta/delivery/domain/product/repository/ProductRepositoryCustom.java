@@ -0,0 +1,46 @@
+package com.sparta.delivery.domain.product.repository;
+
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.product.dto.ProductView;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.entity.QProduct;
+import com.sparta.delivery.domain.product.enums.ProductVisibility;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductRepositoryCustom {
+
+    // 상품 목록/검색에서 허용하는 정렬 기준
+    SortSpec SORT_SPEC = SortSpec.builder(QProduct.product, QProduct.product.productId)
+            .key("createdAt", QProduct.product.createdAt, "idx_product_created_at")
+            .key("name", QProduct.product.name, "idx_product_name")
+            .key("price", QProduct.product.price, "idx_product_price")
+            .defaultSort("createdAt", Sort.Direction.DESC)
+            .build();
+
+    long decreaseQuantities(Map<UUID, Integer> quantities);
+
+    long increaseQuantities(Map<UUID, Integer> quantities);
+
+    Page<ProductView> findProductViews(boolean visibleOnly, Pageable pageable);
+
+    List<Product> findStoreProductsByCursor(UUID storeId, boolean visibleOnly, KeysetCursor cursor, int limit);
+
+    Page<ProductView> searchProducts(Collection<UUID> productIds, ProductVisibility visibility, Pageable pageable);
+
+    Page<ProductView> searchProductsByKeyword(String keyword, ProductVisibility visibility, Pageable pageable);
+
+    List<UUID> findSearchableProductIds(Collection<UUID> productIds, ProductVisibility visibility);
+
+    List<ProductView> findProductViewsByIds(Collection<UUID> productIds);
+
+    List<SearchDocument> findSearchDocuments();
+}
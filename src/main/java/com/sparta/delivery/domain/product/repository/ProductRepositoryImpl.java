@@ -0,0 +1,240 @@
+package com.sparta.delivery.domain.product.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.common.QuerydslSortUtils;
+import com.sparta.delivery.domain.product.dto.ProductView;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.entity.QProduct;
+import com.sparta.delivery.domain.product.enums.ProductVisibility;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 상품 재고 일괄 변경 및 목록 projection 조회
+ *
+ * 여러 상품의 재고를 UPDATE 한 번으로 변경합니다. (상품별 수량은 CASE 식으로 지정)
+ * 벌크 연산이므로 영속성 컨텍스트에 이미 로딩된 Product 의 quantity 는 갱신되지 않습니다.
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QProduct product = QProduct.product;
+
+    /**
+     * 재고가 충분한 상품만 차감 (quantity >= 주문 수량 조건)
+     *
+     * @param quantities 상품 ID 별 차감할 수량
+     * @return 차감된 상품 수 (quantities 크기보다 작으면 재고가 부족한 상품이 있음)
+     */
+    public long decreaseQuantities(Map<UUID, Integer> quantities) {
+        NumberExpression<Integer> amount = amountOf(quantities);
+
+        return jpaQueryFactory.update(product)
+                .set(product.quantity, product.quantity.subtract(amount))
+                .where(
+                        product.productId.in(quantities.keySet()),
+                        product.quantity.goe(amount),
+                        product.deletedAt.isNull(),
+                        product.hidden.isFalse()
+                )
+                .execute();
+    }
+
+    /**
+     * 재고 복구 (주문 취소/변경)
+     *
+     * @param quantities 상품 ID 별 복구할 수량
+     * @return 복구된 상품 수
+     */
+    public long increaseQuantities(Map<UUID, Integer> quantities) {
+        return jpaQueryFactory.update(product)
+                .set(product.quantity, product.quantity.add(amountOf(quantities)))
+                .where(product.productId.in(quantities.keySet()))
+                .execute();
+    }
+
+    /**
+     * 상품 목록을 read model 로 조회 (가게는 join 하지 않고 FK 값만 조회)
+     *
+     * @param visibleOnly true 이면 삭제/숨김 처리되지 않은 상품만 조회
+     */
+    public Page<ProductView> findProductViews(boolean visibleOnly, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (visibleOnly) {
+            builder.and(product.deletedAt.isNull());
+            builder.and(product.hidden.isFalse());
+        }
+
+        List<ProductView> content = jpaQueryFactory
+                .select(productView())
+                .from(product)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(product.count())
+                .from(product)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 스토어 상품을 커서 기반으로 조회 (최신순)
+     *
+     * @param visibleOnly true 이면 삭제/숨김 처리되지 않은 상품만 조회
+     * @param cursor      마지막으로 조회한 상품의 위치 (첫 페이지는 null)
+     */
+    public List<Product> findStoreProductsByCursor(UUID storeId, boolean visibleOnly, KeysetCursor cursor, int limit) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(product.store.storeId.eq(storeId));
+        if (visibleOnly) {
+            builder.and(product.deletedAt.isNull());
+            builder.and(product.hidden.isFalse());
+        }
+
+        return jpaQueryFactory
+                .selectFrom(product)
+                .where(builder, KeysetCursor.after(cursor, product.createdAt, product.productId))
+                .orderBy(product.createdAt.desc(), product.productId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 검색 색인 후보로 상품을 검색 (정렬은 Pageable 의 Sort 를 그대로 적용)
+     *
+     * @param productIds 검색 색인에서 찾은 상품 ID
+     */
+    public Page<ProductView> searchProducts(Collection<UUID> productIds, ProductVisibility visibility, Pageable pageable) {
+        BooleanBuilder builder = visibilityOf(visibility).and(product.productId.in(productIds));
+
+        List<ProductView> content = jpaQueryFactory
+                .select(productView())
+                .from(product)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(product.count())
+                .from(product)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 상품 이름 LIKE 검색 (검색 색인의 결과가 search.maxHits 를 넘는 경우)
+     *
+     * 정렬 조건이 없으면 관련도 순으로 정렬합니다.
+     */
+    public Page<ProductView> searchProductsByKeyword(String keyword, ProductVisibility visibility, Pageable pageable) {
+        BooleanBuilder builder = visibilityOf(visibility).and(QuerydslSortUtils.keywordMatches(product.name, keyword));
+
+        List<ProductView> content = jpaQueryFactory
+                .select(productView())
+                .from(product)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(pageable.getSort().isUnsorted()
+                        ? QuerydslSortUtils.keywordRelevance(product.name, keyword, product.productId)
+                        : SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(product.count())
+                .from(product)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 검색 색인 후보 중 조회 범위에 포함되는 상품 ID 조회 (관련도 순 검색 시 사용)
+     */
+    public List<UUID> findSearchableProductIds(Collection<UUID> productIds, ProductVisibility visibility) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(product.productId)
+                .from(product)
+                .where(visibilityOf(visibility).and(product.productId.in(productIds)))
+                .fetch();
+    }
+
+    public List<ProductView> findProductViewsByIds(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(productView())
+                .from(product)
+                .where(product.productId.in(productIds))
+                .fetch();
+    }
+
+    /**
+     * 검색 색인 적재용 (상품 ID, 이름, 공개 범위)
+     *
+     * 마스터/매니저는 삭제된 상품도 검색하므로 모든 상품을 색인하고, 삭제/숨김 여부는 공개 범위로 저장해 색인에서 거릅니다.
+     */
+    public List<SearchDocument> findSearchDocuments() {
+        return jpaQueryFactory
+                .select(Projections.constructor(SearchDocument.class, product.productId, product.name, product.deletedAt, product.hidden))
+                .from(product)
+                .fetch();
+    }
+
+    private BooleanBuilder visibilityOf(ProductVisibility visibility) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (visibility != ProductVisibility.ALL) {
+            builder.and(product.deletedAt.isNull());
+        }
+        if (visibility == ProductVisibility.VISIBLE) {
+            builder.and(product.hidden.isFalse());
+        }
+        return builder;
+    }
+
+    private ConstructorExpression<ProductView> productView() {
+        return Projections.constructor(ProductView.class,
+                product.productId, product.name, product.description, product.price, product.quantity,
+                product.hidden, product.store.storeId);
+    }
+
+    // CASE WHEN productId = ? THEN ? ... ELSE 0 END
+    private NumberExpression<Integer> amountOf(Map<UUID, Integer> quantities) {
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+
+        for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+            cases = (cases == null)
+                    ? new CaseBuilder().when(product.productId.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(product.productId.eq(entry.getKey())).then(entry.getValue());
+        }
+        return cases.otherwise(0);
+    }
+}
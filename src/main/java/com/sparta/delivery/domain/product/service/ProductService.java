@@ -2,22 +2,32 @@ package com.sparta.delivery.domain.product.service;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.CatalogCacheEvictor;
+import com.sparta.delivery.domain.common.CursorSlice;
+import com.sparta.delivery.domain.common.KeysetCursor;
 import com.sparta.delivery.domain.product.dto.ProductRequestDto;
 import com.sparta.delivery.domain.product.dto.ProductResponseDto;
 import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
+import com.sparta.delivery.domain.product.dto.ProductView;
 import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.enums.ProductVisibility;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
+import com.sparta.delivery.domain.search.service.RelevancePaging;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -26,6 +36,8 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
+    private final SearchIndex searchIndex;
+    private final CatalogCacheEvictor catalogCacheEvictor;
     private static final List<Integer> ALLOWED_PAGE_SIZES = List.of(10, 30, 50);
     private static final int DEFAULT_PAGE_SIZE = 10;
 
@@ -39,6 +51,8 @@ public class ProductService {
 
         try {
             Product savedProduct = productRepository.save(product);
+            searchIndex.index(SearchDocumentType.PRODUCT, savedProduct.getProductId(), savedProduct.getName(),
+                    SearchVisibility.of(savedProduct.getDeletedAt(), savedProduct.isHidden()));
             return ProductResponseDto.from(savedProduct);
         } catch (Exception e) {
             throw new RuntimeException("상품 등록 중 알 수 없는 오류가 발생했습니다.", e);
@@ -60,20 +74,19 @@ public class ProductService {
         return ProductResponseDto.from(product);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProductResponseDto> getAllProducts(int page, int size, String sortBy, String order, PrincipalDetails userDetails) {
         if (!ALLOWED_PAGE_SIZES.contains(size)) {   // 허용된 페이지 사이즈가 아닌 경우, 기본 페이지 사이즈로 설정
             size = DEFAULT_PAGE_SIZE;
         }
 
-        Sort.Direction direction = order.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, ProductRepository.SORT_SPEC.toSort(sortBy, order));
 
         if (userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER)) {
-            return productRepository.findAll(pageable).map(ProductResponseDto::from);
+            return productRepository.findProductViews(false, pageable).map(ProductResponseDto::from);
         }
 
-        return productRepository.findByDeletedAtIsNullAndHiddenFalse(pageable).map(ProductResponseDto::from);
+        return productRepository.findProductViews(true, pageable).map(ProductResponseDto::from);
     }
 
     public Page<ProductResponseDto> getStoreProducts(UUID storeId, int page, int size, String sortBy, String order, PrincipalDetails userDetails) {
@@ -85,9 +98,7 @@ public class ProductService {
             size = DEFAULT_PAGE_SIZE;
         }
 
-        Sort.Direction direction = order.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, ProductRepository.SORT_SPEC.toSort(sortBy, order));
 
 
         if (userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER)) {
@@ -97,6 +108,27 @@ public class ProductService {
         return productRepository.findAllByStore_StoreIdAndDeletedAtIsNullAndHiddenFalse(storeId, pageable).map(ProductResponseDto::from);
     }
 
+    /**
+     * 스토어 상품을 커서 기반으로 조회 (최신순, OFFSET / count 쿼리 없음)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ProductResponseDto> getStoreProductsByCursor(UUID storeId, String cursor, int size, PrincipalDetails userDetails) {
+        if (!storeRepository.existsByStoreIdAndDeletedAtIsNull(storeId)) {
+            throw new StoreNotFoundException("해당 스토어를 찾을 수 없습니다.");
+        }
+
+        // 마스터/매니저는 숨김 및 삭제 상품까지 조회
+        boolean visibleOnly = !(userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER));
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<Product> productList = productRepository.findStoreProductsByCursor(storeId, visibleOnly, KeysetCursor.decode(cursor), size + 1);
+
+        return CursorSlice.of(productList, size,
+                product -> new KeysetCursor(product.getCreatedAt(), product.getProductId()), ProductResponseDto::from);
+    }
+
     @Transactional
     public ProductResponseDto updateProduct(UUID productId, ProductUpdateRequestDto productUpdateRequestDto,  PrincipalDetails userDetails) {
         Product product = productRepository.findById(productId).orElseThrow(() -> new ProductNotFoundException("해당 상품을 찾을 수 없습니다."));
@@ -108,6 +140,9 @@ public class ProductService {
         }
 
         product.update(productUpdateRequestDto);
+        searchIndex.index(SearchDocumentType.PRODUCT, product.getProductId(), product.getName(),
+                SearchVisibility.of(product.getDeletedAt(), product.isHidden()));
+        catalogCacheEvictor.evictProduct(product.getProductId());
 
         return ProductResponseDto.from(product);
     }
@@ -127,6 +162,9 @@ public class ProductService {
         }
 
         product.softDelete(userDetails.getUsername());
+        catalogCacheEvictor.evictProduct(product.getProductId());
+        // 마스터/매니저는 삭제된 상품도 검색하므로 검색 색인에서 제거하지 않고 공개 범위만 변경
+        searchIndex.index(SearchDocumentType.PRODUCT, product.getProductId(), product.getName(), SearchVisibility.DELETED);
 
         return ProductResponseDto.from(product);
     }
@@ -141,32 +179,76 @@ public class ProductService {
         return new AuthorizationResult(isStoreOwner, isAdmin);
     }
 
+    /**
+     * 상품 이름 검색
+     *
+     * 이름은 검색 색인으로 권한별 조회 범위(삭제/숨김)에 포함되는 후보 상품 ID 를 찾고, 최신 상태는 DB 에서 다시 확인합니다.
+     * sortBy 가 relevance(기본값) 이면 색인의 관련도 순, 그 외에는 해당 컬럼 기준으로 DB 에서 정렬합니다.
+     * 일치하는 상품이 search.maxHits 를 넘으면 색인 결과로는 총 건수/정렬이 정확하지 않으므로 DB LIKE 검색으로 처리합니다.
+     */
+    @Transactional(readOnly = true)
     public Page<ProductResponseDto> searchProducts(String productName, int page, int size, String sortBy, String order, PrincipalDetails userDetails) {
         if (!ALLOWED_PAGE_SIZES.contains(size)) {   // 허용된 페이지 사이즈가 아닌 경우, 기본 페이지 사이즈로 설정
             size = DEFAULT_PAGE_SIZE;
         }
 
-        Sort.Direction direction = order.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        // 정렬 기준은 검색 전에 검증
+        boolean relevance = RelevancePaging.isRelevance(sortBy);
+        Pageable pageable = PageRequest.of(page, size, ProductRepository.SORT_SPEC.toSort(relevance ? null : sortBy, order));
 
-        if (userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER)) {
-            return productRepository.findAllByNameContaining(productName, pageable).map(ProductResponseDto::from);
+        ProductVisibility visibility = ProductVisibility.of(userDetails.getRole());
+        SearchHits hits = searchIndex.search(SearchDocumentType.PRODUCT, productName, visibility.searchVisibilities());
+        if (hits.isEmpty()) {
+            return Page.empty(PageRequest.of(page, size));
+        }
+        if (hits.useDatabase()) {
+            return productRepository.searchProductsByKeyword(productName.strip(), visibility, relevance ? PageRequest.of(page, size) : pageable)
+                    .map(ProductResponseDto::from);
         }
 
-        if (userDetails.getRole().equals(UserRoles.ROLE_OWNER)) {
-            return productRepository.findAllByNameContainingAndDeletedAtIsNull(productName, pageable).map(ProductResponseDto::from);
+        List<UUID> rankedIds = hits.ids();
+
+        if (relevance) {
+            return RelevancePaging.page(rankedIds, productRepository.findSearchableProductIds(rankedIds, visibility), PageRequest.of(page, size),
+                    productRepository::findProductViewsByIds, ProductView::productId).map(ProductResponseDto::from);
         }
 
-        return productRepository.findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(productName, pageable).map(ProductResponseDto::from);
+        return productRepository.searchProducts(rankedIds, visibility, pageable).map(ProductResponseDto::from);
     }
 
-    public void updateProductQuantity(Product product, int count) {
-        if(product.getQuantity() == 0 && count == -1)
+    /**
+     * 주문 상품 재고 일괄 차감
+     *
+     * 모든 상품의 재고가 주문 수량 이상일 때만 차감되어야 하므로, 차감된 상품 수가 주문 상품 수보다 적으면 예외를 던져 트랜잭션을 롤백합니다.
+     *
+     * @param quantities 상품 ID 별 주문 수량
+     * @throws ProductQuantityNotAllowedException 재고가 부족한 상품이 있는 경우
+     */
+    @Transactional
+    public void decreaseProductQuantities(Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        if (productRepository.decreaseQuantities(quantities) < quantities.size()) {
             throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
-        else {
-            product.setQuantity(product.getQuantity() + count);
-            productRepository.save(product);
         }
+        // 벌크 update 는 자기 서버의 상품 캐시만 비우므로 다른 서버에 알림 (재고만 바뀌므로 쿼리 캐시는 유지)
+        quantities.keySet().forEach(catalogCacheEvictor::evictProductStock);
+    }
+
+    /**
+     * 주문 취소/변경 시 상품 재고 일괄 복구
+     *
+     * @param quantities 상품 ID 별 복구할 수량
+     */
+    @Transactional
+    public void increaseProductQuantities(Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        productRepository.increaseQuantities(quantities);
+        quantities.keySet().forEach(catalogCacheEvictor::evictProductStock);
     }
 }
@@ -64,6 +64,22 @@ public @interface ProductSwaggerDocs {
     })
     @interface GetStoreProducts {}
 
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "스토어 상품 커서 조회", description = "특정 스토어의 상품 리스트를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @Parameters({
+            @Parameter(name = "storeId", description = "조회할 스토어의 UUID", example = "af2a560c-1512-4912-97ce-02f9afce72aa"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)"),
+            @Parameter(name = "size", description = "페이지 크기 (기본 10, 최대 50)", example = "10")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "해당 스토어가 존재하지 않음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @interface GetStoreProductsByCursor {}
+
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "상품 정보 수정", description = "상품의 정보를 수정합니다.")
@@ -96,8 +112,11 @@ public @interface ProductSwaggerDocs {
 
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "상품 검색", description = "키워드를 통해 상품을 검색합니다.")
-    @Parameter(name = "productName", description = "검색할 상품명")
+    @Operation(summary = "상품 검색", description = "키워드를 통해 상품을 검색합니다. (기본 정렬은 검색어 관련도 순)")
+    @Parameters({
+            @Parameter(name = "productName", description = "검색할 상품명"),
+            @Parameter(name = "sortBy", description = "정렬 기준 (relevance: 검색어 관련도 순(기본값), createdAt, name, price)", example = "relevance")
+    })
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공"),
             @ApiResponse(responseCode = "404", description = "상품이 존재하지 않음"),
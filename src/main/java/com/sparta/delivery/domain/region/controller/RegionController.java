@@ -5,11 +5,13 @@ import com.sparta.delivery.domain.region.dto.RegionReqDto;
 import com.sparta.delivery.domain.region.dto.RegionResDto;
 import com.sparta.delivery.domain.region.service.RegionService;
 import com.sparta.delivery.domain.region.swagger.RegionSwaggerDocs;
+import com.sparta.delivery.domain.search.service.RelevancePaging;
 import com.sparta.delivery.domain.store.swagger.StoreSwaggerDocs;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -49,19 +51,19 @@ public class RegionController {
 
     @RegionSwaggerDocs.RegionList
     @GetMapping("/{storeId}")
-    public ResponseEntity<?> regionList(@PathVariable UUID storeId, @PageableDefault(page = 0, size = 10, sort = {"createdAt", "updatedAt"}) Pageable pageable) {
+    public ResponseEntity<?> regionList(@PathVariable UUID storeId, @PageableDefault(page = 0, size = 10, sort = "createdAt") Pageable pageable) {
         return ResponseEntity.status(HttpStatus.OK).body(regionService.getRegionList(pageable, storeId));
     }
 
     @RegionSwaggerDocs.AllRegionList
     @GetMapping("")
-    public ResponseEntity<?> regionList(@PageableDefault(page = 0, size = 10, sort = {"createdAt", "updatedAt"}) Pageable pageable) {
+    public ResponseEntity<?> regionList(@PageableDefault(page = 0, size = 10, sort = "createdAt") Pageable pageable) {
         return ResponseEntity.status(HttpStatus.OK).body(regionService.getAllRegionList(pageable));
     }
 
     @GetMapping("/search")//운영 지역 검색
-    public ResponseEntity<List<RegionResDto>> regionSearch
-            (@RequestParam String keyword, @RequestParam(defaultValue = "createdAt") String sortBy,
+    public ResponseEntity<Page<RegionResDto>> regionSearch
+            (@RequestParam String keyword, @RequestParam(defaultValue = RelevancePaging.RELEVANCE) String sortBy,
              @RequestParam(defaultValue = "desc") String order, @PageableDefault(page = 0, size = 10) Pageable pageable) {
 
         return ResponseEntity.status(HttpStatus.OK).body(regionService.searchRegion(keyword, pageable, sortBy, order));
@@ -31,4 +31,8 @@ public class RegionListDto {
         this.storeId = region.getStores() != null ? region.getStores().getStoreId() : null; // storeId 값 설정
 
     }
+
+    public RegionListDto(RegionView region) {
+        this(region.storeId(), region.province(), region.city(), region.locality());
+    }
 }
@@ -30,4 +30,8 @@ public class RegionResDto {
         this.storeId = region.getStores() != null ? region.getStores().getStoreId() : null; // storeId 값 설정
 
     }
+
+    public RegionResDto(RegionView region) {
+        this(region.storeId(), region.province(), region.city(), region.locality());
+    }
 }
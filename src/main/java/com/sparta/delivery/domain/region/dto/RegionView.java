@@ -0,0 +1,9 @@
+package com.sparta.delivery.domain.region.dto;
+
+import java.util.UUID;
+
+/**
+ * 운영 지역 목록 조회용 read model (영속성 컨텍스트를 거치지 않는 projection 결과)
+ */
+public record RegionView(UUID regionId, UUID storeId, String province, String city, String locality) {
+}
@@ -4,6 +4,8 @@ import com.sparta.delivery.domain.common.Timestamped;
 import com.sparta.delivery.domain.store.entity.Stores;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
@@ -13,7 +15,13 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "p_region")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "regions")
+@Table(name = "p_region", indexes = {
+        // 운영 지역 목록/검색 정렬 (RegionRepositoryCustom.SORT_SPEC)
+        @Index(name = "idx_region_created_at", columnList = "created_at, region_id"),
+        @Index(name = "idx_region_locality", columnList = "locality, region_id")
+})
 public class Region extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
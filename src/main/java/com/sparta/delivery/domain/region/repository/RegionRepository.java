@@ -2,9 +2,12 @@ package com.sparta.delivery.domain.region.repository;
 
 import com.sparta.delivery.domain.region.entity.Region;
 import com.sparta.delivery.domain.store.entity.Stores;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +21,7 @@ public interface RegionRepository extends JpaRepository<Region, UUID>, RegionRep
 
     List<Region> findByLocalityContainingAndDeletedAtIsNull(String locality);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Region> findByRegionIdAndDeletedAtIsNull(UUID id);// 가게 단건검색
 
     Page<Region> findAllByDeletedAtIsNull(Pageable pageable);
@@ -1,11 +1,45 @@
 package com.sparta.delivery.domain.region.repository;
 
-import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.region.dto.RegionView;
+import com.sparta.delivery.domain.region.entity.QRegion;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public interface RegionRepositoryCustom {
 
-    List<Region> findByLocalityContainingAndDeletedAtIsNull(String locality, String sortBy, String order);
+    // 운영 지역 목록/검색에서 허용하는 정렬 기준
+    SortSpec SORT_SPEC = SortSpec.builder(QRegion.region, QRegion.region.regionId)
+            .key("createdAt", QRegion.region.createdAt, "idx_region_created_at")
+            .key("locality", QRegion.region.locality, "idx_region_locality")
+            .defaultSort("createdAt", Sort.Direction.DESC)
+            .build();
+
+    Page<RegionView> searchRegions(Collection<UUID> regionIds, Pageable pageable);
+
+    Page<RegionView> searchRegionsByKeyword(String keyword, Pageable pageable);
+
+    Page<RegionView> findRegionViews(Pageable pageable);
+
+    List<RegionView> findRegionViewsByStoreIds(Collection<UUID> storeIds);
+
+    List<UUID> findSearchableRegionIds(Collection<UUID> regionIds);
+
+    List<RegionView> findRegionViewsByIds(Collection<UUID> regionIds);
+
+    List<SearchDocument> findSearchDocuments();
+
+    /**
+     * 삭제되지 않은 운영 지역 (가게 순위 계산용)
+     *
+     * @param storeIds 가게 ID (null 이면 전체)
+     */
+    List<RegionView> findActiveRegionViews(Collection<UUID> storeIds);
 
 }
@@ -1,19 +1,22 @@
 package com.sparta.delivery.domain.region.repository;
 
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.QuerydslSortUtils;
+import com.sparta.delivery.domain.region.dto.RegionView;
 import com.sparta.delivery.domain.region.entity.QRegion;
-import com.sparta.delivery.domain.region.entity.Region;
-import com.sparta.delivery.domain.store.entity.QStores;
-import com.sparta.delivery.domain.store.entity.Stores;
-import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 public class RegionRepositoryImpl implements RegionRepositoryCustom{
@@ -21,30 +24,164 @@ public class RegionRepositoryImpl implements RegionRepositoryCustom{
     private final JPAQueryFactory jpaQueryFactory;
     private final QRegion region = QRegion.region;
 
-    public List<Region> findByLocalityContainingAndDeletedAtIsNull(String name, String sortBy, String order) {
-        JPAQuery<Region> query = jpaQueryFactory.selectFrom(region)
+    /**
+     * 검색 색인 후보로 운영 지역을 검색
+     *
+     * offset/limit 과 count 쿼리를 DB 에서 수행하므로 요청한 페이지의 행만 조회합니다.
+     * 첫 페이지의 결과가 페이지 크기보다 작으면 count 쿼리는 생략됩니다. (PageableExecutionUtils)
+     *
+     * @param regionIds 검색 색인에서 찾은 운영 지역 ID
+     * @param pageable  정렬은 SORT_SPEC 으로 검증된 Sort
+     */
+    public Page<RegionView> searchRegions(Collection<UUID> regionIds, Pageable pageable) {
+        JPAQuery<RegionView> query = jpaQueryFactory
+                .select(regionView())
+                .from(region)
                 .where(
-                        region.locality.contains(name),
+                        region.regionId.in(regionIds),
+                        region.deletedAt.isNull()
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()));
+
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(region.count())
+                .from(region)
+                .where(
+                        region.regionId.in(regionIds),
+                        region.deletedAt.isNull()
+                );
+
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 동 이름 LIKE 검색 (검색 색인의 결과가 search.maxHits 를 넘는 경우)
+     *
+     * 정렬 조건이 없으면 관련도 순으로 정렬합니다.
+     */
+    public Page<RegionView> searchRegionsByKeyword(String keyword, Pageable pageable) {
+        List<RegionView> content = jpaQueryFactory
+                .select(regionView())
+                .from(region)
+                .where(
+                        QuerydslSortUtils.keywordMatches(region.locality, keyword),
+                        region.deletedAt.isNull()
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(pageable.getSort().isUnsorted()
+                        ? QuerydslSortUtils.keywordRelevance(region.locality, keyword, region.regionId)
+                        : SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(region.count())
+                .from(region)
+                .where(
+                        QuerydslSortUtils.keywordMatches(region.locality, keyword),
                         region.deletedAt.isNull()
                 );
-        // 정렬 컬럼과 방향이 유효하다면 동적으로 정렬 적용
-        if (sortBy != null && !sortBy.isBlank()) {
-            // 정렬 방향 지정 (기본은 DESC)
-            Order sortOrder = "asc".equalsIgnoreCase(order) ? Order.ASC : Order.DESC;//querydsl Order, entityX
-
-            // PathBuilder를 이용하여 동적으로 컬럼을 지정
-            PathBuilder<Region> entityPath = new PathBuilder<>(Region.class, "region");
-
-            // Expressions.path()로 동적 정렬에 사용할 Expression 생성
-            query.orderBy(
-                    new OrderSpecifier<>(
-                            sortOrder,
-                            Expressions.comparablePath(Comparable.class, entityPath, sortBy)
-                    )
-            );
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 검색 색인 후보 중 삭제되지 않은 운영 지역 ID 조회 (관련도 순 검색 시 사용)
+     */
+    public List<UUID> findSearchableRegionIds(Collection<UUID> regionIds) {
+        if (regionIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(region.regionId)
+                .from(region)
+                .where(
+                        region.regionId.in(regionIds),
+                        region.deletedAt.isNull()
+                )
+                .fetch();
+    }
+
+    public List<RegionView> findRegionViewsByIds(Collection<UUID> regionIds) {
+        if (regionIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(regionView())
+                .from(region)
+                .where(region.regionId.in(regionIds))
+                .fetch();
+    }
+
+    /**
+     * 검색 색인 적재용 (삭제되지 않은 운영 지역의 ID, 동 이름)
+     */
+    public List<SearchDocument> findSearchDocuments() {
+        return jpaQueryFactory
+                .select(Projections.constructor(SearchDocument.class, region.regionId, region.locality))
+                .from(region)
+                .where(region.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * 삭제되지 않은 전체 운영 지역 목록을 read model 로 조회
+     *
+     * 가게는 join 하지 않고 FK(store_id) 값만 조회합니다.
+     */
+    public Page<RegionView> findRegionViews(Pageable pageable) {
+        List<RegionView> content = jpaQueryFactory
+                .select(regionView())
+                .from(region)
+                .where(region.deletedAt.isNull())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(region.count())
+                .from(region)
+                .where(region.deletedAt.isNull());
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 여러 가게의 운영 지역을 삭제되지 않은 운영 지역을 한 번의 IN 쿼리로 조회 (가게 목록 조회 시 사용)
+     */
+    public List<RegionView> findRegionViewsByStoreIds(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
         }
+        return jpaQueryFactory
+                .select(regionView())
+                .from(region)
+                .where(
+                        region.stores.storeId.in(storeIds),
+                        region.deletedAt.isNull()
+                )
+                .fetch();
+    }
+
+    private ConstructorExpression<RegionView> regionView() {
+        return Projections.constructor(RegionView.class,
+                region.regionId, region.stores.storeId, region.province, region.city, region.locality);
+    }
 
-        // 결과 조회
-        return query.fetch();
+    public List<RegionView> findActiveRegionViews(Collection<UUID> storeIds) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(region.deletedAt.isNull());
+        if (storeIds != null) {
+            builder.and(region.stores.storeId.in(storeIds));
+        }
+        return jpaQueryFactory
+                .select(regionView())
+                .from(region)
+                .where(builder)
+                .fetch();
     }
 }
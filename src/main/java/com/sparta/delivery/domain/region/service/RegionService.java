@@ -5,12 +5,19 @@ import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
 import com.sparta.delivery.config.global.exception.custom.RegionNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.UnauthorizedException;
+import com.sparta.delivery.domain.common.CatalogCacheEvictor;
 import com.sparta.delivery.domain.region.dto.RegionReqDto;
 import com.sparta.delivery.domain.region.dto.RegionResDto;
+import com.sparta.delivery.domain.region.dto.RegionView;
 import com.sparta.delivery.domain.region.entity.Region;
 import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
+import com.sparta.delivery.domain.search.service.RelevancePaging;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -37,6 +44,9 @@ public class RegionService {
 
     private final RegionRepository regionRepository;
     private final StoreRepository storeRepository;
+    private final SearchIndex searchIndex;
+    private final CatalogCacheEvictor catalogCacheEvictor;
+    private final StoreRankingService storeRankingService;
 
     @Transactional
     public RegionResDto regionCreate(RegionReqDto regionReqDto, PrincipalDetails userDetails) { //운영 지역 생성
@@ -52,14 +62,17 @@ public class RegionService {
         Stores store = storeRepository.findByStoreIdAndDeletedAtIsNull(regionReqDto.getStoreId()).orElseThrow(()
                 -> new StoreNotFoundException("존재하지 않는 가게입니다"));
         region.setStores(store);
-        return entityToResDto(regionRepository.save(region));
+        Region savedRegion = regionRepository.save(region);
+        searchIndex.index(SearchDocumentType.REGION, savedRegion.getRegionId(), savedRegion.getLocality());
+        storeRankingService.refresh(store.getStoreId());
+        return entityToResDto(savedRegion);
     }
 
     public Page<RegionResDto> getRegionList(Pageable pageable, UUID id) { //특정 가게 운영 지역 리스트 조회
         if (id == null) {
             throw new StoreNotFoundException("가게ID 정보가 없습니다.");
         }
-        Page<Region> regionList = regionRepository.findAllByStores_StoreIdAndDeletedAtIsNull(id, pageable);
+        Page<Region> regionList = regionRepository.findAllByStores_StoreIdAndDeletedAtIsNull(id, RegionRepository.SORT_SPEC.validate(pageable));
         if (regionList.isEmpty()) {
             throw new RegionNotFoundException("지역이 한개도 등록되어있지 않습니다.");
         }
@@ -67,8 +80,9 @@ public class RegionService {
 
     }
 
+    @Transactional(readOnly = true)
     public Page<RegionResDto> getAllRegionList(Pageable pageable) { //전체 운영 지역 리스트 조회
-        Page<Region> regionList = regionRepository.findAllByDeletedAtIsNull(pageable);
+        Page<RegionView> regionList = regionRepository.findRegionViews(RegionRepository.SORT_SPEC.validate(pageable));
         if (regionList.isEmpty()) {
             throw new RegionNotFoundException("지역이 한개도 등록되어있지 않습니다.");
         }
@@ -76,26 +90,45 @@ public class RegionService {
 
     }
 
-    public List<RegionResDto> searchRegion(String keyword, Pageable pageable, String sortBy, String order) { //운영 지역 검색(동 기준으로만검색됨)
-        List<Region> regionList = regionRepository.findByLocalityContainingAndDeletedAtIsNull(keyword, sortBy, order);
+    /**
+     * 운영 지역 검색
+     *
+     * 동 이름은 검색 색인으로 후보 ID 를 찾고, sortBy 가 relevance(기본값) 이면 관련도 순, 그 외에는 DB 에서 정렬합니다.
+     * 일치하는 지역이 search.maxHits 를 넘으면 DB LIKE 검색으로 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<RegionResDto> searchRegion(String keyword, Pageable pageable, String sortBy, String order) { //운영 지역 검색(동 기준으로만검색됨)
         List<Integer> Size_List = List.of(10, 20, 30);
-        if (regionList.isEmpty()) {
-            throw new RegionNotFoundException("지역이 한개도 등록되어있지 않습니다.");
-        }
         if (!Size_List.contains((pageable.getPageSize()))) {
             pageable = PageRequest.of(pageable.getPageNumber(), 10, pageable.getSort());
         }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), regionList.size());
-
-        if (regionList.isEmpty() || start >= regionList.size()) {
+        // 정렬 기준은 검색 전에 검증
+        boolean relevance = RelevancePaging.isRelevance(sortBy);
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                RegionRepository.SORT_SPEC.toSort(relevance ? null : sortBy, order));
+
+        SearchHits hits = searchIndex.search(SearchDocumentType.REGION, keyword);
+        List<UUID> rankedIds = hits.ids();
+        Page<RegionView> regionList;
+        if (hits.isEmpty()) {
+            regionList = Page.empty(pageable);
+        } else if (hits.useDatabase()) {
+            regionList = regionRepository.searchRegionsByKeyword(keyword.strip(),
+                    relevance ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : sortedPageable);
+        } else if (relevance) {
+            regionList = RelevancePaging.page(rankedIds, regionRepository.findSearchableRegionIds(rankedIds), pageable,
+                    regionRepository::findRegionViewsByIds, RegionView::regionId);
+        } else {
+            regionList = regionRepository.searchRegions(rankedIds, sortedPageable);
+        }
+        if (regionList.getTotalElements() == 0) {
+            throw new RegionNotFoundException("지역이 한개도 등록되어있지 않습니다.");
+        }
+        if (regionList.isEmpty()) {
             throw new RegionNotFoundException("지역 검색 결과가 존재하지 않습니다.");
         }
-        return regionList.subList(start, end)
-                .stream()
-                .map(RegionResDto::new)
-                .collect(Collectors.toList());
+        return regionList.map(RegionResDto::new);
     }
 
     @Transactional
@@ -105,6 +138,9 @@ public class RegionService {
         region.setProvince("도시");
         region.setCity("서울");
         region.setLocality(regionReqDto.getLocality());
+        searchIndex.index(SearchDocumentType.REGION, region.getRegionId(), region.getLocality());
+        catalogCacheEvictor.evictRegion(region.getRegionId());
+        storeRankingService.refresh(region.getStores().getStoreId());
         return entityToResDto(region);
     }
 
@@ -113,6 +149,9 @@ public class RegionService {
         Region region = regionRepository.findByRegionIdAndDeletedAtIsNull(id).orElseThrow(() -> new RegionNotFoundException("존재하지 않는 지역입니다."));
         region.setDeletedBy(userDetails.getUsername());
         region.setDeletedAt(LocalDateTime.now());
+        searchIndex.remove(SearchDocumentType.REGION, region.getRegionId());
+        catalogCacheEvictor.evictRegion(region.getRegionId());
+        storeRankingService.refresh(region.getStores().getStoreId());
 
     }
 
@@ -57,7 +57,7 @@ public @interface RegionSwaggerDocs {
     @Parameters({
             @Parameter(name = "keyword", schema = @Schema(type = "string"), description = "검색 키워드"),
             @Parameter(name = "category", schema = @Schema(type = "string"), required = true, description = "검색할 카테고리"),
-            @Parameter(name = "sortBy", schema = @Schema(type = "string"), description = "정렬 기준 필드명 (예: createdAt, updatedAt)", example = "createdAt"),
+            @Parameter(name = "sortBy", schema = @Schema(type = "string"), description = "정렬 기준 (relevance: 검색어 관련도 순(기본값), createdAt, locality)", example = "relevance"),
             @Parameter(name = "order", schema = @Schema(type = "string"), description = "정렬 방향 (asc: 오름차순, desc: 내림차순)", example = "asc")
     })
     @ApiResponses({
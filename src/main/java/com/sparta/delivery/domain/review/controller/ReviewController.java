@@ -4,6 +4,7 @@ import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.domain.review.dto.ReviewRequestDto;
 import com.sparta.delivery.domain.review.dto.ReviewUpdateRequestDto;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.review.service.ReviewService;
 import com.sparta.delivery.domain.review.swagger.ReviewSwaggerDocs;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,7 +47,7 @@ public class ReviewController {
                                            @RequestParam(name = "sortBy", required = false) String sortBy,
                                            @RequestParam(name = "orderBy", required = false) String orderBy,
                                            @AuthenticationPrincipal PrincipalDetails userDetails) {
-        Pageable pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
+        Pageable pageable = pageableConfig.createPageRequest(page, size, ReviewRepository.SORT_SPEC, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(reviewService.getUserReview(userDetails.getUsername(), pageable));
     }
@@ -64,11 +65,26 @@ public class ReviewController {
         if (starList == null)
             starList = Collections.emptyList();
 
-        PageRequest pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
+        PageRequest pageable = pageableConfig.createPageRequest(page, size, ReviewRepository.SORT_SPEC, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(reviewService.getStoreReviewSearch(storeId, starList, pageable));
     }
 
+    @ReviewSwaggerDocs.getStoreReviewByCursor
+    @GetMapping("/getStoreReview/{storeId}/cursor")
+    public ResponseEntity<?> getStoreReviewSearchByCursor(@RequestParam(name = "starList", required = false) List<Integer> starList,
+                                                          @RequestParam(name = "cursor", required = false) String cursor,
+                                                          @RequestParam(name = "size", required = false) Integer size,
+                                                          @PathVariable("storeId") UUID storeId) {
+        //별점 안줄 시 전체 리뷰 리스트 return
+        if (starList == null)
+            starList = Collections.emptyList();
+
+        int pageSize = pageableConfig.resolveCursorPageSize(size);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(reviewService.getStoreReviewSearchByCursor(storeId, starList, cursor, pageSize));
+    }
+
     @ReviewSwaggerDocs.deleteReview
     @Operation(summary = "리뷰 삭제")
     @PatchMapping("/deleteReview/{reviewId}")
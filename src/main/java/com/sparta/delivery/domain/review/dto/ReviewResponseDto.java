@@ -16,4 +16,9 @@ public class ReviewResponseDto {
     private UUID orderId;
     private UUID userId;
     private UUID storeId;
+
+    public static ReviewResponseDto from(ReviewView review) {
+        return new ReviewResponseDto(review.reviewId(), review.comment(), review.star(),
+                review.orderId(), review.userId(), review.storeId());
+    }
 }
@@ -0,0 +1,9 @@
+package com.sparta.delivery.domain.review.dto;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 목록 조회용 read model (영속성 컨텍스트를 거치지 않는 projection 결과)
+ */
+public record ReviewView(UUID reviewId, String comment, int star, UUID orderId, UUID userId, UUID storeId) {
+}
@@ -17,7 +17,12 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_review")
+@Table(name = "p_review", indexes = {
+        // 가게 리뷰 커서 조회 / 가게 리뷰 목록 정렬 (ReviewRepositoryCustom.SORT_SPEC)
+        @Index(name = "idx_review_store_created_at", columnList = "store_id, created_at, review_id"),
+        // 유저 리뷰 목록 정렬 (ReviewRepositoryCustom.SORT_SPEC)
+        @Index(name = "idx_review_user_created_at", columnList = "user_id, created_at, review_id")
+})
 public class Review extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -29,15 +34,15 @@ public class Review extends Timestamped {
     @Column(nullable = false)
     private int star;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderId", nullable = false)
     private Order order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "storeId", nullable = false)
     private Stores stores;
 
@@ -0,0 +1,26 @@
+package com.sparta.delivery.domain.review.repository;
+
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.review.dto.ReviewView;
+import com.sparta.delivery.domain.review.entity.QReview;
+import com.sparta.delivery.domain.review.entity.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReviewRepositoryCustom {
+
+    // 유저/가게 리뷰 목록에서 허용하는 정렬 기준 (유저별, 가게별 복합 인덱스 사용)
+    SortSpec SORT_SPEC = SortSpec.builder(QReview.review, QReview.review.reviewId)
+            .key("createdAt", QReview.review.createdAt, "idx_review_user_created_at")
+            .defaultSort("createdAt", Sort.Direction.DESC)
+            .build();
+
+    Page<ReviewView> findUserReviewViews(UUID userId, Pageable pageable);
+
+    List<Review> findStoreReviewsByCursor(UUID storeId, List<Integer> starList, KeysetCursor cursor, int limit);
+}
@@ -0,0 +1,67 @@
+package com.sparta.delivery.domain.review.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.KeysetCursor;
+import com.sparta.delivery.domain.review.dto.ReviewView;
+import com.sparta.delivery.domain.review.entity.QReview;
+import com.sparta.delivery.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QReview review = QReview.review;
+
+    /**
+     * 사용자가 작성한 리뷰 목록을 read model 로 조회
+     *
+     * 주문/사용자/가게는 join 하지 않고 FK 값만 조회합니다.
+     */
+    public Page<ReviewView> findUserReviewViews(UUID userId, Pageable pageable) {
+        List<ReviewView> content = jpaQueryFactory
+                .select(Projections.constructor(ReviewView.class,
+                        review.reviewId, review.comment, review.star,
+                        review.order.orderId, review.user.userId, review.stores.storeId))
+                .from(review)
+                .where(review.user.userId.eq(userId), review.deletedAt.isNull())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(review.count())
+                .from(review)
+                .where(review.user.userId.eq(userId), review.deletedAt.isNull());
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 가게 리뷰를 커서 기반으로 조회 (최신순, 별점 조건은 선택)
+     *
+     * @param cursor 마지막으로 조회한 리뷰의 위치 (첫 페이지는 null)
+     */
+    public List<Review> findStoreReviewsByCursor(UUID storeId, List<Integer> starList, KeysetCursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(review)
+                .where(
+                        review.stores.storeId.eq(storeId),
+                        review.deletedAt.isNull(),
+                        (starList != null && !starList.isEmpty()) ? review.star.in(starList) : null,
+                        KeysetCursor.after(cursor, review.createdAt, review.reviewId)
+                )
+                .orderBy(review.createdAt.desc(), review.reviewId.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -2,26 +2,31 @@ package com.sparta.delivery.domain.review.service;
 
 import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.CursorSlice;
+import com.sparta.delivery.domain.common.KeysetCursor;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.review.dto.ReviewRequestDto;
 import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
 import com.sparta.delivery.domain.review.dto.ReviewUpdateRequestDto;
+import com.sparta.delivery.domain.review.dto.ReviewView;
 import com.sparta.delivery.domain.review.entity.QReview;
 import com.sparta.delivery.domain.review.entity.Review;
 import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.store.service.StoreService;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,19 +37,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final OrderRepository orderRepository;
     private final StoreRepository storeRepository;
 
     private final StoreService storeService;
 
-    private final int REVIEW_PLUS = 1;
-    private final int REVIEW_MINUS = -1;
-    private final int REVIEW_UPDATE = 0;
-
+    @Transactional
     public Review createReview(ReviewRequestDto requestDto, String username) {
         try {
-            User user = getUser(username);
+            User user = currentUserResolver.getReference(getUser(username));
             Order order = getOrder(requestDto.getOrderId(), user);
             Stores stores = getStores(order.getStores().getStoreId());
 
@@ -58,7 +60,7 @@ public class ReviewService {
             }
 
             Review review = requestDto.toReview(order, user, stores);
-            storeService.updateStoreReview(order.getStores().getStoreId(), review.getStar(), REVIEW_PLUS);
+            storeService.addReviewRating(order.getStores().getStoreId(), review.getStar());
             return reviewRepository.save(review);
 
         } catch (Exception e) {
@@ -66,16 +68,17 @@ public class ReviewService {
         }
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewResponseDto> getUserReview(String username, Pageable pageable) {
         try {
-            User user = getUser(username);
-            Page<Review> reviewList = reviewRepository.findAllByUserAndDeletedAtIsNull(user, pageable);
+            ResolvedUser user = getUser(username);
+            Page<ReviewView> reviewList = reviewRepository.findUserReviewViews(user.userId(), pageable);
 
             if(reviewList.isEmpty()) {
                 throw new ReviewNotFoundException("로그인한 사용자가 작성한 리뷰가 존재하지 않습니다.");
             }
 
-            return reviewList.map(Review::toResponseDto);
+            return reviewList.map(ReviewResponseDto::from);
         } catch (Exception e) {
             throw e;
         }
@@ -109,21 +112,45 @@ public class ReviewService {
         }
     }
 
+    /**
+     * 가게 리뷰를 커서 기반으로 조회 (최신순, OFFSET / count 쿼리 없음)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ReviewResponseDto> getStoreReviewSearchByCursor(UUID storeId, List<Integer> starList, String cursor, int size) {
+        getStores(storeId);
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<Review> reviewList = reviewRepository.findStoreReviewsByCursor(storeId, starList, keysetCursor, size + 1);
+
+        if(reviewList.isEmpty() && keysetCursor == null) {
+            if(starList.isEmpty())
+                throw new ReviewNotFoundException("해당 가게에 작성된 리뷰가 존재하지 않습니다.");
+
+            throw new ReviewNotFoundException("해당 가게에 조건에 맞는 리뷰가 존재하지 않습니다.");
+        }
+
+        return CursorSlice.of(reviewList, size,
+                review -> new KeysetCursor(review.getCreatedAt(), review.getReviewId()), Review::toResponseDto);
+    }
+
+    @Transactional
     public Review deleteReview(UUID reviewId, String username) {
         try {
-            User user = getUser(username);
+            ResolvedUser user = getUser(username);
             Review review;
             //유저의 권한이 고객이면 본인의 리뷰만 가져오도록
-            if(user.getRole() == UserRoles.ROLE_CUSTOMER)
-                review = getUserReview(reviewId, user);
+            if(user.role() == UserRoles.ROLE_CUSTOMER)
+                review = getUserReview(reviewId, currentUserResolver.getReference(user));
             else
                 review = getSingleReview(reviewId);
 
             review.setDeletedAt(LocalDateTime.now());
             review.setDeletedBy(username);
 
-            int deleteStar = review.getStar() * -1;
-            storeService.updateStoreReview(review.getStores().getStoreId(), deleteStar, REVIEW_MINUS);
+            storeService.removeReviewRating(review.getStores().getStoreId(), review.getStar());
 
             return reviewRepository.save(review);
 
@@ -132,23 +159,23 @@ public class ReviewService {
         }
     }
 
+    @Transactional
     public ReviewResponseDto updateReview(UUID reviewId, ReviewUpdateRequestDto requestDto, String username) {
         try {
-            User user = getUser(username);
+            ResolvedUser user = getUser(username);
             Review review;
             //유저의 권한이 고객이면 본인의 리뷰만 가져오도록
-            if(user.getRole() == UserRoles.ROLE_CUSTOMER)
-                review = getUserReview(reviewId, user);
+            if(user.role() == UserRoles.ROLE_CUSTOMER)
+                review = getUserReview(reviewId, currentUserResolver.getReference(user));
             else
                 review = getSingleReview(reviewId);
 
-            //새 별점 - 기존 별점
-            int updateStar = requestDto.getStar() - review.getStar();
+            int previousStar = review.getStar();
 
             review.setComment(requestDto.getComment());
             review.setStar(requestDto.getStar());
 
-            storeService.updateStoreReview(review.getStores().getStoreId(), updateStar, REVIEW_UPDATE);
+            storeService.changeReviewRating(review.getStores().getStoreId(), previousStar, requestDto.getStar());
             return reviewRepository.save(review).toResponseDto();
 
         } catch (Exception e) {
@@ -156,8 +183,8 @@ public class ReviewService {
         }
     }
 
-    private User getUser(String username) {
-        return userRepository.findByUsernameAndDeletedAtIsNull(username)
+    private ResolvedUser getUser(String username) {
+        return currentUserResolver.resolve(username)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않거나 탈퇴한 유저입니다."));
     }
 
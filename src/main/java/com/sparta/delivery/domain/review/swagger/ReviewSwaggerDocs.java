@@ -66,6 +66,26 @@ public @interface ReviewSwaggerDocs {
     )
     @interface getStoreReview {}
 
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 리뷰 커서 조회", description = "가게 리뷰를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @Parameters({
+            @Parameter(name = "storeId", description = "조회할 가게의 UUID", example = "f47ac10b-58cc-4372-a567-0e02b2c3d479"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "리뷰 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "리뷰가 존재하지 않음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @Parameter(
+            name = "Authorization",
+            description = "새로운 엑세스 토큰 (응답 헤더에서 반환)",
+            required = false
+    )
+    @interface getStoreReviewByCursor {}
+
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "리뷰 삭제", description = "작성된 리뷰를 삭제합니다.")
@@ -0,0 +1,21 @@
+package com.sparta.delivery.domain.search.dto;
+
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 검색 색인 문서 (엔티티 ID, 검색 대상 문자열, 공개 범위)
+ */
+public record SearchDocument(UUID id, String text, SearchVisibility visibility) {
+
+    public SearchDocument(UUID id, String text) {
+        this(id, text, SearchVisibility.PUBLIC);
+    }
+
+    // 상품 색인 적재용 (삭제 시각 / 숨김 여부로 공개 범위 결정)
+    public SearchDocument(UUID id, String text, LocalDateTime deletedAt, Boolean hidden) {
+        this(id, text, SearchVisibility.of(deletedAt, hidden));
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.delivery.domain.search.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 검색 색인 조회 결과
+ *
+ * @param ids         관련도 내림차순 문서 ID (최대 search.maxHits 건)
+ * @param useDatabase 일치하는 문서가 search.maxHits 를 넘어 ids 만으로는 정렬/총 건수가 정확하지 않은 경우 true
+ *                    (호출하는 쪽에서 DB LIKE 검색으로 처리, 초성 검색은 DB 로 처리할 수 없어 항상 false)
+ */
+public record SearchHits(List<UUID> ids, boolean useDatabase) {
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), false);
+    }
+
+    public boolean isEmpty() {
+        return ids.isEmpty() && !useDatabase;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sparta.delivery.domain.search.enums;
+
+/**
+ * 검색 색인 대상 (가게 이름, 상품 이름, 운영 지역 동 이름)
+ */
+public enum SearchDocumentType {
+    STORE,
+    PRODUCT,
+    REGION
+}
@@ -0,0 +1,19 @@
+package com.sparta.delivery.domain.search.enums;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 문서의 공개 범위 (검색 시 조회 범위에 포함되는 문서만 후보로 반환)
+ */
+public enum SearchVisibility {
+    PUBLIC,     // 모든 사용자
+    HIDDEN,     // 숨김 처리된 상품 (가게 주인, 마스터/매니저)
+    DELETED;    // 삭제된 상품 (마스터/매니저)
+
+    public static SearchVisibility of(LocalDateTime deletedAt, Boolean hidden) {
+        if (deletedAt != null) {
+            return DELETED;
+        }
+        return Boolean.TRUE.equals(hidden) ? HIDDEN : PUBLIC;
+    }
+}
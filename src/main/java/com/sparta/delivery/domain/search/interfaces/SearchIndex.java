@@ -0,0 +1,57 @@
+package com.sparta.delivery.domain.search.interfaces;
+
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 가게 / 상품 / 운영 지역 키워드 검색 색인
+ *
+ * 공개 범위(삭제/숨김)는 색인에서 먼저 걸러 최대 건수 제한이 조회할 수 없는 문서로 채워지지 않도록 하고,
+ * 카테고리 등의 조건과 최신 상태는 호출하는 쪽에서 DB 로 다시 확인합니다. (색인이 DB 보다 늦게 반영되더라도 잘못된 결과가 응답되지 않도록)
+ */
+public interface SearchIndex {
+
+    /**
+     * 모든 사용자에게 공개된 문서를 색인에 추가하거나 검색 문자열을 교체 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    default void index(SearchDocumentType type, UUID id, String text) {
+        index(type, id, text, SearchVisibility.PUBLIC);
+    }
+
+    /**
+     * 문서를 색인에 추가하거나 검색 문자열 / 공개 범위를 교체 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    void index(SearchDocumentType type, UUID id, String text, SearchVisibility visibility);
+
+    /**
+     * 문서를 색인에서 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    void remove(SearchDocumentType type, UUID id);
+
+    /**
+     * 키워드를 포함하는 공개(PUBLIC) 문서를 관련도 순으로 조회
+     */
+    default SearchHits search(SearchDocumentType type, String keyword) {
+        return search(type, keyword, EnumSet.of(SearchVisibility.PUBLIC));
+    }
+
+    /**
+     * 키워드를 포함하고 공개 범위가 visibilities 에 포함되는 문서를 관련도 순으로 조회
+     */
+    SearchHits search(SearchDocumentType type, String keyword, Set<SearchVisibility> visibilities);
+
+    /**
+     * 해당 타입의 색인을 다시 생성
+     *
+     * @param documents 색인할 전체 문서 조회 (재색인 중 발생한 변경을 놓치지 않도록 조회 시점은 구현체가 정함)
+     */
+    void rebuild(SearchDocumentType type, Supplier<List<SearchDocument>> documents);
+}
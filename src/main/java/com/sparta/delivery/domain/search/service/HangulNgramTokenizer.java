@@ -0,0 +1,102 @@
+package com.sparta.delivery.domain.search.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 이름 검색용 n-gram 토크나이저
+ *
+ * - 정규화 : NFC 정규화(자모가 분리된 입력을 완성형으로 합침) + 소문자 변환 + 공백/특수문자 제거
+ *   가게 이름은 띄어쓰기가 제각각이므로("본죽 종로점" / "본죽종로점") 공백을 무시하고 비교합니다.
+ * - 토큰 : 음절 단위 unigram + bigram (한글은 형태소 분석 없이 음절 bigram 만으로 부분 문자열 검색이 가능)
+ * - 초성 : 완성형 음절을 초성으로 바꾼 문자열 ("본죽" -> "ㅂㅈ") 을 따로 색인하여 초성 검색을 지원합니다.
+ */
+public final class HangulNgramTokenizer {
+
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_JONGSEONG_COUNT = 21 * 28;
+
+    // 초성 19자 (호환용 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulNgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 완성형 음절은 초성으로, 나머지 문자는 그대로 둔 문자열 (normalize 된 문자열 기준)
+     */
+    public static String toChoseong(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (char c : normalized.toCharArray()) {
+            if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+                builder.append(CHOSEONG[(c - HANGUL_SYLLABLE_BEGIN) / JUNGSEONG_JONGSEONG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 검색어가 초성(자음)으로만 이루어져 있는지 여부 (ex. "ㅂㅈ")
+     */
+    public static boolean isChoseongQuery(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (char c : normalized.toCharArray()) {
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 색인할 토큰 : 모든 음절 unigram + 인접 음절 bigram
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색할 토큰 : 한 글자 검색어는 unigram, 그 외에는 bigram
+     * (모든 bigram 을 포함하는 문서만 후보가 되고, 실제 포함 여부는 원문으로 다시 확인합니다)
+     */
+    public static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
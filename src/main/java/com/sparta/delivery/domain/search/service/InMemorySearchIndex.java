@@ -0,0 +1,277 @@
+package com.sparta.delivery.domain.search.service;
+
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 기반 역색인 (n-gram -> 문서 ID)
+ *
+ * 서버 시작 시 SearchIndexLoader 가 전체 문서를 적재하고, 이후에는 가게/상품/운영 지역 생성·수정·삭제 시 서비스에서 갱신합니다.
+ * - 검색은 검색어의 모든 bigram 을 가진 문서를 후보로 고른 뒤, 정규화된 원문에 검색어가 포함되는지 다시 확인합니다. (LIKE '%kw%' 와 같은 결과)
+ * - 관련도 : 완전 일치 > 접두 일치 > 부분 일치, 같은 등급에서는 검색어가 이름에서 차지하는 비율이 클수록(짧은 이름일수록) 앞에 옵니다.
+ * - 문서마다 공개 범위(삭제/숨김)를 함께 저장하고, 조회 범위에 포함되는 문서만 maxHits 건까지 반환합니다.
+ *   일치하는 문서가 maxHits 를 넘으면 SearchHits.useDatabase 로 알려 호출하는 쪽이 DB 검색으로 처리하게 합니다.
+ * - 색인은 서버마다 따로 유지되므로 다른 서버에서 발생한 변경은 주기적인 재색인(scheduler.searchIndexRebuild)으로 반영됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemorySearchIndex implements SearchIndex {
+
+    private final int maxHits;
+    private final Map<SearchDocumentType, Shard> shards = new EnumMap<>(SearchDocumentType.class);
+
+    public InMemorySearchIndex(@Value("${search.maxHits:1000}") int maxHits) {
+        this.maxHits = maxHits;
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            shards.put(type, new Shard());
+        }
+    }
+
+    @Override
+    public void index(SearchDocumentType type, UUID id, String text, SearchVisibility visibility) {
+        runAfterCommit(() -> shards.get(type).put(id, text, visibility));
+    }
+
+    @Override
+    public void remove(SearchDocumentType type, UUID id) {
+        runAfterCommit(() -> shards.get(type).remove(id));
+    }
+
+    @Override
+    public SearchHits search(SearchDocumentType type, String keyword, Set<SearchVisibility> visibilities) {
+        String query = HangulNgramTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return SearchHits.empty();
+        }
+        return shards.get(type).search(query, visibilities, maxHits);
+    }
+
+    @Override
+    public void rebuild(SearchDocumentType type, Supplier<List<SearchDocument>> documents) {
+        shards.get(type).rebuild(documents);
+    }
+
+    public int size(SearchDocumentType type) {
+        return shards.get(type).size();
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 이후에 반영
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private record IndexedText(String text, String choseong, SearchVisibility visibility) {
+
+        static IndexedText of(String rawText, SearchVisibility visibility) {
+            String normalized = HangulNgramTokenizer.normalize(rawText);
+            return new IndexedText(normalized, HangulNgramTokenizer.toChoseong(normalized), visibility);
+        }
+    }
+
+    private record ScoredId(UUID id, double score) {
+    }
+
+    /**
+     * 타입별 색인 데이터
+     *
+     * 재색인(rebuild) 중에 들어온 변경은 기록해 두었다가 새 색인으로 교체할 때 다시 적용합니다.
+     * (DB 스냅샷을 읽은 뒤 커밋된 변경이 재색인으로 사라지지 않도록)
+     */
+    private static final class Shard {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private Postings postings = new Postings();
+        private List<Runnable> changesDuringRebuild;
+
+        void put(UUID id, String text, SearchVisibility visibility) {
+            IndexedText indexedText = IndexedText.of(text, visibility);
+            lock.writeLock().lock();
+            try {
+                postings.put(id, indexedText);
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.add(() -> postings.put(id, indexedText));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(UUID id) {
+            lock.writeLock().lock();
+            try {
+                postings.remove(id);
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.add(() -> postings.remove(id));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void rebuild(Supplier<List<SearchDocument>> loader) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // 새 색인은 잠금 없이 생성 (생성 중에도 기존 색인으로 검색 가능)
+            Postings rebuilt = new Postings();
+            boolean loaded = false;
+            try {
+                for (SearchDocument document : loader.get()) {
+                    rebuilt.put(document.id(), IndexedText.of(document.text(), document.visibility()));
+                }
+                loaded = true;
+            } finally {
+                // 적재에 실패하면 기존 색인을 그대로 사용
+                lock.writeLock().lock();
+                try {
+                    if (loaded) {
+                        postings = rebuilt;
+                        changesDuringRebuild.forEach(Runnable::run);
+                    }
+                    changesDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+
+        SearchHits search(String query, Set<SearchVisibility> visibilities, int limit) {
+            lock.readLock().lock();
+            try {
+                return postings.search(query, visibilities, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return postings.documents.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private static final class Postings {
+
+        private final Map<UUID, IndexedText> documents = new HashMap<>();
+        private final Map<String, Set<UUID>> textGrams = new HashMap<>();
+        private final Map<String, Set<UUID>> choseongGrams = new HashMap<>();
+
+        void put(UUID id, IndexedText indexedText) {
+            remove(id);
+            documents.put(id, indexedText);
+            addGrams(textGrams, indexedText.text(), id);
+            addGrams(choseongGrams, indexedText.choseong(), id);
+        }
+
+        void remove(UUID id) {
+            IndexedText previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            removeGrams(textGrams, previous.text(), id);
+            removeGrams(choseongGrams, previous.choseong(), id);
+        }
+
+        SearchHits search(String query, Set<SearchVisibility> visibilities, int limit) {
+            boolean choseongQuery = HangulNgramTokenizer.isChoseongQuery(query);
+            Map<String, Set<UUID>> grams = choseongQuery ? choseongGrams : textGrams;
+
+            List<ScoredId> hits = new ArrayList<>();
+            for (UUID id : candidates(grams, HangulNgramTokenizer.queryGrams(query))) {
+                IndexedText indexedText = documents.get(id);
+                if (!visibilities.contains(indexedText.visibility())) {
+                    continue;
+                }
+                String target = choseongQuery ? indexedText.choseong() : indexedText.text();
+                if (target.contains(query)) {
+                    hits.add(new ScoredId(id, score(target, query)));
+                }
+            }
+
+            List<UUID> ids = hits.stream()
+                    .sorted(Comparator.comparingDouble(ScoredId::score).reversed().thenComparing(ScoredId::id))
+                    .limit(limit)
+                    .map(ScoredId::id)
+                    .toList();
+            // 초성 검색은 DB 로 대체할 수 없으므로 관련도 상위 limit 건만 사용
+            return new SearchHits(ids, hits.size() > limit && !choseongQuery);
+        }
+
+        // 검색어의 모든 gram 을 가진 문서 (가장 작은 posting 부터 교집합)
+        private Set<UUID> candidates(Map<String, Set<UUID>> grams, Set<String> queryGrams) {
+            List<Set<UUID>> postingLists = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Set<UUID> posting = grams.get(gram);
+                if (posting == null) {
+                    return Set.of();
+                }
+                postingLists.add(posting);
+            }
+            postingLists.sort(Comparator.comparingInt(Set::size));
+
+            Set<UUID> candidates = new HashSet<>(postingLists.get(0));
+            for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(postingLists.get(i));
+            }
+            return candidates;
+        }
+
+        private static double score(String target, String query) {
+            double match = target.equals(query) ? 3 : target.startsWith(query) ? 2 : 1;
+            return match + (double) query.length() / target.length();
+        }
+
+        private static void addGrams(Map<String, Set<UUID>> grams, String text, UUID id) {
+            for (String gram : HangulNgramTokenizer.indexGrams(text)) {
+                grams.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        }
+
+        private static void removeGrams(Map<String, Set<UUID>> grams, String text, UUID id) {
+            for (String gram : HangulNgramTokenizer.indexGrams(text)) {
+                Set<UUID> posting = grams.get(gram);
+                if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                    grams.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sparta.delivery.domain.search.service;
+
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL pg_trgm 기반 검색 (search.backend=pgTrgm)
+ *
+ * 테이블 자체가 색인이므로 index / remove / rebuild 는 아무 작업도 하지 않습니다. (여러 서버가 같은 결과를 봄)
+ * - ILIKE '%kw%' 조건은 GIN(gin_trgm_ops) 인덱스를 사용하고, similarity() 로 관련도 순 정렬합니다.
+ * - 공개 범위(삭제/숨김)는 같은 쿼리의 조건으로 거르고, maxHits + 1 건을 조회해 제한을 넘었는지 확인합니다.
+ * - 한글 trigram 은 DB 의 LC_CTYPE 이 UTF-8 계열일 때만 생성되므로, C locale 인 DB 에서는 인덱스 없이 ILIKE 로 검색됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "pgTrgm")
+public class PgTrgmSearchIndex implements SearchIndex {
+
+    // conditions : 공개 범위별 조건 (조회 범위에 포함된 조건을 OR 로 연결)
+    private record Target(String table, String idColumn, String textColumn, Map<SearchVisibility, String> conditions) {
+
+        String conditionOf(Set<SearchVisibility> visibilities) {
+            String condition = visibilities.stream()
+                    .map(conditions::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining(" OR "));
+            return condition.isEmpty() ? "FALSE" : "(" + condition + ")";
+        }
+    }
+
+    private static final Map<SearchDocumentType, Target> TARGETS = new EnumMap<>(Map.of(
+            SearchDocumentType.STORE, new Target("p_stores", "store_id", "name",
+                    Map.of(SearchVisibility.PUBLIC, "deleted_at IS NULL")),
+            SearchDocumentType.PRODUCT, new Target("p_product", "product_id", "name", Map.of(
+                    SearchVisibility.PUBLIC, "(deleted_at IS NULL AND hidden = FALSE)",
+                    SearchVisibility.HIDDEN, "(deleted_at IS NULL AND hidden = TRUE)",
+                    SearchVisibility.DELETED, "deleted_at IS NOT NULL")),
+            SearchDocumentType.REGION, new Target("p_region", "region_id", "locality",
+                    Map.of(SearchVisibility.PUBLIC, "deleted_at IS NULL"))
+    ));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxHits;
+    private final boolean createIndexes;
+
+    public PgTrgmSearchIndex(JdbcTemplate jdbcTemplate,
+                             @Value("${search.maxHits:1000}") int maxHits,
+                             @Value("${search.pgTrgm.createIndexes:true}") boolean createIndexes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxHits = maxHits;
+        this.createIndexes = createIndexes;
+    }
+
+    // pg_trgm 확장과 GIN 인덱스 생성 (ddl-auto 로는 만들 수 없는 인덱스)
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTrigramIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        TARGETS.values().forEach(target -> jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_" + target.table() + "_" + target.textColumn() + "_trgm"
+                        + " ON " + target.table() + " USING gin (" + target.textColumn() + " gin_trgm_ops)"));
+        log.info("pg_trgm 검색 인덱스 확인 완료");
+    }
+
+    @Override
+    public void index(SearchDocumentType type, UUID id, String text, SearchVisibility visibility) {
+    }
+
+    @Override
+    public void remove(SearchDocumentType type, UUID id) {
+    }
+
+    @Override
+    public SearchHits search(SearchDocumentType type, String keyword, Set<SearchVisibility> visibilities) {
+        if (keyword == null || keyword.isBlank()) {
+            return SearchHits.empty();
+        }
+        Target target = TARGETS.get(type);
+        String sql = "SELECT " + target.idColumn() + " FROM " + target.table()
+                + " WHERE " + target.conditionOf(visibilities) + " AND " + target.textColumn() + " ILIKE ? ESCAPE '\\'"
+                + " ORDER BY similarity(" + target.textColumn() + ", ?) DESC, length(" + target.textColumn() + "), " + target.idColumn()
+                + " LIMIT ?";
+
+        String trimmed = keyword.trim();
+        List<UUID> ids = jdbcTemplate.queryForList(sql, UUID.class, "%" + escapeLike(trimmed) + "%", trimmed, maxHits + 1);
+        return ids.size() > maxHits ? new SearchHits(ids.subList(0, maxHits), true) : new SearchHits(ids, false);
+    }
+
+    @Override
+    public void rebuild(SearchDocumentType type, Supplier<List<SearchDocument>> documents) {
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,59 @@
+package com.sparta.delivery.domain.search.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인의 관련도 순서로 페이지를 만드는 유틸
+ *
+ * DB 는 관련도를 모르므로, 조건(삭제/숨김/카테고리)을 통과한 ID 를 색인 순서대로 정렬해 페이지를 자른 뒤
+ * 해당 페이지의 행만 IN 쿼리로 조회하여 다시 관련도 순서로 배치합니다.
+ */
+public final class RelevancePaging {
+
+    // 검색 API 의 기본 정렬 값 (그 외의 sortBy 는 DB 정렬로 처리)
+    public static final String RELEVANCE = "relevance";
+
+    private RelevancePaging() {
+    }
+
+    public static boolean isRelevance(String sortBy) {
+        return sortBy == null || sortBy.isBlank() || RELEVANCE.equalsIgnoreCase(sortBy);
+    }
+
+    /**
+     * @param rankedIds  검색 색인 결과 (관련도 내림차순)
+     * @param matchedIds rankedIds 중 DB 조건을 통과한 ID
+     * @param loader     페이지에 포함된 ID 의 행 조회
+     * @param idOf       행의 ID
+     */
+    public static <T> Page<T> page(List<UUID> rankedIds, Collection<UUID> matchedIds, Pageable pageable,
+                                   Function<List<UUID>, List<T>> loader, Function<T, UUID> idOf) {
+        Set<UUID> matched = new HashSet<>(matchedIds);
+        List<UUID> orderedIds = rankedIds.stream().filter(matched::contains).toList();
+
+        int from = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedIds.size());
+        List<UUID> pageIds = orderedIds.subList(from, to);
+
+        Map<UUID, T> rows = loader.apply(pageIds).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, orderedIds.size());
+    }
+}
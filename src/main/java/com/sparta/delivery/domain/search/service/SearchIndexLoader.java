@@ -0,0 +1,81 @@
+package com.sparta.delivery.domain.search.service;
+
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 검색 색인 적재 스케줄러
+ *
+ * 서버 시작 시 전체 문서를 색인하고, 이후 주기적으로 다시 색인합니다.
+ * 같은 서버에서 발생한 변경은 서비스에서 즉시 반영되므로, 재색인은 다른 서버에서 발생한 변경을 따라잡기 위한 용도입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+public class SearchIndexLoader {
+
+    private final InMemorySearchIndex searchIndex;
+    private final StoreRepository storeRepository;
+    private final ProductRepository productRepository;
+    private final RegionRepository regionRepository;
+
+    private final Timer rebuildTimer; // 전체 재색인 소요 시간
+
+    public SearchIndexLoader(InMemorySearchIndex searchIndex,
+                             StoreRepository storeRepository,
+                             ProductRepository productRepository,
+                             RegionRepository regionRepository,
+                             MeterRegistry meterRegistry) {
+        this.searchIndex = searchIndex;
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
+        this.regionRepository = regionRepository;
+        this.rebuildTimer = Timer.builder("search.index.rebuild.duration")
+                .description("Duration of a full in-memory search index rebuild")
+                .register(meterRegistry);
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            Gauge.builder("search.index.documents", searchIndex, index -> index.size(type))
+                    .description("Number of documents in the in-memory search index")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuildAll();
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.searchIndexRebuild.initialDelayMs:300000}",
+            fixedDelayString = "${scheduler.searchIndexRebuild.fixedDelayMs:300000}")
+    public void scheduledRebuild() {
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            log.warn("Search index rebuild failed : {}", e.getMessage());
+        }
+    }
+
+    public void rebuildAll() {
+        rebuildTimer.record(() -> {
+            searchIndex.rebuild(SearchDocumentType.STORE, storeRepository::findSearchDocuments);
+            searchIndex.rebuild(SearchDocumentType.PRODUCT, productRepository::findSearchDocuments);
+            searchIndex.rebuild(SearchDocumentType.REGION, regionRepository::findSearchDocuments);
+        });
+        log.debug("Search index rebuilt : stores={}, products={}, regions={}",
+                searchIndex.size(SearchDocumentType.STORE),
+                searchIndex.size(SearchDocumentType.PRODUCT),
+                searchIndex.size(SearchDocumentType.REGION));
+    }
+}
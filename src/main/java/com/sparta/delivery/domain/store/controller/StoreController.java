@@ -1,7 +1,9 @@
 package com.sparta.delivery.domain.store.controller;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.search.service.RelevancePaging;
 import com.sparta.delivery.domain.store.dto.StoreReqDto;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
 import com.sparta.delivery.domain.store.service.StoreService;
 import com.sparta.delivery.domain.store.swagger.StoreSwaggerDocs;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,6 +31,7 @@ import java.util.UUID;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreRankingService storeRankingService;
 
     @StoreSwaggerDocs.Register
     @PostMapping("")
@@ -47,7 +50,7 @@ public class StoreController {
 
     @StoreSwaggerDocs.StoreList
     @GetMapping("")
-    public ResponseEntity<?> storeList(@PageableDefault(page = 0, size = 10, sort = {"createdAt", "updatedAt"}) Pageable pageable) {
+    public ResponseEntity<?> storeList(@PageableDefault(page = 0, size = 10, sort = "createdAt") Pageable pageable) {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(storeService.getStoreList(pageable));
     }
@@ -59,10 +62,25 @@ public class StoreController {
                 .body(storeService.getStoreOne(storeId));
     }
 
+    @StoreSwaggerDocs.StoreRanking
+    @GetMapping("/ranking")
+    public ResponseEntity<?> storeRanking(@RequestParam(defaultValue = "rating") String metric, @RequestParam(required = false) String category,
+                                          @RequestParam(required = false) String locality, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(storeRankingService.getTopStores(metric, category, locality, limit));
+    }
+
+    @StoreSwaggerDocs.StoreRating
+    @GetMapping("/{storeId}/rating")
+    public ResponseEntity<?> storeRating(@PathVariable UUID storeId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(storeService.getStoreRating(storeId));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<?> // 가게 검색
     storeSearch(@RequestParam(required = false) String keyword, @RequestParam @Pattern(regexp = "한식|중식|분식|치킨|피자", message = "유효하지 않은 카테고리입니다.") String category,
-                @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "desc") String order, @PageableDefault(page = 0, size = 10) Pageable pageable) {
+                @RequestParam(defaultValue = RelevancePaging.RELEVANCE) String sortBy, @RequestParam(defaultValue = "desc") String order, @PageableDefault(page = 0, size = 10) Pageable pageable) {
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(storeService.searchStore(keyword, pageable, category, sortBy, order));
@@ -0,0 +1,12 @@
+package com.sparta.delivery.domain.store.dto;
+
+import com.sparta.delivery.domain.store.enums.Category;
+
+import java.util.UUID;
+
+/**
+ * 가게 목록 조회용 read model (영속성 컨텍스트를 거치지 않는 projection 결과)
+ */
+public record StoreListView(UUID storeId, String name, String address, boolean status, Category category,
+                            int starSum, int reviewSum) {
+}
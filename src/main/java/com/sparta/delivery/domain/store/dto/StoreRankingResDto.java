@@ -0,0 +1,36 @@
+package com.sparta.delivery.domain.store.dto;
+
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.service.StoreRankingBoard;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class StoreRankingResDto {
+
+    private int rank;
+
+    private UUID storeId;
+
+    private String name;
+
+    private Category category;
+
+    private double averageStar;
+
+    private int reviewCount;
+
+    private long orderCount;
+
+    private double ratingScore; // 베이지안 평균 별점 (평점 순위 기준)
+
+    public static StoreRankingResDto of(int rank, StoreRankingBoard.RankedStore rankedStore) {
+        StoreRankingBoard.StoreStats stats = rankedStore.stats();
+        return new StoreRankingResDto(rank, stats.storeId(), stats.name(), stats.category(),
+                StoreRatingResDto.averageStar(stats.starSum(), stats.reviewCount()), stats.reviewCount(), stats.orderCount(),
+                Math.round(rankedStore.ratingScore() * 100) / 100.0);
+    }
+}
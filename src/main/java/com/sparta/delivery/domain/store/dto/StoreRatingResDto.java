@@ -0,0 +1,44 @@
+package com.sparta.delivery.domain.store.dto;
+
+import com.sparta.delivery.domain.store.entity.Stores;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가게 별점 요약 (p_stores 의 집계 컬럼으로 계산, 리뷰 테이블을 조회하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class StoreRatingResDto {
+
+    private UUID storeId;
+
+    private int reviewCount;
+
+    private double averageStar; // 소수점 첫째 자리까지 (리뷰가 없으면 0)
+
+    private Map<Integer, Integer> starHistogram; // key : 별점(1 ~ 5), value : 리뷰 수
+
+    public static StoreRatingResDto from(Stores store) {
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        histogram.put(1, store.getOneStarCount());
+        histogram.put(2, store.getTwoStarCount());
+        histogram.put(3, store.getThreeStarCount());
+        histogram.put(4, store.getFourStarCount());
+        histogram.put(5, store.getFiveStarCount());
+
+        return new StoreRatingResDto(store.getStoreId(), store.getReviewSum(),
+                averageStar(store.getStarSum(), store.getReviewSum()), histogram);
+    }
+
+    public static double averageStar(int starSum, int reviewCount) {
+        if (reviewCount <= 0) {
+            return 0;
+        }
+        return Math.round((double) starSum / reviewCount * 10) / 10.0;
+    }
+}
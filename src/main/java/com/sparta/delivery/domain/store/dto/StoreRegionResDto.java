@@ -31,6 +31,8 @@ public class StoreRegionResDto {
 
     int reviewsum;
 
+    double averageStar;
+
 
     public StoreRegionResDto(Stores store) {
         this.name = store.getName();
@@ -40,7 +42,19 @@ public class StoreRegionResDto {
                 collect(Collectors.toList()) : new ArrayList<>();
         this.starsum=store.getStarSum();
         this.reviewsum=store.getReviewSum();
+        this.averageStar = StoreRatingResDto.averageStar(store.getStarSum(), store.getReviewSum());
         this.category = store.getCategory();
     }
 
+    public StoreRegionResDto(StoreListView store, List<RegionListDto> regionList) {
+        this.name = store.name();
+        this.address = store.address();
+        this.status = store.status();
+        this.regionList = regionList;
+        this.starsum = store.starSum();
+        this.reviewsum = store.reviewSum();
+        this.averageStar = StoreRatingResDto.averageStar(store.starSum(), store.reviewSum());
+        this.category = store.category();
+    }
+
 }
@@ -38,5 +38,13 @@ public class StoreResDto {
         this.category = store.getCategory();
     }
 
+    public StoreResDto(StoreListView store) {
+        this.storeId = store.storeId();
+        this.name = store.name();
+        this.address = store.address();
+        this.status = store.status();
+        this.category = store.category();
+    }
+
 
 }
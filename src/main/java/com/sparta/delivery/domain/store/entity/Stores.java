@@ -8,6 +8,9 @@ import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +22,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "p_stores")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "stores")
+@Table(name = "p_stores", indexes = {
+        // 가게 목록/검색 정렬 (StoreRepositoryCustom.SORT_SPEC)
+        @Index(name = "idx_stores_created_at", columnList = "created_at, store_id"),
+        @Index(name = "idx_stores_name", columnList = "name, store_id")
+})
 public class Stores extends Timestamped {
 
     @Id
@@ -52,6 +61,22 @@ public class Stores extends Timestamped {
 
     private int reviewSum;
 
+    // 별점별 리뷰 수 (StoreRepositoryCustom.updateRating 으로만 변경)
+    @ColumnDefault("0")
+    private int oneStarCount;
+
+    @ColumnDefault("0")
+    private int twoStarCount;
+
+    @ColumnDefault("0")
+    private int threeStarCount;
+
+    @ColumnDefault("0")
+    private int fourStarCount;
+
+    @ColumnDefault("0")
+    private int fiveStarCount;
+
     @Enumerated(EnumType.STRING)
     private Category category;
 
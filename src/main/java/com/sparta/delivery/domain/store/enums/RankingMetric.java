@@ -0,0 +1,18 @@
+package com.sparta.delivery.domain.store.enums;
+
+/**
+ * 가게 순위 기준
+ */
+public enum RankingMetric {
+    RATING, // 베이지안 평균 별점
+    ORDERS; // 결제 완료 주문 수
+
+    public static RankingMetric from(String value) {
+        for (RankingMetric metric : RankingMetric.values()) {
+            if (metric.name().equalsIgnoreCase(value)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 순위 기준입니다. 허용된 값: [rating, orders]");
+    }
+}
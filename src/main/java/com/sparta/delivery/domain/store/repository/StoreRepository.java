@@ -2,9 +2,12 @@ package com.sparta.delivery.domain.store.repository;
 
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.security.core.parameters.P;
 
 import javax.swing.plaf.synth.Region;
@@ -14,12 +17,12 @@ import java.util.UUID;
 
 public interface StoreRepository extends JpaRepository<Stores, UUID>, StoreRepositoryCustom {
 
-    List<Stores> findByCategoryAndDeletedAtIsNull(Category category, String sortBy, String order);
-
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByStoreIdAndDeletedAtIsNull(UUID storeId);
 
     List<Stores> findByCategory(Category category);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Stores> findByStoreIdAndDeletedAtIsNull(UUID id);// 가게 단건검색
 
     Page<Stores> findAllByDeletedAtIsNull(Pageable pageable);
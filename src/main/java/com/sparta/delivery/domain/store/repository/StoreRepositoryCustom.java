@@ -1,13 +1,59 @@
 package com.sparta.delivery.domain.store.repository;
 
-import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.store.dto.StoreListView;
+import com.sparta.delivery.domain.store.entity.QStores;
 import com.sparta.delivery.domain.store.enums.Category;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public interface StoreRepositoryCustom {
 
-    List<Stores> findByNameContainingAndCategoryAndDeletedAtIsNull(String name, Category category, String sortBy, String order);
+    // 가게 목록/검색에서 허용하는 정렬 기준
+    SortSpec SORT_SPEC = SortSpec.builder(QStores.stores, QStores.stores.storeId)
+            .key("createdAt", QStores.stores.createdAt, "idx_stores_created_at")
+            .key("name", QStores.stores.name, "idx_stores_name")
+            .defaultSort("createdAt", Sort.Direction.DESC)
+            .build();
 
-    List<Stores> findByCategoryAndDeletedAtIsNull(Category category, String sortBy, String order);
+    Page<StoreListView> searchStores(Collection<UUID> storeIds, Category category, Pageable pageable);
+
+    Page<StoreListView> searchStoresByKeyword(String keyword, Category category, Pageable pageable);
+
+    Page<StoreListView> findStoreListViews(Pageable pageable);
+
+    List<UUID> findSearchableStoreIds(Collection<UUID> storeIds, Category category);
+
+    List<StoreListView> findStoreListViewsByIds(Collection<UUID> storeIds);
+
+    List<SearchDocument> findSearchDocuments();
+
+    /**
+     * 가게 순위 계산용 (삭제되지 않은 가게)
+     *
+     * @param storeIds 조회할 가게 ID (null 이면 전체)
+     */
+    List<StoreListView> findRankingSources(Collection<UUID> storeIds);
+
+    /**
+     * 리뷰 작성/수정/삭제에 따른 가게 별점 집계를 UPDATE 한 번으로 변경 (가게를 조회하지 않음)
+     *
+     * @param addedStar   새로 반영할 별점 (1 ~ 5, 없으면 0)
+     * @param removedStar 제외할 기존 별점 (1 ~ 5, 없으면 0)
+     * @return 변경된 가게 수 (삭제되었거나 존재하지 않는 가게면 0)
+     */
+    int updateRating(UUID storeId, int addedStar, int removedStar);
+
+    /**
+     * 별점 분포가 리뷰 수와 맞지 않는 가게의 집계를 p_review 기준으로 다시 계산 (분포 컬럼 추가 이전 데이터)
+     *
+     * @return 다시 계산된 가게 수
+     */
+    int recalculateMismatchedRatings();
 }
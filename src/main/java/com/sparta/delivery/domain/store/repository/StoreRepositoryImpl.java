@@ -1,77 +1,223 @@
 package com.sparta.delivery.domain.store.repository;
 
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.QuerydslSortUtils;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.store.dto.StoreListView;
 import com.sparta.delivery.domain.store.entity.QStores;
-import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @RequiredArgsConstructor
 public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
+    private static final String[] STAR_COUNT_COLUMNS = {
+            "one_star_count", "two_star_count", "three_star_count", "four_star_count", "five_star_count"
+    };
+
+    private static final String UPDATE_RATING_SQL = "UPDATE p_stores SET star_sum = star_sum + ?, review_sum = review_sum + ?, "
+            + Arrays.stream(STAR_COUNT_COLUMNS).map(column -> column + " = " + column + " + ?").collect(Collectors.joining(", "))
+            + " WHERE store_id = ?";
+
+    private static final String RECALCULATE_RATINGS_SQL = "UPDATE p_stores s SET "
+            + "star_sum = (SELECT COALESCE(SUM(r.star), 0) FROM p_review r WHERE r.store_id = s.store_id AND r.deleted_at IS NULL), "
+            + "review_sum = (SELECT COUNT(*) FROM p_review r WHERE r.store_id = s.store_id AND r.deleted_at IS NULL), "
+            + IntStream.range(0, STAR_COUNT_COLUMNS.length)
+                    .mapToObj(i -> STAR_COUNT_COLUMNS[i] + " = (SELECT COUNT(*) FROM p_review r WHERE r.store_id = s.store_id AND r.deleted_at IS NULL AND r.star = " + (i + 1) + ")")
+                    .collect(Collectors.joining(", "))
+            + " WHERE s.review_sum <> " + String.join(" + ", STAR_COUNT_COLUMNS);
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
     private final QStores stores = QStores.stores;
 
-    public List<Stores> findByNameContainingAndCategoryAndDeletedAtIsNull(String name, Category category, String sortBy, String order) {
-        JPAQuery<Stores> query = jpaQueryFactory.selectFrom(stores)
-                .where(
-                        stores.name.contains(name),
-                        stores.category.eq(category),
-                        stores.deletedAt.isNull()
-                );
-        // 정렬 컬럼과 방향이 유효하다면 동적으로 정렬 적용
-        if (sortBy != null && !sortBy.isBlank()) {
-            // 정렬 방향 지정 (기본은 DESC)
-            Order sortOrder = "asc".equalsIgnoreCase(order) ? Order.ASC : Order.DESC;//querydsl Order, entityX
-
-            // PathBuilder를 이용하여 동적으로 컬럼을 지정
-            PathBuilder<Stores> entityPath = new PathBuilder<>(Stores.class, "stores");
-
-            // Expressions.path()로 동적 정렬에 사용할 Expression 생성
-            query.orderBy(
-                    new OrderSpecifier<>(
-                            sortOrder,
-                            Expressions.comparablePath(Comparable.class, entityPath, sortBy)
-                    )
-            );
+    /**
+     * 카테고리(+ 검색 색인 후보)로 가게를 검색
+     *
+     * offset/limit 과 count 쿼리를 DB 에서 수행하므로 요청한 페이지의 행만 조회합니다.
+     * 첫 페이지의 결과가 페이지 크기보다 작으면 count 쿼리는 생략됩니다. (PageableExecutionUtils)
+     *
+     * @param storeIds 검색 색인에서 찾은 가게 ID (null 이면 카테고리로만 검색)
+     * @param pageable 정렬은 SORT_SPEC 으로 검증된 Sort
+     */
+    public Page<StoreListView> searchStores(Collection<UUID> storeIds, Category category, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(stores.category.eq(category));
+        builder.and(stores.deletedAt.isNull());
+        if (storeIds != null) {
+            builder.and(stores.storeId.in(storeIds));
         }
 
-        // 결과 조회
-        return query.fetch();
+        JPAQuery<StoreListView> query = jpaQueryFactory
+                .select(storeListView())
+                .from(stores)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()));
+
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(stores.count())
+                .from(stores)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 카테고리 + 가게 이름 LIKE 검색 (검색 색인의 결과가 search.maxHits 를 넘는 경우)
+     *
+     * 정렬 조건이 없으면 관련도 순으로 정렬합니다.
+     */
+    public Page<StoreListView> searchStoresByKeyword(String keyword, Category category, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(stores.category.eq(category));
+        builder.and(stores.deletedAt.isNull());
+        builder.and(QuerydslSortUtils.keywordMatches(stores.name, keyword));
+
+        List<StoreListView> content = jpaQueryFactory
+                .select(storeListView())
+                .from(stores)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(pageable.getSort().isUnsorted()
+                        ? QuerydslSortUtils.keywordRelevance(stores.name, keyword, stores.storeId)
+                        : SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(stores.count())
+                .from(stores)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 삭제되지 않은 가게 목록을 read model 로 조회
+     *
+     * 목록에 필요한 컬럼만 조회하므로 가게의 연관 엔티티(사용자, 운영 지역)를 로딩하지 않습니다.
+     */
+    public Page<StoreListView> findStoreListViews(Pageable pageable) {
+        List<StoreListView> content = jpaQueryFactory
+                .select(storeListView())
+                .from(stores)
+                .where(stores.deletedAt.isNull())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(SORT_SPEC.toOrderSpecifiers(pageable.getSort()))
+                .fetch();
 
-    public List<Stores> findByCategoryAndDeletedAtIsNull(Category category, String sortBy, String order) {
-        JPAQuery<Stores> query = jpaQueryFactory.selectFrom(stores)
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(stores.count())
+                .from(stores)
+                .where(stores.deletedAt.isNull());
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 검색 색인 후보 중 카테고리가 일치하고 삭제되지 않은 가게 ID 조회 (관련도 순 검색 시 사용)
+     */
+    public List<UUID> findSearchableStoreIds(Collection<UUID> storeIds, Category category) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(stores.storeId)
+                .from(stores)
                 .where(
+                        stores.storeId.in(storeIds),
                         stores.category.eq(category),
                         stores.deletedAt.isNull()
-                );
-
-        if (sortBy != null && !sortBy.isBlank()) {
-            // 정렬 방향 지정 (기본은 DESC)
-            Order sortOrder = "asc".equalsIgnoreCase(order) ? Order.ASC : Order.DESC;//querydsl Order, entityX
-
-            // PathBuilder를 이용하여 동적으로 컬럼을 지정
-            PathBuilder<Stores> entityPath = new PathBuilder<>(Stores.class, "stores");
-
-            // Expressions.path()로 동적 정렬에 사용할 Expression 생성
-            query.orderBy(
-                    new OrderSpecifier<>(
-                            sortOrder,
-                            Expressions.comparablePath(Comparable.class, entityPath, sortBy)
-                    )
-            );
+                )
+                .fetch();
+    }
+
+    public List<StoreListView> findStoreListViewsByIds(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(storeListView())
+                .from(stores)
+                .where(stores.storeId.in(storeIds))
+                .fetch();
+    }
+
+    /**
+     * 검색 색인 적재용 (삭제되지 않은 가게의 ID, 이름)
+     */
+    public List<SearchDocument> findSearchDocuments() {
+        return jpaQueryFactory
+                .select(Projections.constructor(SearchDocument.class, stores.storeId, stores.name))
+                .from(stores)
+                .where(stores.deletedAt.isNull())
+                .fetch();
+    }
+
+    private ConstructorExpression<StoreListView> storeListView() {
+        return Projections.constructor(StoreListView.class,
+                stores.storeId, stores.name, stores.address, stores.status, stores.category,
+                stores.starSum, stores.reviewSum);
+    }
+
+
+    /**
+     * 별점 집계 변경
+     *
+     * JPQL 벌크 update 는 가게 2차 캐시 영역 전체를 비우므로 JDBC 로 실행하고, 캐시는 호출하는 쪽에서 해당 가게만 제거합니다.
+     * (CatalogCacheEvictor.evictStore)
+     * 같은 트랜잭션에서 아직 반영되지 않은 변경(새로 저장한 가게 등)이 있으면 먼저 flush 합니다.
+     */
+    public int updateRating(UUID storeId, int addedStar, int removedStar) {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
         }
+        Object[] params = new Object[STAR_COUNT_COLUMNS.length + 3];
+        params[0] = addedStar - removedStar;
+        params[1] = (addedStar > 0 ? 1 : 0) - (removedStar > 0 ? 1 : 0);
+        for (int i = 0; i < STAR_COUNT_COLUMNS.length; i++) {
+            int star = i + 1;
+            params[i + 2] = (addedStar == star ? 1 : 0) - (removedStar == star ? 1 : 0);
+        }
+        params[params.length - 1] = storeId;
+        return jdbcTemplate.update(UPDATE_RATING_SQL, params);
+    }
 
-        // 결과 조회
-        return query.fetch();
+    public int recalculateMismatchedRatings() {
+        return jdbcTemplate.update(RECALCULATE_RATINGS_SQL);
     }
 
+    public List<StoreListView> findRankingSources(Collection<UUID> storeIds) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(stores.deletedAt.isNull());
+        if (storeIds != null) {
+            builder.and(stores.storeId.in(storeIds));
+        }
+        return jpaQueryFactory
+                .select(storeListView())
+                .from(stores)
+                .where(builder)
+                .fetch();
+    }
 }
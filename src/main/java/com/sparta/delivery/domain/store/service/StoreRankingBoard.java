@@ -0,0 +1,269 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.enums.RankingMetric;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 가게 순위표 (전체 / 카테고리 / 운영 지역(동) / 운영 지역 + 카테고리 별로 정렬된 상태를 유지)
+ *
+ * 순위 기준마다 정렬된 집합을 유지하므로 상위 K 개 조회는 앞에서부터 K 개만 읽습니다. (DB 조회 없음)
+ * - 평점 순위 : 베이지안 평균 (C * m + 별점 합) / (C + 리뷰 수)
+ *   m 은 전체 가게의 평균 별점, C 는 ranking.priorWeight 로, 리뷰가 적은 가게의 평균은 전체 평균 쪽으로 당겨집니다.
+ *   (리뷰 1 개짜리 5 점 가게가 리뷰가 많은 4.8 점 가게보다 앞서지 않도록)
+ * - 판매량 순위 : 결제 완료 주문 수
+ * m 이 바뀌면 모든 가게의 점수가 바뀌므로 m 은 전체 재계산(rebuild) 시점에만 갱신합니다.
+ */
+public class StoreRankingBoard {
+
+    public record StoreStats(UUID storeId, String name, Category category, Set<String> localities,
+                             int starSum, int reviewCount, long orderCount) {
+    }
+
+    public record RankedStore(StoreStats stats, double ratingScore) {
+    }
+
+    private static final String ALL = "*";
+
+    private static final Map<RankingMetric, Comparator<RankedStore>> COMPARATORS = new EnumMap<>(Map.of(
+            RankingMetric.RATING, Comparator.comparingDouble(RankedStore::ratingScore).reversed()
+                    .thenComparing(ranked -> ranked.stats().reviewCount(), Comparator.reverseOrder())
+                    .thenComparing(ranked -> ranked.stats().storeId()),
+            RankingMetric.ORDERS, Comparator.comparingLong((RankedStore ranked) -> ranked.stats().orderCount()).reversed()
+                    .thenComparing(RankedStore::ratingScore, Comparator.reverseOrder())
+                    .thenComparing(ranked -> ranked.stats().storeId())
+    ));
+
+    private final double priorWeight;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Boards boards;
+    private List<Runnable> changesDuringRebuild;
+
+    public StoreRankingBoard(double priorWeight) {
+        this.priorWeight = priorWeight;
+        this.boards = new Boards(0);
+    }
+
+    /**
+     * 상위 가게 조회
+     *
+     * @param category null 이면 전체 카테고리
+     * @param locality null 이면 전체 운영 지역
+     */
+    public List<RankedStore> top(RankingMetric metric, Category category, String locality, int limit) {
+        lock.readLock().lock();
+        try {
+            return boards.top(metric, keyOf(category, locality), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가게 정보를 추가하거나 교체
+     *
+     * 재계산 중에 들어온 변경을 새 순위표에 다시 적용할 때는 주문 수를 덮어쓰지 않고 재계산에서 읽은 주문 수를 유지합니다.
+     * (재계산이 더 나중에 읽은 주문 수를 이전에 읽은 값으로 되돌리지 않도록)
+     */
+    public void put(StoreStats stats) {
+        write(() -> boards.put(stats), () -> boards.merge(stats));
+    }
+
+    /**
+     * 삭제된 가게 제거
+     */
+    public void remove(UUID storeId) {
+        Runnable change = () -> boards.remove(storeId);
+        write(change, change);
+    }
+
+    /**
+     * 결제 완료 주문 수 변경 (순위표에 없는 가게는 무시)
+     *
+     * 재계산 중에 들어온 주문 수 변경은 다시 적용하지 않습니다. (재계산에서 읽은 주문 수에 이미 포함되었을 수 있음)
+     */
+    public void addOrders(UUID storeId, long delta) {
+        lock.writeLock().lock();
+        try {
+            boards.addOrders(storeId, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 가게로 순위표를 다시 생성 (전체 평균 별점 m 갱신)
+     *
+     * 재계산 중에 들어온 put / remove 는 기록해 두었다가 새 순위표로 교체할 때 다시 적용합니다. (put 은 주문 수를 제외하고 병합)
+     */
+    public void rebuild(Supplier<List<StoreStats>> loader) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Boards rebuilt = null;
+        try {
+            List<StoreStats> stores = loader.get();
+            long starSum = 0;
+            long reviewCount = 0;
+            for (StoreStats stats : stores) {
+                starSum += stats.starSum();
+                reviewCount += stats.reviewCount();
+            }
+            rebuilt = new Boards(reviewCount == 0 ? 0 : (double) starSum / reviewCount);
+            stores.forEach(rebuilt::put);
+        } finally {
+            // 적재에 실패하면 기존 순위표를 그대로 사용
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    boards = rebuilt;
+                    changesDuringRebuild.forEach(Runnable::run);
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return boards.stores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change, Runnable replay) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringRebuild != null) {
+                // 교체 이후 적용할 때는 그 시점의 순위표(boards)에 적용
+                changesDuringRebuild.add(replay);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String keyOf(Category category, String locality) {
+        if (locality == null) {
+            return category == null ? ALL : "c:" + category.name();
+        }
+        return category == null ? "l:" + locality : "l:" + locality + "|c:" + category.name();
+    }
+
+    private final class Boards {
+
+        private final double priorMean;
+        private final Map<UUID, RankedStore> stores = new HashMap<>();
+        private final Map<RankingMetric, Map<String, NavigableSet<RankedStore>>> sets = new EnumMap<>(RankingMetric.class);
+
+        Boards(double priorMean) {
+            this.priorMean = priorMean;
+            for (RankingMetric metric : RankingMetric.values()) {
+                sets.put(metric, new HashMap<>());
+            }
+        }
+
+        List<RankedStore> top(RankingMetric metric, String key, int limit) {
+            NavigableSet<RankedStore> set = sets.get(metric).get(key);
+            if (set == null) {
+                return List.of();
+            }
+            List<RankedStore> top = new ArrayList<>(Math.min(limit, set.size()));
+            Iterator<RankedStore> iterator = set.iterator();
+            while (iterator.hasNext() && top.size() < limit) {
+                top.add(iterator.next());
+            }
+            return top;
+        }
+
+        void put(StoreStats stats) {
+            remove(stats.storeId());
+            RankedStore ranked = new RankedStore(stats, ratingScore(stats));
+            stores.put(stats.storeId(), ranked);
+            for (String key : keysOf(stats)) {
+                sets.forEach((metric, byKey) -> byKey.computeIfAbsent(key, k -> new TreeSet<>(COMPARATORS.get(metric))).add(ranked));
+            }
+        }
+
+        void remove(UUID storeId) {
+            RankedStore previous = stores.remove(storeId);
+            if (previous == null) {
+                return;
+            }
+            for (String key : keysOf(previous.stats())) {
+                sets.values().forEach(byKey -> {
+                    NavigableSet<RankedStore> set = byKey.get(key);
+                    if (set != null && set.remove(previous) && set.isEmpty()) {
+                        byKey.remove(key);
+                    }
+                });
+            }
+        }
+
+        /**
+         * 이미 있는 가게는 주문 수를 유지하고 나머지 정보만 교체
+         */
+        void merge(StoreStats stats) {
+            RankedStore current = stores.get(stats.storeId());
+            if (current == null) {
+                put(stats);
+                return;
+            }
+            put(new StoreStats(stats.storeId(), stats.name(), stats.category(), stats.localities(),
+                    stats.starSum(), stats.reviewCount(), current.stats().orderCount()));
+        }
+
+        void addOrders(UUID storeId, long delta) {
+            RankedStore current = stores.get(storeId);
+            if (current == null) {
+                return;
+            }
+            StoreStats stats = current.stats();
+            put(new StoreStats(stats.storeId(), stats.name(), stats.category(), stats.localities(),
+                    stats.starSum(), stats.reviewCount(), Math.max(0, stats.orderCount() + delta)));
+        }
+
+        private double ratingScore(StoreStats stats) {
+            double weight = priorWeight + stats.reviewCount();
+            return weight == 0 ? 0 : (priorWeight * priorMean + stats.starSum()) / weight;
+        }
+
+        private List<String> keysOf(StoreStats stats) {
+            List<String> keys = new ArrayList<>();
+            keys.add(ALL);
+            if (stats.category() != null) {
+                keys.add(keyOf(stats.category(), null));
+            }
+            for (String locality : stats.localities()) {
+                keys.add(keyOf(null, locality));
+                if (stats.category() != null) {
+                    keys.add(keyOf(stats.category(), locality));
+                }
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.region.dto.RegionView;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.store.dto.StoreListView;
+import com.sparta.delivery.domain.store.dto.StoreRankingResDto;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.enums.RankingMetric;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 순위 (카테고리 / 운영 지역 별 평점 순, 판매량 순)
+ *
+ * 순위 조회는 서버 메모리의 StoreRankingBoard 에서 처리하고, 변경은 이벤트가 발생한 가게만 다시 읽어 반영합니다.
+ * - 가게 생성/수정/삭제, 운영 지역 변경, 리뷰 별점 변경 : 커밋 이후 해당 가게를 DB 에서 다시 조회 (refresh)
+ * - 결제 완료/주문 취소 : 커밋 이후 메모리의 주문 수만 변경 (addPaidOrders)
+ * - 다른 서버에서 발생한 가게/운영 지역 변경은 InvalidationBus 로 전달받아 refresh 하고,
+ *   다른 서버의 주문 수는 주기적으로 마지막 확인 이후 주문이 변경된 가게만 다시 조회(scheduler.storeRankingRefresh)해 맞춥니다.
+ * - 전체 평균 별점은 긴 주기의 전체 재계산(scheduler.storeRankingRebuild)에서만 갱신합니다. (전체 가게 주문 수 GROUP BY)
+ */
+@Slf4j
+@Service
+public class StoreRankingService {
+
+    private final StoreRankingBoard board;
+    private final StoreRepository storeRepository;
+    private final RegionRepository regionRepository;
+    private final OrderRepository orderRepository;
+    private final int maxLimit;
+
+    // 주문의 updated_at 은 각 서버의 시각으로 저장되고 커밋 전에 기록되므로, 마지막 확인 시각보다 조금 앞부터 다시 확인
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(10);
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final Timer rebuildTimer; // 전체 재계산 소요 시간
+    private volatile LocalDateTime lastRefreshedAt; // 주문 수를 마지막으로 확인한 시각 (이후 변경된 가게만 갱신)
+
+    public StoreRankingService(StoreRepository storeRepository,
+                               RegionRepository regionRepository,
+                               OrderRepository orderRepository,
+                               InvalidationBus invalidationBus,
+                               MeterRegistry meterRegistry,
+                               @Value("${ranking.priorWeight:10}") double priorWeight,
+                               @Value("${ranking.maxLimit:100}") int maxLimit) {
+        this.board = new StoreRankingBoard(priorWeight);
+        this.storeRepository = storeRepository;
+        this.regionRepository = regionRepository;
+        this.orderRepository = orderRepository;
+        this.maxLimit = maxLimit;
+        this.rebuildTimer = Timer.builder("store.ranking.rebuild.duration")
+                .description("Duration of a full store ranking rebuild")
+                .register(meterRegistry);
+        Gauge.builder("store.ranking.stores", board, StoreRankingBoard::size)
+                .description("Number of stores in the in-memory ranking")
+                .register(meterRegistry);
+
+        invalidationBus.subscribe(InvalidationTopic.STORE, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                refreshNow(List.of(UUID.fromString(key)));
+            }
+
+            @Override
+            public void invalidateAll() {
+                scheduledRebuild();
+            }
+        });
+        invalidationBus.subscribe(InvalidationTopic.REGION, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                regionRepository.findById(UUID.fromString(key))
+                        .ifPresent(region -> refreshNow(List.of(region.getStores().getStoreId())));
+            }
+
+            @Override
+            public void invalidateAll() {
+                // STORE 리스너에서 전체 재계산
+            }
+        });
+    }
+
+    /**
+     * 상위 가게 조회 (DB 조회 없음)
+     *
+     * @param metric   rating(기본값) 또는 orders
+     * @param category 카테고리 (없으면 전체)
+     * @param locality 운영 지역 동 이름 (없으면 전체)
+     * @param limit    조회할 가게 수 (최대 ranking.maxLimit)
+     */
+    public List<StoreRankingResDto> getTopStores(String metric, String category, String locality, int limit) {
+        RankingMetric rankingMetric = RankingMetric.from(metric);
+        Category rankingCategory = category == null || category.isBlank() ? null : Category.from(category);
+        String rankingLocality = locality == null || locality.isBlank() ? null : locality.trim();
+
+        List<StoreRankingBoard.RankedStore> top = board.top(rankingMetric, rankingCategory, rankingLocality,
+                Math.min(Math.max(limit, 1), maxLimit));
+
+        List<StoreRankingResDto> ranking = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            ranking.add(StoreRankingResDto.of(i + 1, top.get(i)));
+        }
+        return ranking;
+    }
+
+    /**
+     * 가게 정보/운영 지역/별점이 변경된 경우 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    public void refresh(UUID storeId) {
+        runAfterCommit(() -> refreshNow(List.of(storeId)));
+    }
+
+    /**
+     * 결제 완료(+1) / 결제된 주문 취소(-1) 시 판매량 변경 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    public void addPaidOrders(UUID storeId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        runAfterCommit(() -> board.addOrders(storeId, delta));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.storeRankingRefresh.initialDelayMs:60000}",
+            fixedDelayString = "${scheduler.storeRankingRefresh.fixedDelayMs:60000}")
+    public void scheduledRefresh() {
+        try {
+            refreshChangedStores();
+        } catch (RuntimeException e) {
+            log.warn("Store ranking refresh failed : {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.storeRankingRebuild.initialDelayMs:3600000}",
+            fixedDelayString = "${scheduler.storeRankingRebuild.fixedDelayMs:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Store ranking rebuild failed : {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        rebuildTimer.record(() -> board.rebuild(() -> loadStats(null)));
+        lastRefreshedAt = startedAt;
+        log.debug("Store ranking rebuilt : stores={}", board.size());
+    }
+
+    /**
+     * 마지막 확인 이후 주문이 변경된 가게만 다시 조회 (다른 서버에서 결제/취소된 주문 수 반영)
+     */
+    public void refreshChangedStores() {
+        LocalDateTime since = lastRefreshedAt;
+        if (since == null) {
+            // 시작 시 전체 재계산 전
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UUID> storeIds = orderRepository.findStoreIdsWithOrdersUpdatedSince(since.minus(REFRESH_OVERLAP));
+        for (int from = 0; from < storeIds.size(); from += REFRESH_BATCH_SIZE) {
+            refreshNow(storeIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, storeIds.size())));
+        }
+        lastRefreshedAt = startedAt;
+        log.debug("Store ranking refreshed : stores={}", storeIds.size());
+    }
+
+    private void refreshNow(List<UUID> storeIds) {
+        try {
+            Map<UUID, StoreRankingBoard.StoreStats> stats = loadStats(storeIds).stream()
+                    .collect(Collectors.toMap(StoreRankingBoard.StoreStats::storeId, Function.identity()));
+            for (UUID storeId : storeIds) {
+                StoreRankingBoard.StoreStats storeStats = stats.get(storeId);
+                if (storeStats == null) {
+                    board.remove(storeId);
+                } else {
+                    board.put(storeStats);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 커밋 이후에 실행되므로 요청을 실패시키지 않음 (다음 갱신에서 반영)
+            log.warn("Store ranking refresh failed ({}) : {}", storeIds, e.getMessage());
+        }
+    }
+
+    /**
+     * @param storeIds 조회할 가게 ID (null 이면 전체)
+     */
+    private List<StoreRankingBoard.StoreStats> loadStats(Collection<UUID> storeIds) {
+        List<StoreListView> stores = storeRepository.findRankingSources(storeIds);
+        Map<UUID, Set<String>> localities = regionRepository.findActiveRegionViews(storeIds).stream()
+                .collect(Collectors.groupingBy(RegionView::storeId,
+                        Collectors.mapping(RegionView::locality, Collectors.toSet())));
+        Map<UUID, Long> orderCounts = orderRepository.countPaidOrdersByStore(storeIds);
+
+        return stores.stream()
+                .map(store -> new StoreRankingBoard.StoreStats(store.storeId(), store.name(), store.category(),
+                        localities.getOrDefault(store.storeId(), Set.of()),
+                        store.starSum(), store.reviewSum(), orderCounts.getOrDefault(store.storeId(), 0L)))
+                .toList();
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 별점 분포 컬럼(one_star_count ~ five_star_count) 초기화
+ *
+ * 분포 컬럼이 추가되기 전에 작성된 리뷰가 있는 가게는 리뷰 수와 분포 합계가 맞지 않으므로, 서버 시작 시 p_review 기준으로 한 번 다시 계산합니다.
+ * 이후에는 리뷰 작성/수정/삭제 시 StoreService 에서 집계를 함께 변경하므로 다시 계산할 가게가 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingBackfill {
+
+    private final StoreRepository storeRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recalculateOnStartup() {
+        int recalculated = storeRepository.recalculateMismatchedRatings();
+        if (recalculated > 0) {
+            entityManagerFactory.getCache().evict(Stores.class);
+            log.info("Store rating aggregates recalculated : {} stores", recalculated);
+        }
+    }
+}
@@ -4,16 +4,27 @@ import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.UserNotFoundException;
+import com.sparta.delivery.domain.common.CatalogCacheEvictor;
+import com.sparta.delivery.domain.region.dto.RegionListDto;
+import com.sparta.delivery.domain.region.dto.RegionView;
 import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
+import com.sparta.delivery.domain.search.service.RelevancePaging;
+import com.sparta.delivery.domain.store.dto.StoreListView;
+import com.sparta.delivery.domain.store.dto.StoreRatingResDto;
 import com.sparta.delivery.domain.store.dto.StoreRegionResDto;
 import com.sparta.delivery.domain.store.dto.StoreReqDto;
 import com.sparta.delivery.domain.store.dto.StoreResDto;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -22,7 +33,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,54 +44,130 @@ import java.util.stream.Collectors;
 public class StoreService {
 
     private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
+    private final RegionRepository regionRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final SearchIndex searchIndex;
+    private final CatalogCacheEvictor catalogCacheEvictor;
+    private final StoreRankingService storeRankingService;
 
     @Transactional
     public StoreResDto storeCreate(StoreReqDto storereqdto, PrincipalDetails userDetails) {//가게 저장
         Stores store = reqDtoToEntity(storereqdto);
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(userDetails.getUsername()).orElseThrow(() -> new UserNotFoundException("해당 유저가 존재하지 않습니다"));
-        store.setUser(user);
-        return entityToResDto(storeRepository.save(store));
+        ResolvedUser user = currentUserResolver.resolve(userDetails.getUsername()).orElseThrow(() -> new UserNotFoundException("해당 유저가 존재하지 않습니다"));
+        store.setUser(currentUserResolver.getReference(user));
+        Stores savedStore = storeRepository.save(store);
+        searchIndex.index(SearchDocumentType.STORE, savedStore.getStoreId(), savedStore.getName());
+        storeRankingService.refresh(savedStore.getStoreId());
+        return entityToResDto(savedStore);
     }
 
+    @Transactional(readOnly = true)
     public Page<StoreRegionResDto> getStoreList(Pageable pageable) { //가게 리스트 조회
-        Page<Stores> storeList = storeRepository.findAllByDeletedAtIsNull(pageable);
+        Page<StoreListView> storeList = storeRepository.findStoreListViews(StoreRepository.SORT_SPEC.validate(pageable));
         if (storeList.isEmpty()) {
             throw new StoreNotFoundException("가게가 한개도 등록되어있지 않습니다.");
         }
 
-        return storeList.map(StoreRegionResDto::new);
+        // 페이지에 포함된 가게들의 운영 지역을 한 번에 조회
+        List<UUID> storeIds = storeList.map(StoreListView::storeId).getContent();
+        Map<UUID, List<RegionListDto>> regionMap = regionRepository.findRegionViewsByStoreIds(storeIds).stream()
+                .collect(Collectors.groupingBy(RegionView::storeId,
+                        Collectors.mapping(RegionListDto::new, Collectors.toList())));
+
+        return storeList.map(store -> new StoreRegionResDto(store, regionMap.getOrDefault(store.storeId(), new ArrayList<>())));
     }
 
     public StoreRegionResDto getStoreOne(UUID id) {//가게 단일 조회
         return new StoreRegionResDto(storeRepository.findByStoreIdAndDeletedAtIsNull(id).orElseThrow(() -> new StoreNotFoundException("해당 가게가 존재하지 않습니다")));
     }
 
-    public Stores updateStoreReview(UUID id, int star, int cnt) { //별점, 개수여부(+1 or -1)
-        Stores store = storeRepository.findById(id).orElseThrow(() -> new StoreNotFoundException("가게를 등록할 수 없습니다."));
-        store.setStarSum(store.getStarSum() + star);
-        store.setReviewSum(store.getReviewSum() + cnt);
-        return storeRepository.save(store);//
+    /**
+     * 가게 별점 요약 (평균 별점, 별점별 리뷰 수)
+     */
+    @Transactional(readOnly = true)
+    public StoreRatingResDto getStoreRating(UUID id) {
+        Stores store = storeRepository.findByStoreIdAndDeletedAtIsNull(id).orElseThrow(() -> new StoreNotFoundException("해당 가게가 존재하지 않습니다"));
+        return StoreRatingResDto.from(store);
     }
 
-    public List<StoreResDto> searchStore(String keyword, Pageable pageable, String categorys, String sortBy, String order) {//가게 검색
+    /**
+     * 리뷰 작성 시 별점 집계 반영
+     */
+    @Transactional
+    public void addReviewRating(UUID storeId, int star) {
+        updateRating(storeId, star, 0);
+    }
+
+    /**
+     * 리뷰 삭제 시 별점 집계에서 제외
+     */
+    @Transactional
+    public void removeReviewRating(UUID storeId, int star) {
+        updateRating(storeId, 0, star);
+    }
+
+    /**
+     * 리뷰 별점 수정 시 기존 별점을 새 별점으로 교체
+     */
+    @Transactional
+    public void changeReviewRating(UUID storeId, int previousStar, int star) {
+        if (previousStar == star) {
+            return;
+        }
+        updateRating(storeId, star, previousStar);
+    }
+
+    // 가게를 조회/저장하지 않고 UPDATE 한 번으로 집계를 변경 (동시에 작성된 리뷰의 변경이 유실되지 않음)
+    private void updateRating(UUID storeId, int addedStar, int removedStar) {
+        if (storeRepository.updateRating(storeId, addedStar, removedStar) == 0) {
+            throw new StoreNotFoundException("존재하지 않는 가게입니다.");
+        }
+        catalogCacheEvictor.evictStore(storeId);
+        storeRankingService.refresh(storeId);
+    }
+
+    /**
+     * 가게 검색
+     *
+     * 키워드는 검색 색인으로 후보 가게 ID 를 찾고, 카테고리/삭제 여부는 DB 에서 확인합니다.
+     * sortBy 가 relevance(기본값) 이면 색인의 관련도 순, 그 외에는 해당 컬럼 기준으로 DB 에서 정렬합니다.
+     * 일치하는 가게가 search.maxHits 를 넘으면 DB LIKE 검색으로 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<StoreResDto> searchStore(String keyword, Pageable pageable, String categorys, String sortBy, String order) {//가게 검색
         Category category = Category.valueOf(categorys);
-        List<Stores> storeList = (keyword == null || keyword.trim().isEmpty()) ?
-                storeRepository.findByCategoryAndDeletedAtIsNull(category, sortBy, order) : storeRepository.findByNameContainingAndCategoryAndDeletedAtIsNull(keyword, category, sortBy, order);
         List<Integer> Size_List = List.of(10, 20, 30);
         if (!Size_List.contains((pageable.getPageSize()))) {
             pageable = PageRequest.of(pageable.getPageNumber(), 10, pageable.getSort());
         }
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), storeList.size());
 
-        if (storeList.isEmpty() || start >= storeList.size()) {
+        // 정렬 기준은 검색 전에 검증 (키워드가 없으면 관련도가 없으므로 기본 정렬)
+        boolean relevance = RelevancePaging.isRelevance(sortBy);
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                StoreRepository.SORT_SPEC.toSort(relevance ? null : sortBy, order));
+
+        Page<StoreListView> storeList;
+        if (keyword == null || keyword.isBlank()) {
+            storeList = storeRepository.searchStores(null, category, sortedPageable);
+        } else {
+            SearchHits hits = searchIndex.search(SearchDocumentType.STORE, keyword);
+            List<UUID> rankedIds = hits.ids();
+            if (hits.isEmpty()) {
+                storeList = Page.empty(pageable);
+            } else if (hits.useDatabase()) {
+                storeList = storeRepository.searchStoresByKeyword(keyword.strip(), category,
+                        relevance ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : sortedPageable);
+            } else if (relevance) {
+                storeList = RelevancePaging.page(rankedIds, storeRepository.findSearchableStoreIds(rankedIds, category), pageable,
+                        storeRepository::findStoreListViewsByIds, StoreListView::storeId);
+            } else {
+                storeList = storeRepository.searchStores(rankedIds, category, sortedPageable);
+            }
+        }
+        if (storeList.isEmpty()) {
             throw new StoreNotFoundException("가게 검색 결과가 존재하지 않습니다.");
         }
-        return storeList.subList(start, end)
-                .stream()
-                .map(StoreResDto::new)
-                .collect(Collectors.toList());
+        return storeList.map(StoreResDto::new);
     }
 
     @Transactional
@@ -88,6 +177,9 @@ public class StoreService {
         store.setAddress(storereqdto.getAddress());
         store.setCategory(storereqdto.getCategory());
         store.setName(storereqdto.getName());
+        searchIndex.index(SearchDocumentType.STORE, store.getStoreId(), store.getName());
+        catalogCacheEvictor.evictStore(store.getStoreId());
+        storeRankingService.refresh(store.getStoreId());
 
         return entityToResDto(store);
     }
@@ -97,10 +189,15 @@ public class StoreService {
         Stores store = storeRepository.findByStoreIdAndDeletedAtIsNull(id).orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
         store.setDeletedBy(userDetails.getUsername());
         store.setDeletedAt(LocalDateTime.now());
+        searchIndex.remove(SearchDocumentType.STORE, store.getStoreId());
+        catalogCacheEvictor.evictStore(store.getStoreId());
+        storeRankingService.refresh(store.getStoreId());
         if (store.getRegionList() != null) {
             for (Region region : store.getRegionList()) {
                 region.setDeletedBy(userDetails.getUsername());
                 region.setDeletedAt(LocalDateTime.now());
+                searchIndex.remove(SearchDocumentType.REGION, region.getRegionId());
+                catalogCacheEvictor.evictRegion(region.getRegionId());
             }
         }
     }
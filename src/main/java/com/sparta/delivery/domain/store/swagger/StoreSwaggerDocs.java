@@ -49,13 +49,42 @@ public @interface StoreSwaggerDocs {
     @interface StoreOne {
     }
 
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 별점 조회", description = "가게의 평균 별점과 별점별 리뷰 수를 조회합니다.")
+    @Parameter(name = "storeId", description = "조회할 가게의 UUID", required = true, example = "af2a560c-1512-4912-97ce-02f9afce72aa")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 가게가 존재하지 않음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @interface StoreRating {
+    }
+
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 순위 조회", description = "카테고리/운영 지역별 상위 가게를 평점(베이지안 평균) 또는 판매량 순으로 조회합니다.")
+    @Parameters({
+            @Parameter(name = "metric", schema = @Schema(type = "string"), description = "순위 기준 (rating: 평점 순(기본값), orders: 판매량 순)", example = "rating"),
+            @Parameter(name = "category", schema = @Schema(type = "string"), description = "카테고리 (없으면 전체)"),
+            @Parameter(name = "locality", schema = @Schema(type = "string"), description = "운영 지역 동 이름 (없으면 전체)", example = "종로동"),
+            @Parameter(name = "limit", schema = @Schema(type = "integer"), description = "조회할 가게 수 (최대 100)", example = "10")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 순위 기준 또는 카테고리"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @interface StoreRanking {
+    }
+
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "가게 검색", description = "키워드와 카테고리로 가게를 검색합니다.")
     @Parameters({
             @Parameter(name = "keyword", schema = @Schema(type = "string"), required = true, description = "검색 키워드"),
             @Parameter(name = "category", schema = @Schema(type = "string"), description = "검색할 카테고리"),
-            @Parameter(name = "sortBy", schema = @Schema(type = "string"), description = "정렬 기준 필드명 (예: createdAt, updatedAt)", example = "createdAt"),
+            @Parameter(name = "sortBy", schema = @Schema(type = "string"), description = "정렬 기준 (relevance: 검색어 관련도 순(기본값), createdAt, name)", example = "relevance"),
             @Parameter(name = "order", schema = @Schema(type = "string"), description = "정렬 방향 (asc: 오름차순, desc: 내림차순)", example = "asc")
     })
     @ApiResponses({
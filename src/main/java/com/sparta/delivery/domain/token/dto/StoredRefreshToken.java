@@ -0,0 +1,25 @@
+package com.sparta.delivery.domain.token.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * RefreshTokenStore 에 보관되는 refresh 토큰 정보
+ *
+ * 만료 시점을 문자열이 아닌 Instant 로 보관하여 TTL 기반 만료 처리에 그대로 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredRefreshToken {
+
+    private final UUID userId;
+    private final String refresh;
+    private final Instant expiresAt;
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
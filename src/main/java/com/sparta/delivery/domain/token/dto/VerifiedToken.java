@@ -0,0 +1,44 @@
+package com.sparta.delivery.domain.token.dto;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 서명 검증이 완료된 JWT 의 payload
+ *
+ * 토큰을 한 번만 파싱하여 필요한 claim 을 모두 담아두고, 이후 필터와 서비스에서는 이 객체만 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String category;
+    private final UUID userId; // userId claim 이 없는 이전 토큰은 null
+    private final String username;
+    private final String email;
+    private final String role;
+    private final Date expiration;
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.get("category", String.class),
+                parseUserId(claims.get("userId", String.class)),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration()
+        );
+    }
+
+    private static UUID parseUserId(String userId) {
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -14,7 +15,10 @@ import java.util.UUID;
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "p_refresh_token")
+@Table(name = "p_refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_refresh", columnList = "refresh"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 public class RefreshToken {
 
     @Id
@@ -31,7 +35,7 @@ public class RefreshToken {
     @Column(nullable = false , length = 512)
     private String refresh;
 
-    // refresh 토큰 유효시간
-    @Column(nullable = false)
-    private String expiration;
+    // refresh 토큰 만료 시점 (만료 토큰 일괄 삭제 기준)
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
 }
@@ -0,0 +1,17 @@
+package com.sparta.delivery.domain.token.interfaces;
+
+import com.sparta.delivery.domain.token.dto.StoredRefreshToken;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenStore {
+
+    Optional<StoredRefreshToken> findByUserId(UUID userId);
+
+    Optional<StoredRefreshToken> findByRefresh(String refresh);
+
+    void save(StoredRefreshToken refreshToken);
+
+    boolean remove(String refresh);
+}
@@ -2,8 +2,14 @@ package com.sparta.delivery.domain.token.repository;
 
 import com.sparta.delivery.domain.token.entity.RefreshToken;
 import com.sparta.delivery.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,10 +17,20 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken , UUI
 
     Optional<RefreshToken> findByUser(User user);
 
+    Optional<RefreshToken> findByUser_UserId(UUID userId);
+
     Optional<RefreshToken> findByRefresh(String refresh);
 
     Boolean existsByRefresh(String refresh);
 
     void deleteByRefresh(String refresh);
 
+    // 엔티티 로딩 없이 바로 삭제 (write-behind 에서 새 토큰 저장 전 기존 토큰 제거)
+    @Modifying
+    @Query("delete from RefreshToken r where r.user.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    // 만료된 토큰 ID 조회 (idx_refresh_token_expires_at 사용, Pageable 로 배치 크기 제한)
+    @Query("select r.RefreshTokenId from RefreshToken r where r.expiresAt < :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Pageable pageable);
 }
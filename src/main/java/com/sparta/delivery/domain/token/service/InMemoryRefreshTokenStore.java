@@ -0,0 +1,259 @@
+package com.sparta.delivery.domain.token.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.token.dto.StoredRefreshToken;
+import com.sparta.delivery.domain.token.entity.RefreshToken;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenStore;
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 기반 RefreshTokenStore
+ *
+ * 로그인/로그아웃/재발급 시 조회는 메모리(Caffeine)에서 처리하고, p_refresh_token 테이블에는 비동기로 반영합니다 (write-behind).
+ * - 각 토큰은 만료 시점(expiresAt)에 메모리에서 자동으로 제거됩니다.
+ * - 메모리에 없는 토큰은 DB 에서 조회하여 다시 적재합니다 (재시작 직후, 다른 서버에서 발급된 토큰).
+ * - DB 반영은 단일 스레드에서 요청 순서대로 처리하므로 같은 사용자의 저장/삭제 순서가 뒤바뀌지 않습니다.
+ * - DB 반영이 끝나면 다른 서버에 알려, 다른 서버가 메모리에 가진 이전 토큰(로그아웃/재발급된 토큰)을 제거하게 합니다.
+ * - DB 반영에 실패하면 같은 스레드에서 writeBehindMaxAttempts 번까지 다시 시도하고 (뒤의 작업과 순서 유지),
+ *   결과는 refresh.token.write.behind{result} 지표로 집계합니다. (failed 가 증가하면 다른 서버에서 해당 토큰을 찾지 못함)
+ */
+@Slf4j
+@Component
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final int writeBehindMaxAttempts;
+    private final long writeBehindRetryDelayMs;
+
+    // 사용자별 refresh 토큰 (key : userId)
+    private final Cache<UUID, StoredRefreshToken> tokensByUserId;
+
+    // refresh 토큰 값으로 조회하기 위한 인덱스 (key : refresh 토큰)
+    private final Cache<String, StoredRefreshToken> tokensByRefresh;
+
+    // DB write-behind 전용 스레드
+    private final ExecutorService writeBehindExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-token-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemoryRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                     UserRepository userRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     InvalidationBus invalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.refreshToken.maximumSize:100000}") long maximumSize,
+                                     @Value("${cache.refreshToken.writeBehindMaxAttempts:3}") int writeBehindMaxAttempts,
+                                     @Value("${cache.refreshToken.writeBehindRetryDelayMs:500}") long writeBehindRetryDelayMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.writeBehindMaxAttempts = Math.max(1, writeBehindMaxAttempts);
+        this.writeBehindRetryDelayMs = writeBehindRetryDelayMs;
+        this.tokensByUserId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new RefreshTokenExpiry<UUID>())
+                .build();
+        this.tokensByRefresh = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new RefreshTokenExpiry<String>())
+                .build();
+
+        invalidationBus.subscribe(InvalidationTopic.REFRESH_TOKEN, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                evictUser(UUID.fromString(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                tokensByUserId.invalidateAll();
+                tokensByRefresh.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> findByUserId(UUID userId) {
+        StoredRefreshToken cached = tokensByUserId.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return refreshTokenRepository.findByUser_UserId(userId)
+                .map(entity -> load(userId, entity.getRefresh(), entity.getExpiresAt()));
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> findByRefresh(String refresh) {
+        StoredRefreshToken cached = tokensByRefresh.getIfPresent(refresh);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return refreshTokenRepository.findByRefresh(refresh)
+                .map(entity -> load(entity.getUser().getUserId(), entity.getRefresh(), entity.getExpiresAt()));
+    }
+
+    /**
+     * refresh 토큰을 저장하는 메서드 (사용자당 하나의 토큰만 유지하므로 기존 토큰은 교체)
+     */
+    @Override
+    public void save(StoredRefreshToken refreshToken) {
+        tokensByUserId.asMap().compute(refreshToken.getUserId(), (userId, previous) -> {
+            if (previous != null) {
+                tokensByRefresh.invalidate(previous.getRefresh());
+            }
+            tokensByRefresh.put(refreshToken.getRefresh(), refreshToken);
+            return refreshToken;
+        });
+
+        writeBehind(() -> {
+            refreshTokenRepository.deleteByUserId(refreshToken.getUserId());
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .user(userRepository.getReferenceById(refreshToken.getUserId()))
+                    .refresh(refreshToken.getRefresh())
+                    .expiresAt(refreshToken.getExpiresAt())
+                    .build());
+            invalidationBus.publish(InvalidationTopic.REFRESH_TOKEN, refreshToken.getUserId());
+        });
+    }
+
+    /**
+     * refresh 토큰을 제거하는 메서드
+     *
+     * @return 저장된 토큰이 있어 제거한 경우 true, 등록되지 않은 토큰인 경우 false
+     */
+    @Override
+    public boolean remove(String refresh) {
+        Optional<StoredRefreshToken> stored = findByRefresh(refresh);
+        if (stored.isEmpty()) {
+            return false;
+        }
+
+        tokensByRefresh.invalidate(refresh);
+        tokensByUserId.asMap().computeIfPresent(stored.get().getUserId(),
+                (userId, current) -> current.getRefresh().equals(refresh) ? null : current);
+
+        writeBehind(() -> {
+            refreshTokenRepository.deleteByRefresh(refresh);
+            invalidationBus.publish(InvalidationTopic.REFRESH_TOKEN, stored.get().getUserId());
+        });
+        return true;
+    }
+
+    /**
+     * 다른 서버에서 저장/삭제된 사용자의 토큰을 메모리에서 제거 (다음 조회 시 DB 에서 다시 적재)
+     */
+    private void evictUser(UUID userId) {
+        tokensByUserId.invalidate(userId);
+        tokensByRefresh.asMap().values().removeIf(token -> token.getUserId().equals(userId));
+    }
+
+    /**
+     * DB 에서 읽어온 토큰을 메모리에 적재
+     */
+    private StoredRefreshToken load(UUID userId, String refresh, Instant expiresAt) {
+        StoredRefreshToken refreshToken = new StoredRefreshToken(userId, refresh, expiresAt);
+
+        if (!refreshToken.isExpired()) {
+            tokensByUserId.asMap().putIfAbsent(userId, refreshToken);
+            tokensByRefresh.put(refresh, refreshToken);
+        }
+        return refreshToken;
+    }
+
+    private void writeBehind(Runnable task) {
+        writeBehindExecutor.execute(() -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> task.run());
+                    countWriteBehind(attempt == 1 ? "success" : "retried");
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= writeBehindMaxAttempts || !sleep(writeBehindRetryDelayMs * attempt)) {
+                        countWriteBehind("failed");
+                        log.error("Refresh token write-behind failed after {} attempts", attempt, e);
+                        return;
+                    }
+                    log.warn("Refresh token write-behind failed (attempt {}) : {}", attempt, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void countWriteBehind(String result) {
+        meterRegistry.counter("refresh.token.write.behind", "result", result).increment();
+    }
+
+    // 재시도 대기 (종료 중이면 false)
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 DB 반영 작업을 마저 처리
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writeBehindExecutor.shutdown();
+        if (!writeBehindExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Refresh token write-behind did not finish within timeout");
+        }
+    }
+
+    /**
+     * 각 토큰을 만료 시점(expiresAt)에 메모리에서 제거하는 Expiry
+     */
+    private static class RefreshTokenExpiry<K> implements Expiry<K, StoredRefreshToken> {
+
+        @Override
+        public long expireAfterCreate(K key, StoredRefreshToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, StoredRefreshToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, StoredRefreshToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String createAccessToken(User user) {
-        return jwtUtil.createJwt("access",user.getUsername(), user.getEmail(), user.getRole(),accessExpiredMs);
+        return jwtUtil.createJwt("access",user.getUserId(),user.getUsername(), user.getEmail(), user.getRole(),accessExpiredMs);
     }
 
     /**
@@ -49,7 +49,7 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String createRefreshToken(User user) {
-        return jwtUtil.createJwt("refresh",user.getUsername(), user.getEmail(), user.getRole(),refreshExpiredMs);
+        return jwtUtil.createJwt("refresh",user.getUserId(),user.getUsername(), user.getEmail(), user.getRole(),refreshExpiredMs);
     }
 
     /**
@@ -1,7 +1,12 @@
 package com.sparta.delivery.domain.token.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.delivery.domain.token.dto.VerifiedToken;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -9,23 +14,70 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
 
+    // 서명 검증용 parser (불변 객체이므로 재사용)
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰 캐시 (key : 토큰 SHA-256 해시, 토큰의 exp 시점에 만료)
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
     /**
      * JwtUtil 생성자
      *
      * @param secretKey Jwt 시크릿 키를 받아 SecretKey 객체를 생성합니다.
+     * @param verifiedTokenCacheSize 검증된 토큰 캐시의 최대 크기
      * @throws IllegalArgumentException 제공된 키가 유효하지 않으면 예외가 발생할 수 있습니다.
      */
-    public JwtUtil(@Value("${spring.jwt.secret}") String secretKey) {
+    public JwtUtil(@Value("${spring.jwt.secret}") String secretKey,
+                   @Value("${spring.jwt.verifiedTokenCacheSize:10000}") long verifiedTokenCacheSize) {
         this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
 
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
+
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * JWT 토큰을 한 번만 파싱/서명 검증하여 모든 claim 을 반환하는 메서드
+     *
+     * 1. 토큰 해시로 캐시를 조회해 아직 만료되지 않은 검증 결과가 있으면 그대로 반환
+     * 2. 없으면 서명을 검증하고 결과를 토큰의 exp 까지 캐시
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰의 claim 정보
+     * @throws io.jsonwebtoken.ExpiredJwtException 토큰이 만료된 경우
+     * @throws io.jsonwebtoken.JwtException 서명이 잘못되었거나 형식이 올바르지 않은 경우
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        // 캐시에 없거나 만료 직전에 조회된 경우, 다시 파싱하여 만료 예외까지 동일하게 발생시킴
+        VerifiedToken verifiedToken = VerifiedToken.from(parseClaims(token));
+        verifiedTokenCache.put(key, verifiedToken);
+
+        return verifiedToken;
     }
 
 
@@ -37,8 +89,7 @@ public class JwtUtil {
      * @throws IllegalArgumentException 토큰이 잘못된 경우 예외 발생 가능
      */
     public String getUsername(String token){
-        Claims claims = parseClaims(token);
-        return claims.get("username",String.class);
+        return verify(token).getUsername();
     }
 
     /**
@@ -49,8 +100,7 @@ public class JwtUtil {
      * @throws IllegalArgumentException 토큰이 잘못된 경우 예외 발생 가능
      */
     public String getRole(String token){
-        Claims claims = parseClaims(token);
-        return claims.get("role",String.class);
+        return verify(token).getRole();
     }
 
     /**
@@ -61,8 +111,7 @@ public class JwtUtil {
      * @throws IllegalArgumentException 토큰이 잘못된 경우 예외 발생 가능
      */
     public String getEmail(String token){
-        Claims claims = parseClaims(token);
-        return claims.get("email",String.class);
+        return verify(token).getEmail();
     }
 
 
@@ -74,8 +123,7 @@ public class JwtUtil {
      * @throws IllegalArgumentException 토큰이 잘못된 경우 예외 발생 가능
      */
     public String getCategory(String token){
-        Claims claims = parseClaims(token);
-        return claims.get("category",String.class);
+        return verify(token).getCategory();
     }
 
     /**
@@ -85,23 +133,24 @@ public class JwtUtil {
      * @return 토큰이 만료되었으면 true, 그렇지 않으면 false
      */
     public boolean isExpired(String token) {
-        Claims claims = parseClaims(token); // Claims 파싱
-        return claims.getExpiration().before(new Date()); // 만료 체크, 만료 시 true
+        return verify(token).isExpired(); // 만료 체크, 만료 시 true
     }
 
     /**
      * JWT 토큰을 생성하는 메서드
      *
      * @param category 토큰의 카테고리 (예: "access", "refresh" 등)
+     * @param userId 사용자 ID
      * @param username 사용자 이름
      * @param email 사용자 이메일
      * @param role 사용자 역할 (USER, ADMIN 등)
      * @param expiredMs 토큰의 만료시간 (밀리초 단위)
      * @return 생성된 JWT 토큰
      */
-    public String createJwt(String category , String username, String email ,UserRoles role, Long expiredMs){
+    public String createJwt(String category , UUID userId, String username, String email ,UserRoles role, Long expiredMs){
         return Jwts.builder()
                 .claim("category",category)
+                .claim("userId",userId != null ? userId.toString() : null)
                 .claim("username",username)
                 .claim("email",email)
                 .claim("role",role.name())
@@ -119,10 +168,42 @@ public class JwtUtil {
      * @return 파싱된 Claims 객체
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
+
+    /**
+     * 캐시 key 로 사용할 토큰의 SHA-256 해시를 생성하는 메서드
+     */
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 exp 시점에 만료시키는 정책
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMs = value.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.sparta.delivery.domain.token.service;
+
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 만료된 refresh 토큰을 주기적으로 삭제하는 스케줄러
+ *
+ * expires_at 인덱스로 만료된 토큰 ID 를 batchSize 만큼 조회한 뒤 ID 기준으로 일괄 삭제합니다.
+ * 배치마다 트랜잭션을 나누어 한 번에 오래 잠그지 않으며, 한 번의 실행에서 최대 maxBatches 개의 배치만 처리합니다.
+ * 여러 서버에서 동시에 실행되어도 같은 ID 를 중복 삭제할 뿐이므로 별도의 잠금은 두지 않습니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Counter purgedCounter; // 삭제된 토큰 수
+    private final Timer sweepTimer; // 한 번의 실행 소요 시간
+
+    public RefreshTokenPurgeScheduler(RefreshTokenRepository refreshTokenRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${scheduler.refreshTokenPurge.batchSize:500}") int batchSize,
+                                      @Value("${scheduler.refreshTokenPurge.maxBatches:100}") int maxBatches) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purgedCounter = Counter.builder("refresh.token.purge.deleted")
+                .description("Number of expired refresh tokens deleted")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("refresh.token.purge.duration")
+                .description("Duration of a refresh token purge sweep")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.refreshTokenPurge.initialDelayMs:60000}",
+            fixedDelayString = "${scheduler.refreshTokenPurge.fixedDelayMs:600000}")
+    public void scheduledPurge() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            log.warn("Refresh token purge failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 refresh 토큰 삭제
+     *
+     * @return 삭제된 토큰 수
+     */
+    public int purgeExpired() {
+        return sweepTimer.record(() -> {
+            Instant now = Instant.now();
+            int purged = 0;
+
+            for (int batch = 0; batch < maxBatches; batch++) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<UUID> expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                    if (!expiredIds.isEmpty()) {
+                        refreshTokenRepository.deleteAllByIdInBatch(expiredIds);
+                    }
+                    return expiredIds.size();
+                });
+
+                int count = deleted != null ? deleted : 0;
+                purged += count;
+                purgedCounter.increment(count);
+
+                if (count < batchSize) {
+                    break;
+                }
+            }
+
+            if (purged > 0) {
+                log.info("Purged {} expired refresh tokens", purged);
+            }
+            return purged;
+        });
+    }
+}
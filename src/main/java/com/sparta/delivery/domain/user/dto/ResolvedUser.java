@@ -0,0 +1,18 @@
+package com.sparta.delivery.domain.user.dto;
+
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+
+import java.util.UUID;
+
+/**
+ * 현재 로그인한 사용자 스냅샷 (CurrentUserResolver 캐시에 보관하는, 영속성 컨텍스트와 분리된 불변 값)
+ *
+ * 연관관계 설정이나 조회 조건에 사용자 엔티티가 필요하면 CurrentUserResolver.getReference 로 참조를 얻습니다.
+ */
+public record ResolvedUser(UUID userId, String username, String email, String nickname, UserRoles role) {
+
+    public static ResolvedUser from(User user) {
+        return new ResolvedUser(user.getUserId(), user.getUsername(), user.getEmail(), user.getNickname(), user.getRole());
+    }
+}
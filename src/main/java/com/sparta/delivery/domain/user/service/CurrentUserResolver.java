@@ -0,0 +1,158 @@
+package com.sparta.delivery.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 현재 로그인한 사용자를 조회하는 컴포넌트
+ *
+ * 서비스마다 매 요청 userRepository.findByUsernameAndDeletedAtIsNull 를 호출하던 부분을 대신합니다.
+ * 1. 같은 요청 안에서는 request attribute 에 저장된 사용자를 재사용
+ * 2. access token 에 userId 가 있으면 노드 로컬 캐시(userId 기준)를 조회하고, 없으면 DB 조회 후 캐시
+ * 3. 인증 정보가 없거나 userId 가 없는 토큰이면 기존처럼 username 으로 DB 조회
+ *
+ * 조회 결과는 엔티티가 아닌 ResolvedUser 스냅샷으로 반환하고, 연관관계에 사용할 엔티티는 getReference 로 얻습니다.
+ * 사용자 삭제/수정/권한 변경 시 UserService 에서 evict 를 호출해 커밋 이후에 캐시를 무효화합니다.
+ * (다른 서버의 캐시는 InvalidationBus 로 무효화)
+ */
+@Component
+public class CurrentUserResolver {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = CurrentUserResolver.class.getName() + ".";
+
+    private final UserRepository userRepository;
+    private final InvalidationBus invalidationBus;
+
+    // 노드 로컬 사용자 캐시 (key : userId)
+    private final Cache<UUID, ResolvedUser> resolvedUserCache;
+
+    public CurrentUserResolver(UserRepository userRepository,
+                               InvalidationBus invalidationBus,
+                               @Value("${cache.resolvedUser.maximumSize:10000}") long maximumSize,
+                               @Value("${cache.resolvedUser.expireAfterWriteSeconds:300}") long expireAfterWriteSeconds) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.resolvedUserCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+
+        invalidationBus.subscribe(InvalidationTopic.USER, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                resolvedUserCache.invalidate(UUID.fromString(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                resolvedUserCache.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * username 에 해당하는 논리적 삭제되지 않은 사용자를 조회하는 메서드
+     *
+     * @param username 조회할 사용자 username (로그인한 사용자)
+     * @return 사용자 스냅샷 (존재하지 않거나 삭제된 경우 Optional.empty())
+     */
+    public Optional<ResolvedUser> resolve(String username) {
+        ResolvedUser requestScoped = getRequestScoped(username);
+        if (requestScoped != null) {
+            return Optional.of(requestScoped);
+        }
+
+        UUID userId = currentUserId(username);
+        if (userId != null) {
+            ResolvedUser cached = resolvedUserCache.getIfPresent(userId);
+            if (cached != null) {
+                setRequestScoped(cached);
+                return Optional.of(cached);
+            }
+        }
+
+        // 캐시에 없는 경우 DB 조회
+        Optional<ResolvedUser> user = userRepository.findByUsernameAndDeletedAtIsNull(username).map(ResolvedUser::from);
+        user.ifPresent(resolved -> {
+            resolvedUserCache.put(resolved.userId(), resolved);
+            setRequestScoped(resolved);
+        });
+
+        return user;
+    }
+
+    /**
+     * 연관관계 설정 / 조회 조건에 사용할 사용자 엔티티 참조 (조회 쿼리 없이 현재 영속성 컨텍스트의 프록시를 반환)
+     */
+    public User getReference(ResolvedUser user) {
+        return userRepository.getReferenceById(user.userId());
+    }
+
+    /**
+     * 사용자 캐시를 무효화하는 메서드 (사용자 삭제, 정보 수정, 권한 변경 시 호출)
+     *
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다. (커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록)
+     *
+     * @param userId 무효화할 사용자 ID
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resolvedUserCache.invalidate(userId);
+                }
+            });
+        } else {
+            resolvedUserCache.invalidate(userId);
+        }
+        invalidationBus.publish(InvalidationTopic.USER, userId);
+    }
+
+    /**
+     * SecurityContext 의 인증 사용자가 요청한 username 과 같으면 토큰의 userId 를 반환
+     */
+    private UUID currentUserId(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails
+                && principalDetails.getUsername() != null && principalDetails.getUsername().equals(username)) {
+            return principalDetails.getUserId();
+        }
+        return null;
+    }
+
+    private ResolvedUser getRequestScoped(String username) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null || username == null) {
+            return null;
+        }
+        return (ResolvedUser) requestAttributes.getAttribute(REQUEST_ATTRIBUTE_PREFIX + username, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private void setRequestScoped(ResolvedUser resolvedUser) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE_PREFIX + resolvedUser.username(), resolvedUser, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
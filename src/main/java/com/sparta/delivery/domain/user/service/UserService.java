@@ -32,6 +32,7 @@ public class UserService {
     private final PasswordEncoder  passwordEncoder;
     private final JwtServiceImpl jwtService;
     private final RefreshTokenServiceImpl refreshTokenService;
+    private final CurrentUserResolver currentUserResolver;
 
 
     /**
@@ -220,7 +221,9 @@ public class UserService {
                 .nickname(userUpdateReqDto.getNickname())
                 .build();
 
-        return userRepository.save(updateUser).toResponseDto();
+        UserResDto userResDto = userRepository.save(updateUser).toResponseDto();
+        currentUserResolver.evict(id); // 캐시된 사용자 정보 무효화
+        return userResDto;
     }
 
     /**
@@ -252,7 +255,9 @@ public class UserService {
                 .role(userRoleUpdateReqDto.getRole())
                 .build();
 
-        return userRepository.save(updateUser).toResponseDto();
+        UserResDto userResDto = userRepository.save(updateUser).toResponseDto();
+        currentUserResolver.evict(id); // 캐시된 사용자 권한 무효화
+        return userResDto;
     }
 
     /**
@@ -284,6 +289,7 @@ public class UserService {
         user.setDeletedBy(principalDetails.getUsername());
 
         userRepository.save(user);
+        currentUserResolver.evict(id); // 삭제된 사용자가 캐시에서 조회되지 않도록 무효화
     }
 
     /**
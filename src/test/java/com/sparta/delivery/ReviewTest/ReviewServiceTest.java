@@ -259,7 +259,7 @@ public class ReviewServiceTest {
         when(principalDetails.getUsername()).thenReturn("customer");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, ReviewRepository.SORT_SPEC, null, null);
 
         Page<ReviewResponseDto> result = reviewService.getUserReview(principalDetails.getUsername(), pageRequest);
         assertNotNull(result);
@@ -273,7 +273,7 @@ public class ReviewServiceTest {
         when(principalDetails.getUsername()).thenReturn("owner");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, ReviewRepository.SORT_SPEC, null, null);
 
         ReviewNotFoundException exception = assertThrows(ReviewNotFoundException.class, () -> {
             reviewService.getUserReview(principalDetails.getUsername(), pageRequest);
@@ -306,7 +306,7 @@ public class ReviewServiceTest {
                     .build();
             reviewRepository.save(dummyReview);
         }
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, ReviewRepository.SORT_SPEC, null, null);
         List<Integer> starList = new ArrayList<>();
         starList.add(3);
 
@@ -318,7 +318,7 @@ public class ReviewServiceTest {
     @Test
     @DisplayName("가게 리뷰 조회 성공 - 리뷰 없음")
     void testSearchStoreReviewSuccessWhenReviewIsEmpty() {
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, ReviewRepository.SORT_SPEC, null, null);
         List<Integer> starList = Collections.emptyList();
 
         ReviewNotFoundException exception = assertThrows(ReviewNotFoundException.class, () -> {
@@ -0,0 +1,187 @@
+package com.sparta.delivery.aiTest;
+
+import com.sparta.delivery.config.global.exception.custom.AiUnavailableException;
+import com.sparta.delivery.domain.ai.dto.AiRequestDto;
+import com.sparta.delivery.domain.ai.dto.AiResponseDto;
+import com.sparta.delivery.domain.ai.entity.AiInfo;
+import com.sparta.delivery.domain.ai.repository.AiRepository;
+import com.sparta.delivery.domain.ai.service.AiCircuitBreaker;
+import com.sparta.delivery.domain.ai.service.AiService;
+import com.sparta.delivery.util.StubGeminiServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class AiServiceTest {
+
+    private StubGeminiServer stubServer;
+    private AiRepository aiRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        stubServer = new StubGeminiServer();
+        aiRepository = mock(AiRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("추천 성공 - 응답 문구 반환 및 저장")
+    void testRecommendText() throws Exception {
+        AiService aiService = createService(2000, 10, 5, 30_000);
+
+        AiResponseDto response = aiService.recommendText(new AiRequestDto("하와이안 피자")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("🍕 하와이안 피자", response.getAnswer());
+        verify(aiRepository, timeout(1000)).save(any());
+    }
+
+    @Test
+    @DisplayName("요청 합치기 - 처리 중인 같은 질문은 AI API 를 한 번만 호출")
+    void testCoalesceIdenticalQuestions() throws Exception {
+        AiService aiService = createService(5000, 10, 5, 30_000);
+        stubServer.hold();
+
+        CompletableFuture<AiResponseDto> first = aiService.recommendText(new AiRequestDto("하와이안 피자"));
+        CompletableFuture<AiResponseDto> second = aiService.recommendText(new AiRequestDto(" 하와이안  피자"));
+        CompletableFuture<AiResponseDto> other = aiService.recommendText(new AiRequestDto("페퍼로니 피자"));
+        stubServer.release();
+
+        assertEquals("🍕 하와이안 피자", first.get(5, TimeUnit.SECONDS).getAnswer());
+        assertEquals("🍕 하와이안 피자", second.get(5, TimeUnit.SECONDS).getAnswer());
+        other.get(5, TimeUnit.SECONDS);
+        assertEquals(2, stubServer.getRequestCount());
+
+        // 합쳐진 요청도 각자의 질문으로 답변 저장
+        ArgumentCaptor<AiInfo> saved = ArgumentCaptor.forClass(AiInfo.class);
+        verify(aiRepository, timeout(1000).times(3)).save(saved.capture());
+        assertEquals(Set.of("하와이안 피자", " 하와이안  피자", "페퍼로니 피자"),
+                saved.getAllValues().stream().map(AiInfo::getQuestion).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("답변 저장 실패 - AI 답변은 정상 반환하고 실패 횟수만 기록")
+    void testSaveFailureStillReturnsAnswer() throws Exception {
+        AiService aiService = createService(2000, 10, 5, 30_000);
+        when(aiRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        AiResponseDto response = aiService.recommendText(new AiRequestDto("하와이안 피자")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("🍕 하와이안 피자", response.getAnswer());
+        verify(aiRepository, timeout(1000)).save(any());
+        long deadline = System.currentTimeMillis() + 1000;
+        while (meterRegistry.counter("ai.answers.save.failed").count() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, meterRegistry.counter("ai.answers.save.failed").count());
+    }
+
+    @Test
+    @DisplayName("응답 캐시 - 같은 질문(공백/대소문자만 다른 질문 포함)은 AI API 를 다시 호출하지 않음")
+    void testAnswerCache() throws Exception {
+        AiService aiService = createService(2000, 10, 5, 30_000);
+
+        aiService.recommendText(new AiRequestDto("Hawaiian  피자")).get(5, TimeUnit.SECONDS);
+        AiResponseDto cached = aiService.recommendText(new AiRequestDto(" hawaiian 피자 ")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("🍕 하와이안 피자", cached.getAnswer());
+        assertEquals(1, stubServer.getRequestCount());
+        verify(aiRepository, timeout(1000).times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("저장된 답변 - 메모리 캐시에 없으면 p_ai_info 의 이전 답변을 사용")
+    void testStoredAnswer() throws Exception {
+        AiService aiService = createService(2000, 10, 5, 30_000);
+        String promptHash = AiService.promptHashOf("하와이안 피자");
+        when(aiRepository.findFirstByPromptHashAndCreatedAtAfterOrderByCreatedAtDesc(eq(promptHash), any()))
+                .thenReturn(Optional.of(AiInfo.builder().question("하와이안 피자").answer("저장된 답변").promptHash(promptHash).build()));
+
+        AiResponseDto response = aiService.recommendText(new AiRequestDto("하와이안 피자")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("저장된 답변", response.getAnswer());
+        assertEquals(0, stubServer.getRequestCount());
+        verify(aiRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃 - 응답이 늦으면 503 예외")
+    void testResponseTimeout() {
+        AiService aiService = createService(200, 10, 5, 30_000);
+        stubServer.hold();
+
+        CompletableFuture<AiResponseDto> future = aiService.recommendText(new AiRequestDto("하와이안 피자"));
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AiUnavailableException.class, ex.getCause());
+        verify(aiRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("동시 호출 수 제한 - 초과 요청은 기다리지 않고 바로 거절")
+    void testRejectWhenBusy() throws Exception {
+        AiService aiService = createService(5000, 1, 5, 30_000);
+        stubServer.hold();
+
+        CompletableFuture<AiResponseDto> first = aiService.recommendText(new AiRequestDto("하와이안 피자"));
+        stubServer.awaitRequests(1);
+        CompletableFuture<AiResponseDto> second = aiService.recommendText(new AiRequestDto("페퍼로니 피자"));
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(AiUnavailableException.class, ex.getCause());
+
+        stubServer.release();
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, stubServer.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("차단기 - 연속 실패 시 AI API 를 호출하지 않고, 대기 시간 이후 시험 호출이 성공하면 복구")
+    void testCircuitBreaker() throws Exception {
+        AiService aiService = createService(2000, 10, 2, 300);
+        stubServer.respondWith(500, null);
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<AiResponseDto> failed = aiService.recommendText(new AiRequestDto("질문" + i));
+            assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(AiCircuitBreaker.State.OPEN, aiService.getCircuitState());
+
+        CompletableFuture<AiResponseDto> rejected = aiService.recommendText(new AiRequestDto("질문"));
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(AiUnavailableException.class, ex.getCause());
+        assertEquals(2, stubServer.getRequestCount());
+
+        Thread.sleep(400);
+        stubServer.respondWith(200, "복구");
+        assertEquals("복구", aiService.recommendText(new AiRequestDto("질문")).get(5, TimeUnit.SECONDS).getAnswer());
+        assertEquals(AiCircuitBreaker.State.CLOSED, aiService.getCircuitState());
+    }
+
+    private AiService createService(long responseTimeoutMs, int maxConcurrentCalls, int failureThreshold, long openMs) {
+        return new AiService(aiRepository, WebClient.builder(), meterRegistry,
+                "test-key", stubServer.getBaseUrl(), 1000, responseTimeoutMs,
+                maxConcurrentCalls, failureThreshold, openMs, 100, 60, 24);
+    }
+}
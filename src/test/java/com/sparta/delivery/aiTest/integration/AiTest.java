@@ -2,17 +2,25 @@ package com.sparta.delivery.aiTest.integration;
 
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.util.JwtTestUtil;
+import com.sparta.delivery.util.StubGeminiServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.*;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -29,21 +37,39 @@ public class AiTest {
 
     private static final String REQUEST_TEXT = "하와이안 피자 상품명 추천";
 
+    // 실제 AI API 대신 로컬 대역 서버 사용
+    private static final StubGeminiServer stubServer = new StubGeminiServer();
+
+    @DynamicPropertySource
+    static void aiProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.baseUrl", stubServer::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.close();
+    }
+
     @Test
     @DisplayName("AI 상품 설명 문구 추천 통합 테스트")
     public void recommendText() throws Exception {
         // Given: JWT Access Token 생성
         String jwtAccessToken = jwtTestUtil.createJwt("TestUser", UserRoles.ROLE_MASTER);
 
-        // When: API 호출
-        ResultActions resultActions = mockMvc.perform(post(BASE_URL)
+        // When: API 호출 (AI API 응답은 비동기로 처리)
+        MvcResult mvcResult = mockMvc.perform(post(BASE_URL)
                 .header("Authorization", "Bearer " + jwtAccessToken)
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"question\": \"" + REQUEST_TEXT + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print());
 
         // Then: HTTP Status 200 OK
-        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.answer").isNotEmpty());
     }
 }
@@ -0,0 +1,128 @@
+package com.sparta.delivery.commonTest;
+
+import com.sparta.delivery.domain.common.CatalogCacheEvictor;
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 다른 서버에서 받은 2차 캐시 제거 이벤트 처리 테스트 (변경된 테이블의 쿼리 캐시만 무효화)
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class CatalogCacheEvictorTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        store = storeRepository.save(Stores.builder()
+                .name("캐시가게")
+                .address("서울")
+                .status(true)
+                .category(Category.한식)
+                .build());
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("캐시상품")
+                .price(1000)
+                .quantity(10)
+                .build());
+
+        // 쿼리 캐시 적재
+        findProduct();
+        findStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+    }
+
+    @Test
+    @DisplayName("재고 변경 - 상품 엔티티만 제거하고 쿼리 캐시는 유지")
+    void testRemoteStockEvictionKeepsQueryCache() {
+        listenerOf(InvalidationTopic.PRODUCT_STOCK).invalidate(product.getProductId().toString());
+
+        statistics.clear();
+        findProduct();
+        findStore();
+
+        assertEquals(2, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getQueryCacheMissCount());
+    }
+
+    @Test
+    @DisplayName("상품 변경 - 상품 테이블의 쿼리 캐시만 무효화하고 다른 테이블의 쿼리 캐시는 유지")
+    void testRemoteProductEvictionInvalidatesOnlyProductQueries() {
+        listenerOf(InvalidationTopic.PRODUCT).invalidate(product.getProductId().toString());
+
+        statistics.clear();
+        findProduct();
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+
+        statistics.clear();
+        findStore();
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    private InvalidationListener listenerOf(InvalidationTopic topic) {
+        InvalidationBus invalidationBus = mock(InvalidationBus.class);
+        new CatalogCacheEvictor(entityManagerFactory, invalidationBus);
+
+        ArgumentCaptor<InvalidationListener> listener = ArgumentCaptor.forClass(InvalidationListener.class);
+        verify(invalidationBus).subscribe(eq(topic), listener.capture());
+        return listener.getValue();
+    }
+
+    private void findProduct() {
+        transactionTemplate.executeWithoutResult(status ->
+                assertTrue(productRepository.findByProductIdAndDeletedAtIsNull(product.getProductId()).isPresent()));
+    }
+
+    private void findStore() {
+        transactionTemplate.executeWithoutResult(status ->
+                assertTrue(storeRepository.findByStoreIdAndDeletedAtIsNull(store.getStoreId()).isPresent()));
+    }
+}
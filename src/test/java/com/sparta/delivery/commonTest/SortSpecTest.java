@@ -0,0 +1,88 @@
+package com.sparta.delivery.commonTest;
+
+import com.sparta.delivery.config.PageableConfig;
+import com.sparta.delivery.config.global.exception.custom.InvalidSortException;
+import com.sparta.delivery.domain.common.SortSpec;
+import com.sparta.delivery.domain.order.repository.OrderRepositoryCustom;
+import com.sparta.delivery.domain.payment.repository.PaymentRepositoryCustom;
+import com.sparta.delivery.domain.product.repository.ProductRepositoryCustom;
+import com.sparta.delivery.domain.region.repository.RegionRepositoryCustom;
+import com.sparta.delivery.domain.review.repository.ReviewRepositoryCustom;
+import com.sparta.delivery.domain.store.repository.StoreRepositoryCustom;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortSpecTest {
+
+    private static final List<SortSpec> SPECS = List.of(
+            StoreRepositoryCustom.SORT_SPEC,
+            RegionRepositoryCustom.SORT_SPEC,
+            ProductRepositoryCustom.SORT_SPEC,
+            PaymentRepositoryCustom.SORT_SPEC,
+            OrderRepositoryCustom.SORT_SPEC,
+            ReviewRepositoryCustom.SORT_SPEC
+    );
+
+    @Test
+    @DisplayName("모든 정렬 키는 엔티티에 선언된 인덱스를 사용")
+    void testEverySortKeyHasDeclaredIndex() {
+        for (SortSpec spec : SPECS) {
+            Set<String> declaredIndexes = Arrays.stream(spec.getEntityType().getAnnotation(Table.class).indexes())
+                    .map(Index::name)
+                    .collect(Collectors.toSet());
+
+            spec.indexes().forEach((key, index) ->
+                    assertTrue(declaredIndexes.contains(index), spec.getEntityType().getSimpleName() + "." + key + " : " + index));
+        }
+    }
+
+    @Test
+    @DisplayName("정렬 변환 - 정렬 키 뒤에 ID 를 붙이고, 같은 키는 미리 만든 OrderSpecifier 를 재사용")
+    void testToSort() {
+        SortSpec spec = StoreRepositoryCustom.SORT_SPEC;
+
+        Sort sort = spec.toSort("name", "asc");
+
+        assertEquals(Sort.by(Sort.Direction.ASC, "name", "storeId"), sort);
+        assertSame(spec.toOrderSpecifiers(sort), spec.toOrderSpecifiers(Sort.by("name")));
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt", "storeId"), spec.toSort(null, "asc"));
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt", "storeId"), spec.validate(PageRequest.of(0, 10)).getSort());
+    }
+
+    @Test
+    @DisplayName("정렬 실패 - 허용되지 않은 키 또는 여러 정렬 기준")
+    void testRejectInvalidSort() {
+        SortSpec spec = StoreRepositoryCustom.SORT_SPEC;
+
+        assertThrows(InvalidSortException.class, () -> spec.toSort("address", "desc"));
+        assertThrows(InvalidSortException.class, () -> spec.toSort("createdAt; drop table p_stores", "desc"));
+        assertThrows(InvalidSortException.class, () -> spec.validate(Sort.by("createdAt", "updatedAt")));
+    }
+
+    @Test
+    @DisplayName("페이지 요청 - 유저 주문/리뷰 목록도 허용된 정렬 키만 사용")
+    void testCreatePageRequestWithSortSpec() {
+        PageableConfig pageableConfig = new PageableConfig();
+
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt", "orderId"),
+                pageableConfig.createPageRequest(null, null, OrderRepositoryCustom.SORT_SPEC, null, null).getSort());
+        assertEquals(Sort.by(Sort.Direction.ASC, "createdAt", "reviewId"),
+                pageableConfig.createPageRequest(0, 10, ReviewRepositoryCustom.SORT_SPEC, "createdAt", "asc").getSort());
+
+        assertThrows(InvalidSortException.class,
+                () -> pageableConfig.createPageRequest(0, 10, OrderRepositoryCustom.SORT_SPEC, "requirements", "asc"));
+        assertThrows(InvalidSortException.class,
+                () -> pageableConfig.createPageRequest(0, 10, ReviewRepositoryCustom.SORT_SPEC, "unknown", "desc"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.sparta.delivery.idempotencyTest;
+
+import com.sparta.delivery.config.global.exception.custom.IdempotencyKeyConflictException;
+import com.sparta.delivery.domain.idempotency.enums.IdempotentOperation;
+import com.sparta.delivery.domain.idempotency.repository.IdempotencyKeyRepository;
+import com.sparta.delivery.domain.idempotency.service.IdempotencyService;
+import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final RegisterPaymentDto request = new RegisterPaymentDto(UUID.randomUUID(), 10000, UUID.randomUUID());
+
+    @Test
+    @DisplayName("같은 키로 다시 보낸 요청 - 다시 실행하지 않고 처음 응답 반환")
+    void testReplay() {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        ResponseEntity<?> first = execute(key, request, executions);
+        ResponseEntity<?> retried = execute(key, request, executions);
+
+        assertEquals(1, executions.get());
+        assertEquals(200, retried.getStatusCode().value());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("true", retried.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertTrue(idempotencyKeyRepository.findByUsernameAndOperationAndIdempotencyKey("user", IdempotentOperation.PAYMENT_REGISTER, key).isPresent());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 - 409 예외")
+    void testDifferentRequestWithSameKey() {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        execute(key, request, executions);
+
+        RegisterPaymentDto otherRequest = new RegisterPaymentDto(request.getCardId(), 20000, request.getOrderId());
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> execute(key, otherRequest, executions));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("처리 중 예외 - 키가 저장되지 않아 같은 키로 다시 요청 가능")
+    void testFailedRequestReleasesKey() {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(key, "user", IdempotentOperation.PAYMENT_REGISTER, request, () -> {
+            throw new IllegalStateException("결제 실패");
+        }));
+        ResponseEntity<?> retried = execute(key, request, executions);
+
+        assertEquals(1, executions.get());
+        assertNull(retried.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청 - 한 번만 실행")
+    void testConcurrentRequests() throws Exception {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(key, "user", IdempotentOperation.PAYMENT_REGISTER, request, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok().build();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<ResponseEntity<?>> second = CompletableFuture.supplyAsync(() -> execute(key, request, executions));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getStatusCode().value());
+        try {
+            // 먼저 저장된 키가 커밋될 때까지 기다렸다면 처음 응답을 그대로 반환
+            assertEquals("true", second.get(15, TimeUnit.SECONDS).getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        } catch (Exception e) {
+            // 기다리지 않고 실패했다면 처리 중 409
+            assertInstanceOf(IdempotencyKeyConflictException.class, e.getCause());
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("키 없음 / 잘못된 키")
+    void testWithoutKey() {
+        AtomicInteger executions = new AtomicInteger();
+
+        execute(null, request, executions);
+        execute(null, request, executions);
+
+        assertEquals(2, executions.get());
+        assertThrows(IllegalArgumentException.class, () -> execute(" ", request, executions));
+        assertThrows(IllegalArgumentException.class, () -> execute("k".repeat(256), request, executions));
+    }
+
+    private ResponseEntity<?> execute(String key, RegisterPaymentDto request, AtomicInteger executions) {
+        return idempotencyService.execute(key, "user", IdempotentOperation.PAYMENT_REGISTER, request, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
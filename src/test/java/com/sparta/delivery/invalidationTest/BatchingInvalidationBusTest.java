@@ -0,0 +1,200 @@
+package com.sparta.delivery.invalidationTest;
+
+import com.sparta.delivery.domain.invalidation.enums.InvalidationTopic;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationListener;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationTransport;
+import com.sparta.delivery.domain.invalidation.service.BatchingInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서버 두 대(nodeA, nodeB)가 같은 채널을 사용하는 상황을 메모리 hub 로 재현 (PostgreSQL NOTIFY 대역)
+ */
+public class BatchingInvalidationBusTest {
+
+    private Hub hub;
+    private BatchingInvalidationBus nodeA;
+    private BatchingInvalidationBus nodeB;
+    private RecordingListener listenerA;
+    private RecordingListener listenerB;
+
+    @BeforeEach
+    void setUp() {
+        hub = new Hub(8000);
+        nodeA = startNode(hub);
+        nodeB = startNode(hub);
+        listenerA = new RecordingListener();
+        listenerB = new RecordingListener();
+        nodeA.subscribe(InvalidationTopic.STORE, listenerA);
+        nodeB.subscribe(InvalidationTopic.STORE, listenerB);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    @DisplayName("다른 서버에만 전달 - 보낸 서버는 자기 이벤트를 받지 않음")
+    void testPublishToOtherNode() {
+        UUID storeId = UUID.randomUUID();
+
+        nodeA.publish(InvalidationTopic.STORE, storeId);
+        nodeA.flush();
+
+        assertEquals(List.of(storeId.toString()), listenerB.keys);
+        assertTrue(listenerA.keys.isEmpty());
+    }
+
+    @Test
+    @DisplayName("중복 제거 - 같은 이벤트를 여러 번 publish 해도 한 번만 전송")
+    void testCoalesceDuplicates() {
+        UUID storeId = UUID.randomUUID();
+        UUID otherStoreId = UUID.randomUUID();
+
+        nodeA.publish(InvalidationTopic.STORE, storeId);
+        nodeA.publish(InvalidationTopic.STORE, storeId);
+        nodeA.publish(InvalidationTopic.STORE, otherStoreId);
+        nodeA.publish(InvalidationTopic.STORE, storeId);
+        nodeA.flush();
+
+        assertEquals(1, hub.sent.size());
+        assertEquals(List.of(storeId.toString(), otherStoreId.toString()), listenerB.keys);
+    }
+
+    @Test
+    @DisplayName("메시지 분할 - 최대 크기를 넘는 묶음은 여러 메시지로 전송")
+    void testSplitLargeBatch() throws InterruptedException {
+        Hub smallHub = new Hub(200);
+        BatchingInvalidationBus sender = startNode(smallHub);
+        BatchingInvalidationBus receiver = startNode(smallHub);
+        RecordingListener listener = new RecordingListener();
+        receiver.subscribe(InvalidationTopic.PRODUCT, listener);
+
+        List<String> productIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID productId = UUID.randomUUID();
+            productIds.add(productId.toString());
+            sender.publish(InvalidationTopic.PRODUCT, productId);
+        }
+        sender.flush();
+
+        assertTrue(smallHub.sent.size() > 1);
+        smallHub.sent.forEach(payload -> assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= 200));
+        assertEquals(productIds, listener.keys);
+
+        sender.stop();
+        receiver.stop();
+    }
+
+    @Test
+    @DisplayName("커밋 이후 전송 - 트랜잭션 안에서 publish 하면 커밋 전까지 전송하지 않음")
+    void testPublishAfterCommit() {
+        UUID storeId = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.publish(InvalidationTopic.STORE, storeId);
+            nodeA.flush();
+            assertTrue(hub.sent.isEmpty());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        nodeA.flush();
+
+        assertEquals(List.of(storeId.toString()), listenerB.keys);
+    }
+
+    @Test
+    @DisplayName("재연결 - 놓친 이벤트가 있을 수 있으므로 캐시 전체 무효화")
+    void testInvalidateAllOnReconnect() {
+        hub.reconnectAll();
+
+        assertEquals(1, listenerA.invalidateAllCount);
+        assertEquals(1, listenerB.invalidateAllCount);
+    }
+
+    private BatchingInvalidationBus startNode(Hub hub) {
+        BatchingInvalidationBus bus = new BatchingInvalidationBus(hub.connect(), 60_000, new SimpleMeterRegistry());
+        bus.start();
+        return bus;
+    }
+
+    private static class RecordingListener implements InvalidationListener {
+
+        private final List<String> keys = new CopyOnWriteArrayList<>();
+        private int invalidateAllCount;
+
+        @Override
+        public void invalidate(String key) {
+            keys.add(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            invalidateAllCount++;
+        }
+    }
+
+    /**
+     * 연결된 모든 서버(보낸 서버 포함)에 메시지를 전달하는 전송 계층 (NOTIFY 와 같은 broadcast)
+     */
+    private static class Hub {
+
+        private final int maxPayloadBytes;
+        private final List<InvalidationTransport.Receiver> receivers = new CopyOnWriteArrayList<>();
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+
+        Hub(int maxPayloadBytes) {
+            this.maxPayloadBytes = maxPayloadBytes;
+        }
+
+        InvalidationTransport connect() {
+            return new InvalidationTransport() {
+                private InvalidationTransport.Receiver receiver;
+
+                @Override
+                public void start(Receiver receiver) {
+                    this.receiver = receiver;
+                    receivers.add(receiver);
+                }
+
+                @Override
+                public void send(String payload) {
+                    sent.add(payload);
+                    receivers.forEach(each -> each.onMessage(payload));
+                }
+
+                @Override
+                public void stop() {
+                    receivers.remove(receiver);
+                }
+
+                @Override
+                public int maxPayloadBytes() {
+                    return maxPayloadBytes;
+                }
+            };
+        }
+
+        void reconnectAll() {
+            receivers.forEach(InvalidationTransport.Receiver::onReconnect);
+        }
+    }
+}
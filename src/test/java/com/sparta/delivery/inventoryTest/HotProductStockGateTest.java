@@ -0,0 +1,97 @@
+package com.sparta.delivery.inventoryTest;
+
+import com.sparta.delivery.domain.inventory.service.HotProductStockGate;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+public class HotProductStockGateTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private HotProductStockGate hotProductStockGate;
+
+    private UUID hotProductId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        hotProductId = UUID.randomUUID();
+        Product product = Product.builder()
+                .productId(hotProductId)
+                .name("hot product")
+                .price(10000)
+                .quantity(100)
+                .build();
+        when(productRepository.findById(hotProductId)).thenReturn(Optional.of(product));
+
+        // refreshInterval 을 길게 두어 테스트 중에는 DB 재조회 없이 메모리 카운터만 사용
+        hotProductStockGate = new HotProductStockGate(productRepository, Set.of(hotProductId), 60_000);
+    }
+
+    @Test
+    @DisplayName("hot product 가 아니면 항상 통과")
+    void testNotHotProduct() {
+        assertTrue(hotProductStockGate.tryAcquire(UUID.randomUUID(), 1_000));
+    }
+
+    @Test
+    @DisplayName("동시 1000건 차감 - 재고 수량만큼만 성공")
+    void testConcurrentAcquire() throws InterruptedException {
+        int buyers = 1_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(buyers);
+        AtomicInteger acquired = new AtomicInteger();
+
+        for (int i = 0; i < buyers; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    if (hotProductStockGate.tryAcquire(hotProductId, 1)) {
+                        acquired.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        assertEquals(100, acquired.get());
+        assertFalse(hotProductStockGate.tryAcquire(hotProductId, 1));
+    }
+
+    @Test
+    @DisplayName("차감한 재고를 되돌리면 다시 차감 가능")
+    void testRelease() {
+        assertTrue(hotProductStockGate.tryAcquire(hotProductId, 100));
+        assertFalse(hotProductStockGate.tryAcquire(hotProductId, 1));
+
+        hotProductStockGate.release(hotProductId, 2);
+
+        assertTrue(hotProductStockGate.tryAcquire(hotProductId, 2));
+    }
+}
@@ -0,0 +1,226 @@
+package com.sparta.delivery.inventoryTest;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.inventory.repository.InventoryReservationRepository;
+import com.sparta.delivery.domain.inventory.service.HotProductStockGate;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 예약 동시성 테스트
+ *
+ * 각 구매 요청이 별도의 트랜잭션으로 커밋되어야 하므로 @Transactional 을 사용하지 않고, 테스트 후 직접 데이터를 정리합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class InventoryReservationConcurrencyTest {
+
+    private static final int STOCK = 100;
+    private static final int BUYERS = 1_000;
+
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+
+    @Autowired
+    private InventoryReservationRepository inventoryReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("inventory-owner@example.com")
+                .password("encodedPassword")
+                .username("inventoryOwner")
+                .nickname("inventoryOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("inventoryStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("hot product")
+                .description("yummy~")
+                .price(11000)
+                .quantity(STOCK)
+                .hidden(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryReservationRepository.deleteAll(inventoryReservationRepository.findAll().stream()
+                .filter(reservation -> reservation.getProductId().equals(product.getProductId()))
+                .toList());
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("동시 구매 1000건 - 재고보다 많이 팔리지 않음")
+    void testNoOversellUnderConcurrentBuyers() throws InterruptedException {
+        assertNoOversell(orderId -> inventoryReservationService.reserve(orderId, Map.of(product.getProductId(), 1)));
+    }
+
+    @Test
+    @DisplayName("동시 구매 1000건 (hot product) - 메모리 카운터를 거쳐도 재고보다 많이 팔리지 않음")
+    void testNoOversellWithHotProductGate() throws InterruptedException {
+        InventoryReservationService hotService = hotProductService(hotProductGate());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertNoOversell(orderId -> transactionTemplate.executeWithoutResult(status ->
+                hotService.reserve(orderId, Map.of(product.getProductId(), 1))));
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션 롤백 - 예약 이후 롤백되면 DB 재고와 메모리 카운터 모두 복구")
+    void testRollbackRestoresGatePermits() {
+        HotProductStockGate gate = hotProductGate();
+        InventoryReservationService hotService = hotProductService(gate);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 예약 이후 주문 저장 단계에서 실패
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            hotService.reserve(UUID.randomUUID(), Map.of(product.getProductId(), 3));
+            throw new IllegalStateException("order feed append failed");
+        }));
+
+        assertEquals(STOCK, productRepository.findById(product.getProductId()).orElseThrow().getQuantity());
+        assertTrue(gate.tryAcquire(product.getProductId(), STOCK));
+    }
+
+    @Test
+    @DisplayName("예약 해제 롤백 - 롤백된 해제는 메모리 카운터를 늘리지 않음")
+    void testRolledBackReleaseKeepsGatePermits() {
+        HotProductStockGate gate = hotProductGate();
+        InventoryReservationService hotService = hotProductService(gate);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        UUID orderId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> hotService.reserve(orderId, Map.of(product.getProductId(), 3)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(hotService.release(orderId));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(STOCK - 3, productRepository.findById(product.getProductId()).orElseThrow().getQuantity());
+        assertFalse(gate.tryAcquire(product.getProductId(), STOCK - 2));
+        assertTrue(gate.tryAcquire(product.getProductId(), STOCK - 3));
+    }
+
+    @Test
+    @DisplayName("예약 해제 - 재고는 한 번만 복구")
+    void testReleaseOnce() {
+        UUID orderId = UUID.randomUUID();
+        inventoryReservationService.reserve(orderId, Map.of(product.getProductId(), 3));
+
+        assertTrue(inventoryReservationService.release(orderId));
+        assertFalse(inventoryReservationService.release(orderId));
+
+        assertEquals(STOCK, productRepository.findById(product.getProductId()).orElseThrow().getQuantity());
+    }
+
+    private void assertNoOversell(Consumer<UUID> reserve) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(BUYERS);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < BUYERS; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    reserve.accept(UUID.randomUUID());
+                    reserved.incrementAndGet();
+                } catch (ProductQuantityNotAllowedException e) {
+                    soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(120, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        int remaining = productRepository.findById(product.getProductId()).orElseThrow().getQuantity();
+        long reservations = inventoryReservationRepository.countByProductId(product.getProductId());
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failure : " + unexpected.peek());
+        assertEquals(STOCK, reserved.get());
+        assertEquals(BUYERS - STOCK, soldOut.get());
+        assertEquals(STOCK, remaining + reservations);
+        assertEquals(reserved.get(), reservations);
+    }
+
+    // 테스트 상품만 hot product 로 설정한 게이트 (refreshInterval 을 길게 두어 테스트 중에는 메모리 카운터만 사용)
+    private HotProductStockGate hotProductGate() {
+        return new HotProductStockGate(productRepository, Set.of(product.getProductId()), 60_000);
+    }
+
+    private InventoryReservationService hotProductService(HotProductStockGate gate) {
+        return new InventoryReservationService(inventoryReservationRepository, productService, gate, 15);
+    }
+}
@@ -0,0 +1,213 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.inventory.repository.InventoryReservationRepository;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.OrderEvent;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderEventRepository;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderExpiryScheduler;
+import com.sparta.delivery.domain.order.service.OrderFeedService;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 결제 대기 만료 스케줄러 테스트
+ *
+ * 배치마다 트랜잭션이 커밋되어야 하므로 @Transactional 을 사용하지 않고, 테스트 후 직접 데이터를 정리합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class OrderExpirySchedulerTest {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private InventoryReservationRepository inventoryReservationRepository;
+
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderFeedService orderFeedService;
+
+    @Autowired
+    private OrderEventRepository orderEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderExpiryScheduler orderExpiryScheduler;
+
+    private User user;
+    private Stores store;
+    private Product product;
+    private final List<UUID> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // ttl 0 분 : 이미 생성된 결제 대기 주문은 모두 만료 대상, 배치 크기 2
+        orderExpiryScheduler = new OrderExpiryScheduler(inventoryReservationRepository, inventoryReservationService,
+                orderRepository, orderFeedService, transactionManager, meterRegistry, 0, 2, 10);
+
+        user = userRepository.save(User.builder()
+                .email("expiry-user@example.com")
+                .password("encodedPassword")
+                .username("expiryUser")
+                .nickname("expiryUser")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("expiryStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(user)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("expiry product")
+                .description("yummy~")
+                .price(11000)
+                .quantity(STOCK)
+                .hidden(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryReservationRepository.deleteAll(inventoryReservationRepository.findAllByOrderIdIn(orderIds));
+        orderRepository.deleteAllById(orderIds);
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("결제 대기 만료 - 주문 일괄 취소, 재고 복구, 결제된 주문은 유지")
+    void testExpirePaymentWaitOrders() {
+        for (int i = 0; i < 3; i++) {
+            createOrder(OrderStatus.PAYMENT_WAIT, 2);
+        }
+        UUID paidOrderId = createOrder(OrderStatus.PAYMENT_COMPLETE, 1);
+        inventoryReservationService.confirm(paidOrderId);
+        assertEquals(STOCK - 7, currentStock());
+
+        int cancelled = orderExpiryScheduler.expirePaymentWaitOrders();
+
+        assertEquals(3, cancelled);
+        assertEquals(STOCK - 1, currentStock());
+        assertTrue(inventoryReservationRepository.findAllByOrderIdIn(orderIds).isEmpty());
+        assertEquals(3, orderRepository.findAllById(orderIds).stream()
+                .filter(order -> order.getOrderStatus() == OrderStatus.ORDER_CANCEL && order.getDeletedAt() != null)
+                .count());
+        assertEquals(OrderStatus.PAYMENT_COMPLETE, orderRepository.findById(paidOrderId).orElseThrow().getOrderStatus());
+        assertEquals(3.0, meterRegistry.get("order.expiry.expired").counter().count());
+        assertEquals(6.0, meterRegistry.get("order.expiry.stock.released").counter().count());
+        // 가게 주문 피드에 취소 이벤트 기록
+        List<OrderEvent> events = orderEventRepository.findByStoreIdAndSeqGreaterThanOrderBySeqAsc(store.getStoreId(), 0, PageRequest.of(0, 10));
+        assertEquals(3, events.size());
+        assertTrue(events.stream().allMatch(event -> event.getType() == OrderEventType.CANCELLED
+                && event.getOrderStatus() == OrderStatus.ORDER_CANCEL));
+
+        // 다시 실행해도 중복 복구하지 않음
+        assertEquals(0, orderExpiryScheduler.expirePaymentWaitOrders());
+        assertEquals(STOCK - 1, currentStock());
+    }
+
+    @Test
+    @DisplayName("결제 중(잠긴) 주문 - 건너뛰고 나머지 주문만 취소")
+    void testSkipLockedOrder() throws Exception {
+        UUID lockedOrderId = createOrder(OrderStatus.PAYMENT_WAIT, 1);
+        createOrder(OrderStatus.PAYMENT_WAIT, 1);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> payment = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.findByOrderIdForUpdate(lockedOrderId).orElseThrow();
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        try {
+            assertEquals(1, orderExpiryScheduler.expirePaymentWaitOrders());
+            assertEquals(OrderStatus.PAYMENT_WAIT, orderRepository.findById(lockedOrderId).orElseThrow().getOrderStatus());
+            assertEquals(STOCK - 1, currentStock());
+        } finally {
+            release.countDown();
+            payment.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, orderExpiryScheduler.expirePaymentWaitOrders());
+        assertEquals(STOCK, currentStock());
+    }
+
+    private UUID createOrder(OrderStatus status, int quantity) {
+        Order order = orderRepository.save(Order.builder()
+                .orderTime(LocalDateTime.now())
+                .orderType(OrderType.PACKAGING)
+                .orderStatus(status)
+                .user(user)
+                .stores(store)
+                .build());
+        orderIds.add(order.getOrderId());
+        inventoryReservationService.reserve(order.getOrderId(), Map.of(product.getProductId(), quantity));
+        return order.getOrderId();
+    }
+
+    private int currentStock() {
+        return productRepository.findById(product.getProductId()).orElseThrow().getQuantity();
+    }
+}
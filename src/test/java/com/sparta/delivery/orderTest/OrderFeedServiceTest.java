@@ -0,0 +1,192 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.order.entity.OrderEvent;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.repository.OrderEventRepository;
+import com.sparta.delivery.domain.order.repository.OrderEventSequenceRepository;
+import com.sparta.delivery.domain.order.service.OrderFeedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 가게 주문 피드 전송 스레드 테스트 (느린 구독자가 다른 구독자의 전송을 막지 않음)
+ */
+public class OrderFeedServiceTest {
+
+    private OrderEventRepository orderEventRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderFeedService orderFeedService;
+
+    private final UUID slowStoreId = UUID.randomUUID();
+    private final UUID storeId = UUID.randomUUID();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        orderEventRepository = mock(OrderEventRepository.class);
+        OrderEventSequenceRepository orderEventSequenceRepository = mock(OrderEventSequenceRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        orderFeedService = new OrderFeedService(orderEventRepository, orderEventSequenceRepository, mock(InvalidationBus.class),
+                mock(PlatformTransactionManager.class), meterRegistry, 60000, 100, 2, 10000);
+
+        // 느린 구독자의 작업은 release 전까지 끝나지 않음
+        when(orderEventRepository.findByStoreIdAndSeqGreaterThanOrderBySeqAsc(eq(slowStoreId), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                });
+        when(orderEventRepository.findByStoreIdAndSeqGreaterThanOrderBySeqAsc(eq(storeId), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(OrderEvent.builder()
+                        .storeId(storeId)
+                        .seq(1)
+                        .orderId(UUID.randomUUID())
+                        .type(OrderEventType.CREATED)
+                        .orderStatus(OrderStatus.PAYMENT_WAIT)
+                        .createdAt(Instant.now())
+                        .build()));
+        when(orderEventRepository.findByStoreIdAndSeqGreaterThanOrderBySeqAsc(eq(storeId), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        orderFeedService.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 구독자 - 다른 가게 구독자의 전송은 막히지 않음")
+    void testSlowSubscriberDoesNotBlockOthers() throws InterruptedException {
+        orderFeedService.subscribe(slowStoreId, "0");
+        orderFeedService.subscribe(storeId, "0");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sentCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(1, sentCount());
+        assertEquals(1, release.getCount()); // 느린 구독자의 작업은 아직 끝나지 않음
+    }
+
+    @Test
+    @DisplayName("잘못된 Last-Event-ID - 오류 없이 지금 이후의 이벤트부터 전송")
+    void testMalformedLastEventIdIgnored() throws InterruptedException {
+        OrderEventSequenceRepository orderEventSequenceRepository = mock(OrderEventSequenceRepository.class);
+        when(orderEventSequenceRepository.findLastSeq(storeId)).thenReturn(Optional.of(1L));
+        OrderFeedService feedService = new OrderFeedService(orderEventRepository, orderEventSequenceRepository,
+                mock(InvalidationBus.class), mock(PlatformTransactionManager.class), meterRegistry, 60000, 100, 2, 10000);
+
+        try {
+            assertNotNull(feedService.subscribe(storeId, "not-a-seq"));
+
+            verify(orderEventSequenceRepository).findLastSeq(storeId);
+            verify(orderEventRepository, timeout(1000)).findByStoreIdAndSeqGreaterThanOrderBySeqAsc(eq(storeId), eq(1L), any(Pageable.class));
+            Thread.sleep(100);
+            assertEquals(0, sentCount());
+        } finally {
+            feedService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기가 막힌 구독자가 전송 스레드보다 많아도 - 해제 후 다른 구독자에게 전송하고 막힌 연결은 종료")
+    void testStalledWritersMoreThanSendThreads() throws Exception {
+        UUID stalledStoreId = UUID.randomUUID();
+        CountDownLatch releaseWrites = new CountDownLatch(1);
+        List<StallingEmitter> stalledEmitters = new CopyOnWriteArrayList<>();
+        OrderFeedService stallingService = new OrderFeedService(orderEventRepository, mock(OrderEventSequenceRepository.class),
+                mock(InvalidationBus.class), mock(PlatformTransactionManager.class), meterRegistry, 60000, 100, 2, 100) {
+            @Override
+            protected SseEmitter createEmitter(UUID id) {
+                if (!id.equals(stalledStoreId)) {
+                    return super.createEmitter(id);
+                }
+                StallingEmitter emitter = new StallingEmitter(releaseWrites);
+                stalledEmitters.add(emitter);
+                return emitter;
+            }
+        };
+
+        try {
+            // 전송 스레드(2)보다 많은 구독자의 쓰기가 막힘
+            for (int i = 0; i < 4; i++) {
+                stallingService.subscribe(stalledStoreId, "0");
+            }
+            stallingService.subscribe(storeId, "0");
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sentCount() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(150);
+                stallingService.heartbeat();
+            }
+
+            assertEquals(1, sentCount());
+            assertEquals(1, releaseWrites.getCount()); // 막힌 쓰기는 아직 끝나지 않음
+            assertTrue(meterRegistry.counter("order.feed.subscribers.dropped").count() >= 2);
+            for (StallingEmitter emitter : stalledEmitters) {
+                if (emitter.writing) {
+                    assertTrue(emitter.completed.await(1, TimeUnit.SECONDS));
+                }
+            }
+        } finally {
+            releaseWrites.countDown();
+            stallingService.shutdown();
+        }
+    }
+
+    private double sentCount() {
+        return meterRegistry.counter("order.feed.events.sent").count();
+    }
+
+    // 응답을 읽지 않는 클라이언트 (쓰기가 release 전까지 끝나지 않음)
+    private static class StallingEmitter extends SseEmitter {
+
+        private final CountDownLatch releaseWrites;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile boolean writing;
+
+        StallingEmitter(CountDownLatch releaseWrites) {
+            this.releaseWrites = releaseWrites;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing = true;
+            try {
+                releaseWrites.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed.countDown();
+            super.completeWithError(ex);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.order.entity.OrderEvent;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.repository.OrderEventRepository;
+import com.sparta.delivery.domain.order.repository.OrderEventSequenceRepository;
+import com.sparta.delivery.domain.order.service.OrderFeedService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.util.JwtTestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 가게 주문 피드(SSE) 테스트
+ *
+ * 이벤트는 커밋 이후에 전송되므로 @Transactional 을 사용하지 않고, 테스트 후 직접 데이터를 정리합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OrderFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTestUtil jwtTestUtil;
+
+    @Autowired
+    private OrderFeedService orderFeedService;
+
+    @Autowired
+    private OrderEventRepository orderEventRepository;
+
+    @Autowired
+    private OrderEventSequenceRepository orderEventSequenceRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private User otherOwner;
+    private Stores store;
+
+    @BeforeEach
+    void setUp() {
+        owner = createOwner("feedOwner");
+        otherOwner = createOwner("feedOtherOwner");
+        store = storeRepository.save(Stores.builder()
+                .name("feedStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventRepository.deleteAll(orderEventRepository.findByStoreIdAndSeqGreaterThanOrderBySeqAsc(store.getStoreId(), 0, PageRequest.of(0, 100)));
+        orderEventSequenceRepository.deleteById(store.getStoreId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+        userRepository.deleteById(otherOwner.getUserId());
+    }
+
+    @Test
+    @DisplayName("구독 후 이벤트 - 이 서버의 이벤트와 다른 서버에서 커밋된 이벤트 모두 순서대로 전송")
+    void testLiveEvents() throws Exception {
+        orderFeedService.append(store.getStoreId(), UUID.randomUUID(), OrderStatus.PAYMENT_WAIT, OrderEventType.CREATED);
+
+        MockHttpServletResponse response = subscribe(owner, null).getResponse();
+
+        orderFeedService.append(store.getStoreId(), UUID.randomUUID(), OrderStatus.PAYMENT_COMPLETE, OrderEventType.STATUS_CHANGED);
+        awaitContent(response, "id:2");
+
+        // 다른 서버가 저장한 이벤트 : InvalidationBus 알림을 받은 것처럼 deliver 호출
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderEventSequenceRepository.increment(store.getStoreId());
+            orderEventRepository.save(OrderEvent.builder()
+                    .storeId(store.getStoreId())
+                    .seq(3)
+                    .orderId(UUID.randomUUID())
+                    .type(OrderEventType.CANCELLED)
+                    .orderStatus(OrderStatus.ORDER_CANCEL)
+                    .createdAt(Instant.now())
+                    .build());
+        });
+        orderFeedService.deliver(store.getStoreId());
+        String content = awaitContent(response, "id:3");
+
+        // 구독 전의 이벤트는 보내지 않음
+        assertFalse(content.contains("id:1\n"));
+        assertTrue(content.indexOf("event:STATUS_CHANGED") < content.indexOf("event:CANCELLED"));
+        assertEquals(1, count(content, "id:3"));
+    }
+
+    @Test
+    @DisplayName("재연결 - Last-Event-ID 이후의 이벤트부터 전송")
+    void testResumeFromLastEventId() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            orderFeedService.append(store.getStoreId(), UUID.randomUUID(), OrderStatus.PAYMENT_WAIT, OrderEventType.CREATED);
+        }
+
+        MockHttpServletResponse response = subscribe(owner, "1").getResponse();
+        String content = awaitContent(response, "id:3");
+
+        assertFalse(content.contains("id:1\n"));
+        assertTrue(content.contains("id:2\n"));
+        assertTrue(content.contains("event:CREATED"));
+    }
+
+    @Test
+    @DisplayName("다른 가게 사장님 - 403")
+    void testNotStoreOwner() throws Exception {
+        mockMvc.perform(get("/api/order/getStoreOrder/{storeId}/stream", store.getStoreId())
+                        .header("Authorization", "Bearer " + jwtTestUtil.createJwt(otherOwner.getUsername(), UserRoles.ROLE_OWNER))
+                        // 오류 응답은 JSON (Authorization 헤더를 보내는 fetch 기반 SSE 클라이언트)
+                        .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    private MvcResult subscribe(User user, String lastEventId) throws Exception {
+        var request = get("/api/order/getStoreOrder/{storeId}/stream", store.getStoreId())
+                .header("Authorization", "Bearer " + jwtTestUtil.createJwt(user.getUsername(), UserRoles.ROLE_OWNER))
+                .accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // 전송 스레드에서 비동기로 쓰므로 기대하는 내용이 올 때까지 대기
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
+    private static int count(String content, String token) {
+        return content.split(token, -1).length - 1;
+    }
+
+    private User createOwner(String username) {
+        return userRepository.save(User.builder()
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .username(username)
+                .nickname(username)
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+    }
+}
@@ -3,6 +3,7 @@ package com.sparta.delivery.orderTest;
 import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.CursorSlice;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
 import com.sparta.delivery.domain.order.dto.*;
@@ -11,15 +12,19 @@ import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
 import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
 import com.sparta.delivery.domain.orderProduct.repository.OrderProductRepository;
 import com.sparta.delivery.domain.product.entity.Product;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.review.entity.Review;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,7 +38,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -68,6 +75,15 @@ public class OrderServiceTest {
     @Autowired
     private OrderProductRepository orderProductRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+
     private User customer;
     private User owner;
     private User dummyOwner;
@@ -335,6 +351,57 @@ public class OrderServiceTest {
         assertEquals("주문하신 상품이 품절되었습니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("주문 등록 성공 - 상품별 주문 수량만큼 재고 차감")
+    void testCreateOrderWithQuantitiesSuccess() {
+        List<OrderProductRequestDto> orderProducts = List.of(
+                new OrderProductRequestDto(product1.getProductId(), 3),
+                new OrderProductRequestDto(product2.getProductId(), 1)
+        );
+
+        OrderRequestDto orderRequestDto = new OrderRequestDto(
+                deliveryAddress.getDeliveryAddressId(),
+                store1.getStoreId(),
+                new ArrayList<>(),
+                OrderType.DELIVERY,
+                "test order",
+                orderProducts
+        );
+
+        Order order = orderService.createOrder(orderRequestDto, "customer");
+        entityManager.flush();
+        entityManager.refresh(product1);
+        entityManager.refresh(product2);
+
+        assertEquals(2, order.getOrderProductList().size());
+        assertEquals(3, order.getOrderProductList().get(0).getQuantity());
+        assertEquals(17, product1.getQuantity());
+        assertEquals(0, product2.getQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 등록 실패 - 주문 수량이 재고보다 많을 때")
+    void testCreateOrderFailsWhenQuantityExceedsStock() {
+        List<OrderProductRequestDto> orderProducts = List.of(
+                new OrderProductRequestDto(product1.getProductId(), 1),
+                new OrderProductRequestDto(product2.getProductId(), 2)
+        );
+
+        OrderRequestDto orderRequestDto = new OrderRequestDto(
+                deliveryAddress.getDeliveryAddressId(),
+                store1.getStoreId(),
+                new ArrayList<>(),
+                OrderType.DELIVERY,
+                "test order",
+                orderProducts
+        );
+
+        ProductQuantityNotAllowedException exception = assertThrows(ProductQuantityNotAllowedException.class, ()-> {
+            orderService.createOrder(orderRequestDto, "customer");
+        });
+        assertEquals("주문하신 상품이 품절되었습니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("주문 단일 조회 성공")
     void testSearchOrderSuccess() {
@@ -344,6 +411,21 @@ public class OrderServiceTest {
         assertEquals(resultOrder.getOrderId(), order.getOrderId());
     }
 
+    @Test
+    @DisplayName("주문 단일 조회 성공 - 주문 상품은 함께 조회, 가게/주문자는 지연 로딩")
+    void testSearchOrderSuccessWithDetailGraph() {
+        entityManager.flush();
+        entityManager.clear();
+
+        OrderResponseDto resultOrder = orderService.getSingleOrder(order.getOrderId());
+        Order loadedOrder = orderRepository.findByOrderIdAndDeletedAtIsNull(order.getOrderId()).orElseThrow();
+
+        assertEquals(List.of(product1.getProductId()), resultOrder.getProductIdList());
+        assertTrue(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(loadedOrder, "orderProductList"));
+        assertFalse(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(loadedOrder.getStores()));
+        assertFalse(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(loadedOrder.getUser()));
+    }
+
     @Test
     @DisplayName("주문 단일 조회 실패 - 주문 ID 오류")
     void testSearchOrderFailWhenOrderIdError() {
@@ -376,7 +458,7 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("customer");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
 
         List<UUID> storeIdList = Collections.emptyList();
         List<UUID> deliveryAddressIdList = Collections.emptyList();
@@ -387,6 +469,47 @@ public class OrderServiceTest {
         assertEquals(14 , resultList.getTotalElements());
     }
 
+    @Test
+    @DisplayName("유저 주문 조회 성공 - 리뷰 포함, 가게 ID 로 필터링")
+    void testSearchUserOrderWithReviewSuccess() {
+        Review review = reviewRepository.save(Review.builder()
+                .comment("good")
+                .star(5)
+                .order(order)
+                .user(customer)
+                .stores(store1)
+                .build());
+
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
+
+        Page<OrderListResponseWithReviewDto> resultList = orderService.getUserOrderList("customer", pageRequest,
+                List.of(store1.getStoreId()), Collections.emptyList());
+
+        OrderListResponseWithReviewDto reviewed = resultList.getContent().stream()
+                .filter(dto -> dto.getOrderId().equals(order.getOrderId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(review.getReviewId(), reviewed.getReview().getReviewId());
+        assertEquals(5, reviewed.getReview().getStar());
+
+        OrderListResponseWithReviewDto notReviewed = resultList.getContent().stream()
+                .filter(dto -> dto.getOrderId().equals(deleteOrder.getOrderId()))
+                .findFirst()
+                .orElseThrow();
+        assertNull(notReviewed.getReview());
+    }
+
+    @Test
+    @DisplayName("유저 주문 조회 실패 - 조건에 해당하는 주문 없음")
+    void testSearchUserOrderFailWhenFilterNotMatched() {
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
+
+        OrderNotFoundException exception = assertThrows(OrderNotFoundException.class, ()-> {
+            orderService.getUserOrderList("customer", pageRequest, List.of(store2.getStoreId()), Collections.emptyList());
+        });
+        assertEquals("조건에 해당하는 주문이 없습니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("유저 주문 조회 성공 - 주문 내역 없음")
     void testSearchUserOrderSuccessWhenOrderNotExist() {
@@ -394,7 +517,7 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("owner");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
 
         List<UUID> storeIdList = Collections.emptyList();
         List<UUID> deliveryAddressIdList = Collections.emptyList();
@@ -426,7 +549,7 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("owner");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
 
         Page<OrderListResponseDto> resultList = orderService.getStoreOrderList(store1.getStoreId(), pageRequest, principalDetails.getUsername());
 
@@ -435,6 +558,49 @@ public class OrderServiceTest {
 
     }
 
+    @Test
+    @DisplayName("가게 주문 커서 조회 성공 - 중복/누락 없이 마지막 페이지까지 조회")
+    void testSearchStoreOrderByCursorSuccess() {
+        for(int i = 0; i < 12; i++) {
+            Order dummy = Order.builder()
+                    .orderId(UUID.randomUUID())
+                    .orderTime(LocalDateTime.now())
+                    .orderType(OrderType.DELIVERY)
+                    .orderStatus(OrderStatus.ORDER_IN)
+                    .requirements("test order" + i)
+                    .stores(store1)
+                    .user(customer)
+                    .deliveryAddress(deliveryAddress)
+                    .build();
+            orderRepository.save(dummy);
+        }
+        entityManager.flush();
+
+        Set<UUID> orderIds = new HashSet<>();
+        String cursor = null;
+        int pageCount = 0;
+        CursorSlice<OrderListResponseDto> slice;
+        do {
+            slice = orderService.getStoreOrderListByCursor(store1.getStoreId(), cursor, 5, "owner");
+            slice.content().forEach(dto -> orderIds.add(dto.getOrderId()));
+            cursor = slice.nextCursor();
+            pageCount++;
+        } while (slice.hasNext());
+
+        assertEquals(3, pageCount);
+        assertEquals(14, orderIds.size());
+        assertNull(slice.nextCursor());
+    }
+
+    @Test
+    @DisplayName("가게 주문 커서 조회 실패 - 유효하지 않은 커서")
+    void testSearchStoreOrderByCursorFailWhenInvalidCursor() {
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class, ()-> {
+            orderService.getStoreOrderListByCursor(store1.getStoreId(), "invalid-cursor", 5, "owner");
+        });
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("가게 주문 조회 실패 - 가게의 오너가 아님")
     void testSearchUserOrderFailWhenNotStoreOwner() {
@@ -442,7 +608,7 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("dummyOwner");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
 
         NotStoreOwnerException exception = assertThrows(NotStoreOwnerException.class, ()-> {
             orderService.getStoreOrderList(store1.getStoreId(), pageRequest, principalDetails.getUsername());
@@ -457,7 +623,7 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("owner");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
 
-        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, null, null);
+        PageRequest pageRequest = pageableConfig.createPageRequest(null, null, OrderRepository.SORT_SPEC, null, null);
 
         OrderNotFoundException exception = assertThrows(OrderNotFoundException.class, ()-> {
             orderService.getStoreOrderList(store2.getStoreId(), pageRequest, principalDetails.getUsername());
@@ -581,6 +747,50 @@ public class OrderServiceTest {
         assertEquals(principalDetails.getUsername(), resultOrder.getDeletedBy());
     }
 
+    @Test
+    @DisplayName("주문 삭제 성공 - 만료 처리로 예약이 이미 해제된 결제 대기 주문은 재고를 다시 복구하지 않음")
+    void testDeleteOrderAfterReservationReleased() {
+        OrderRequestDto orderRequestDto = new OrderRequestDto(
+                deliveryAddress.getDeliveryAddressId(),
+                store1.getStoreId(),
+                new ArrayList<>(),
+                OrderType.DELIVERY,
+                "test order",
+                List.of(new OrderProductRequestDto(product1.getProductId(), 3))
+        );
+        Order paymentWaitOrder = orderService.createOrder(orderRequestDto, "customer");
+        assertTrue(inventoryReservationService.release(paymentWaitOrder.getOrderId()));
+
+        orderService.deleteOrder(paymentWaitOrder.getOrderId(), "customer");
+        entityManager.flush();
+        entityManager.refresh(product1);
+
+        assertEquals(20, product1.getQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 삭제 성공 - 예약이 확정된 결제 완료 주문은 주문 수량만큼 재고 복구")
+    void testDeletePaidOrderRestoresStock() {
+        OrderRequestDto orderRequestDto = new OrderRequestDto(
+                deliveryAddress.getDeliveryAddressId(),
+                store1.getStoreId(),
+                new ArrayList<>(),
+                OrderType.DELIVERY,
+                "test order",
+                List.of(new OrderProductRequestDto(product1.getProductId(), 3))
+        );
+        Order paidOrder = orderService.createOrder(orderRequestDto, "customer");
+        inventoryReservationService.confirm(paidOrder.getOrderId());
+        paidOrder.setOrderStatus(OrderStatus.PAYMENT_COMPLETE);
+        orderRepository.save(paidOrder);
+
+        orderService.deleteOrder(paidOrder.getOrderId(), "customer");
+        entityManager.flush();
+        entityManager.refresh(product1);
+
+        assertEquals(20, product1.getQuantity());
+    }
+
 //    @Test
 //    @DisplayName("주문 삭제 실패 - 주문 시간으로부터 5분 이상일 때")
 //    @org.junit.jupiter.api.Order(17)
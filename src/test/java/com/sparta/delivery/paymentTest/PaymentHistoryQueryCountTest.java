@@ -0,0 +1,203 @@
+package com.sparta.delivery.paymentTest;
+
+import com.sparta.delivery.domain.card.entity.Card;
+import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.common.CursorSlice;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
+import com.sparta.delivery.domain.payment.dto.SearchDto;
+import com.sparta.delivery.domain.payment.entity.Payment;
+import com.sparta.delivery.domain.payment.repository.PaymentRepository;
+import com.sparta.delivery.domain.payment.service.PaymentService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 결제 내역 조회/검색 쿼리 수 회귀 테스트 (내역 건수와 관계없이 실행되는 SQL 수가 일정해야 함)
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class PaymentHistoryQueryCountTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Stores store;
+
+    @BeforeEach
+    void setUp() {
+        store = storeRepository.save(Stores.builder()
+                .name("결제내역가게")
+                .address("서울")
+                .status(true)
+                .category(Category.한식)
+                .build());
+    }
+
+    @Test
+    @DisplayName("결제 내역 건수와 관계없이 실행되는 쿼리 수가 일정함")
+    void testConstantStatementCount() {
+        User fewPaymentsUser = createUserWithPayments(2);
+        User manyPaymentsUser = createUserWithPayments(30);
+        entityManager.flush();
+        entityManager.clear();
+
+        long fewStatements = countStatements(() -> paymentService.getPayments(fewPaymentsUser.getUsername(), null, 50));
+        long manyStatements = countStatements(() -> paymentService.getPayments(manyPaymentsUser.getUsername(), null, 50));
+
+        assertEquals(fewStatements, manyStatements);
+        // 사용자 조회 1 + 결제 내역 조회 1
+        assertTrue(manyStatements <= 2, "statements : " + manyStatements);
+    }
+
+    @Test
+    @DisplayName("결제 내역 커서 조회 - 최신순으로 중복/누락 없이 다음 페이지 조회")
+    void testPaymentHistoryCursor() {
+        User user = createUserWithPayments(15);
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorSlice<PaymentDto> first = paymentService.getPayments(user.getUsername(), null, 10);
+        CursorSlice<PaymentDto> second = paymentService.getPayments(user.getUsername(), first.nextCursor(), 10);
+
+        assertEquals(10, first.content().size());
+        assertTrue(first.hasNext());
+        assertEquals(5, second.content().size());
+        assertFalse(second.hasNext());
+        assertTrue(first.content().get(9).getPaidAt().isAfter(second.content().get(0).getPaidAt())
+                || first.content().get(9).getPaidAt().isEqual(second.content().get(0).getPaidAt()));
+        assertTrue(second.content().stream().noneMatch(payment -> first.content().stream()
+                .anyMatch(previous -> previous.getPaymentId().equals(payment.getPaymentId()))));
+    }
+
+    @Test
+    @DisplayName("결제 내역 검색 - slice 모드는 count 쿼리를 실행하지 않음")
+    void testSearchSliceSkipsCount() {
+        User user = createUserWithPayments(15);
+        entityManager.flush();
+        entityManager.clear();
+        paymentService.getPayments(user.getUsername(), null, 1); // 사용자 조회 (통계에서 제외)
+
+        long pageStatements = countStatements(() -> {
+            Slice<PaymentDto> page = paymentService.searchPayments(new SearchDto(), user.getUsername(), 0, 10, "amount", "desc", true);
+            assertEquals(15, ((Page<PaymentDto>) page).getTotalElements());
+            assertEquals(10014, page.getContent().get(0).getAmount());
+        });
+        long sliceStatements = countStatements(() -> {
+            Slice<PaymentDto> slice = paymentService.searchPayments(new SearchDto(), user.getUsername(), 1, 10, "amount", "desc", false);
+            assertEquals(5, slice.getNumberOfElements());
+            assertFalse(slice.hasNext());
+        });
+
+        assertEquals(pageStatements - 1, sliceStatements);
+    }
+
+    @Test
+    @DisplayName("결제 내역 조회/검색 - 삭제된 주문의 결제는 제외")
+    void testDeletedOrderPaymentsExcluded() {
+        User user = createUserWithPayments(3);
+        orderRepository.findAll().stream()
+                .filter(order -> order.getUser().getUserId().equals(user.getUserId()))
+                .findFirst()
+                .orElseThrow()
+                .setDeletedAt(LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<PaymentDto> page = paymentService.searchPayments(new SearchDto(), user.getUsername(), 0, 10, "amount", "desc", true);
+        Slice<PaymentDto> slice = paymentService.searchPayments(new SearchDto(), user.getUsername(), 0, 10, "amount", "desc", false);
+
+        assertEquals(2, ((Page<PaymentDto>) page).getTotalElements());
+        assertEquals(2, page.getNumberOfElements());
+        assertEquals(2, slice.getNumberOfElements());
+        assertEquals(2, paymentService.getPayments(user.getUsername(), null, 10).content().size());
+    }
+
+    private long countStatements(Runnable query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User createUserWithPayments(int paymentCount) {
+        String username = "pay" + UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .email(username + "@test.com")
+                .password("password")
+                .username(username)
+                .nickname(username)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+        Card card = cardRepository.save(Card.builder()
+                .cardCompany("국민")
+                .cardNumber("1234")
+                .cardName("국민카드")
+                .user(user)
+                .build());
+
+        for (int i = 0; i < paymentCount; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .orderTime(LocalDateTime.now())
+                    .orderType(OrderType.DELIVERY)
+                    .orderStatus(OrderStatus.PAYMENT_COMPLETE)
+                    .user(user)
+                    .stores(store)
+                    .build());
+            paymentRepository.save(Payment.builder()
+                    .user(user)
+                    .card(card)
+                    .order(order)
+                    .amount(10000 + i)
+                    .build());
+        }
+        return user;
+    }
+}
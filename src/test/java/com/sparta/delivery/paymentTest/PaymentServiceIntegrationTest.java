@@ -27,12 +27,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -196,18 +197,20 @@ public class PaymentServiceIntegrationTest {
     @DisplayName("결제 내역 검색 성공")
     void testSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto();
-        List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername());
-        int size = searchResult.size();
+        Slice<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername(), 0, 10, null, "desc", true);
+        int size = searchResult.getNumberOfElements();
         assertEquals(1, size);
+        assertEquals(1, ((Page<PaymentDto>) searchResult).getTotalElements());
     }
 
     @Test
     @DisplayName("최소 금액이 30,000인 결제 내역 검색 성공")
     void testConditionSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto(30000, null, null, null, null, null);
-        List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername());
-        int size = searchResult.size();
+        Slice<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername(), 0, 10, "amount", "asc", false);
+        int size = searchResult.getNumberOfElements();
         assertEquals(0, size);
+        assertFalse(searchResult.hasNext());
     }
 
     @Test
@@ -1,32 +1,46 @@
 package com.sparta.delivery.paymentTest;
 
+import com.sparta.delivery.config.global.exception.custom.InvalidSortException;
 import com.sparta.delivery.config.global.exception.custom.PaymentAlreadyCompletedException;
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.common.CursorSlice;
+import com.sparta.delivery.domain.inventory.service.InventoryReservationService;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderFeedService;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
 import com.sparta.delivery.domain.payment.service.PaymentService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class PaymentServiceTest {
@@ -41,11 +55,20 @@ public class PaymentServiceTest {
     private CardRepository cardRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
 
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+
+    @Mock
+    private StoreRankingService storeRankingService;
+
+    @Mock
+    private OrderFeedService orderFeedService;
+
     private User testUser;
     private UUID cardId;
 
@@ -62,6 +85,7 @@ public class PaymentServiceTest {
                 .userId(UUID.randomUUID())
                 .username("testuser")
                 .build();
+        when(currentUserResolver.getReference(any(ResolvedUser.class))).thenReturn(testUser);
         cardId = UUID.randomUUID();
         testCard = Card.builder()
                 .cardId(cardId)
@@ -75,6 +99,7 @@ public class PaymentServiceTest {
                 .orderId(orderId)
                 .orderStatus(OrderStatus.PAYMENT_WAIT)
                 .user(testUser)
+                .stores(Stores.builder().storeId(UUID.randomUUID()).build())
                 .build();
         paymentId = UUID.randomUUID();
         testPayment = Payment.builder()
@@ -92,8 +117,8 @@ public class PaymentServiceTest {
         RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000,orderId);
 
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser")).thenReturn(Optional.of(testCard));
-        when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(orderRepository.findByOrderIdForUpdate(orderId)).thenReturn(Optional.of(testOrder));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
         when(paymentRepository.save(any(Payment.class))).thenReturn(testPayment);
         assertDoesNotThrow(() -> paymentService.isRegisterPayment(registerPaymentDto, "testuser"));
     }
@@ -106,8 +131,8 @@ public class PaymentServiceTest {
         RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000,orderId);
 
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser")).thenReturn(Optional.of(testCard));
-        when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(orderRepository.findByOrderIdForUpdate(orderId)).thenReturn(Optional.of(testOrder));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
 
         PaymentAlreadyCompletedException exception = assertThrows(PaymentAlreadyCompletedException.class,
                 () -> paymentService.isRegisterPayment(registerPaymentDto, "testuser"));
@@ -118,7 +143,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 조회 성공")
     void testGetPaymentSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
 
@@ -131,7 +156,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 조회 실패 : 결제 내역 없음")
     void testGetPaymentFailNotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.empty());
 
         NullPointerException exception = assertThrows(NullPointerException.class,
@@ -143,57 +168,71 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("전체 결제 내역 조회")
     void testGetPaymentsSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.findByUser_UsernameAndDeletedAtIsNull("testuser")).thenReturn(List.of(testPayment));
-        when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
-        when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
+        PaymentDto paymentDto = PaymentDto.builder()
+                .paymentId(paymentId)
+                .amount(10000)
+                .orderId(orderId)
+                .orderStatus(OrderStatus.PAYMENT_COMPLETE)
+                .paidAt(LocalDateTime.now())
+                .build();
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
+        when(paymentRepository.findPaymentHistory(testUser.getUserId(), null, 11)).thenReturn(List.of(paymentDto));
 
-        List<PaymentDto> result = paymentService.getPayments("testuser");
+        CursorSlice<PaymentDto> result = paymentService.getPayments("testuser", null, 10);
 
         assertNotNull(result);
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals(testPayment.getPaymentId(), result.get(0).getPaymentId());
+        assertEquals(1, result.content().size());
+        assertEquals(testPayment.getPaymentId(), result.content().get(0).getPaymentId());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
     }
 
     @Test
     @DisplayName("전체 결제 내역 조회 실패 : 결제 내역 없음")
     void testGetPaymentsFailNoPayments() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.findByUser_UsernameAndDeletedAtIsNull("testuser")).thenReturn(List.of());
-        when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
-        when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
+        when(paymentRepository.findPaymentHistory(testUser.getUserId(), null, 11)).thenReturn(List.of());
 
-        List<PaymentDto> result = paymentService.getPayments("testuser");
+        CursorSlice<PaymentDto> result = paymentService.getPayments("testuser", null, 10);
 
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.content().isEmpty());
     }
 
     @Test
     @DisplayName("결제 내역 검색 성공")
     void testSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto();
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.searchPayments(searchDto, "testuser")).thenReturn(List.of(testPayment));
-        when(paymentRepository.searchPayments(null, "testuser")).thenReturn(List.of(testPayment));
+        PaymentDto paymentDto = PaymentDto.builder().paymentId(paymentId).amount(10000).orderId(orderId).build();
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
+        when(paymentRepository.searchPayments(eq(searchDto), eq(testUser.getUserId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(paymentDto)));
+        when(paymentRepository.searchPaymentSlice(eq(searchDto), eq(testUser.getUserId()), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(paymentDto)));
+
+        Slice<PaymentDto> searchResult = paymentService.searchPayments(searchDto, "testuser", 0, 10, null, "desc", true);
+        Slice<PaymentDto> searchSliceResult = paymentService.searchPayments(searchDto, "testuser", 0, 10, "amount", "asc", false);
 
-        List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, "testuser");
-        List<PaymentDto> searchNullResult = paymentService.searchPayments(null, "testuser");
+        assertInstanceOf(Page.class, searchResult);
+        assertEquals(testPayment.getPaymentId(), searchResult.getContent().get(0).getPaymentId());
 
-        assertNotNull(searchResult);
-        assertFalse(searchResult.isEmpty());
-        assertEquals(testPayment.getPaymentId(), searchResult.get(0).getPaymentId());
+        assertFalse(searchSliceResult instanceof Page);
+        assertEquals(testPayment.getPaymentId(), searchSliceResult.getContent().get(0).getPaymentId());
+    }
+
+    @Test
+    @DisplayName("결제 내역 검색 실패 : 허용되지 않은 정렬 기준")
+    void testSearchPaymentsFailInvalidSort() {
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
 
-        assertNotNull(searchNullResult);
-        assertFalse(searchNullResult.isEmpty());
-        assertEquals(testPayment.getPaymentId(), searchNullResult.get(0).getPaymentId());
+        assertThrows(InvalidSortException.class,
+                () -> paymentService.searchPayments(new SearchDto(), "testuser", 0, 10, "cardCompany", "desc", true));
     }
 
     @Test
     @DisplayName("결제 내역 삭제 성공")
     void testDeletePaymentSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         assertDoesNotThrow(() -> paymentService.deletePayment(paymentId, "testuser"));
     }
@@ -201,7 +240,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 삭제 실패 : 결제 정보 없음")
     void testDeletePaymentFailNotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("testuser")).thenReturn(Optional.of(ResolvedUser.from(testUser)));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.empty());
 
         NullPointerException exception = assertThrows(NullPointerException.class,
@@ -4,12 +4,18 @@ import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.DuplicateProductException;
 import com.sparta.delivery.config.global.exception.custom.ProductNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.common.CatalogCacheEvictor;
 import com.sparta.delivery.domain.product.dto.ProductRequestDto;
 import com.sparta.delivery.domain.product.dto.ProductResponseDto;
 import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
+import com.sparta.delivery.domain.product.dto.ProductView;
 import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.enums.ProductVisibility;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
 import com.sparta.delivery.domain.product.service.ProductService;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.enums.UserRoles;
@@ -24,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +47,10 @@ public class ProductServiceTest {
     @Mock
     private StoreRepository storeRepository;
     @Mock
+    private SearchIndex searchIndex;
+    @Mock
+    private CatalogCacheEvictor catalogCacheEvictor;
+    @Mock
     private PrincipalDetails principalDetails;
     private UUID productId;
     private UUID storeId;
@@ -211,23 +222,23 @@ public class ProductServiceTest {
             @Test
             @DisplayName("마스터 또는 매니저는 숨김 및 삭제 상품을 포함한 모든 상품을 조회할 수 있다.")
             void getAllProductsSuccessForMasterOrManager() {
-                when(productRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+                when(productRepository.findProductViews(eq(false), any(Pageable.class))).thenReturn(Page.empty());
                 when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_MASTER);
 
                 productService.getAllProducts(0, 10, "createdAt", "desc", principalDetails);
 
-                verify(productRepository, times(1)).findAll(any(Pageable.class));
+                verify(productRepository, times(1)).findProductViews(eq(false), any(Pageable.class));
             }
 
             @Test
             @DisplayName("고객은 삭제되지 않은 상품 중 숨김 처리되지 않은 상품을 조회할 수 있다.")
             void getAllProductsSuccessForCustomer() {
-                when(productRepository.findByDeletedAtIsNullAndHiddenFalse(any(Pageable.class))).thenReturn(Page.empty());
+                when(productRepository.findProductViews(eq(true), any(Pageable.class))).thenReturn(Page.empty());
                 when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
                 productService.getAllProducts(0, 10, "createdAt", "desc", principalDetails);
 
-                verify(productRepository, times(1)).findByDeletedAtIsNullAndHiddenFalse(any(Pageable.class));
+                verify(productRepository, times(1)).findProductViews(eq(true), any(Pageable.class));
             }
         }
     }
@@ -326,23 +337,55 @@ public class ProductServiceTest {
             @Test
             @DisplayName("마스터 또는 매니저는 숨김 및 삭제 상품을 포함한 모든 상품을 검색할 수 있다.")
             void searchProductSuccessForMasterOrManager() {
-                when(productRepository.findAllByNameContaining(anyString(), any(Pageable.class))).thenReturn(Page.empty());
+                when(searchIndex.search(SearchDocumentType.PRODUCT, PRODUCT_NAME, ProductVisibility.ALL.searchVisibilities())).thenReturn(new SearchHits(List.of(productId), false));
+                when(productRepository.searchProducts(eq(List.of(productId)), eq(ProductVisibility.ALL), any(Pageable.class))).thenReturn(Page.empty());
                 when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_MASTER);
 
                 productService.searchProducts(PRODUCT_NAME, 0, 10, "createdAt", "desc", principalDetails);
 
-                verify(productRepository, times(1)).findAllByNameContaining(anyString(), any(Pageable.class));
+                verify(productRepository, times(1)).searchProducts(eq(List.of(productId)), eq(ProductVisibility.ALL), any(Pageable.class));
             }
 
             @Test
             @DisplayName("고객은 삭제되지 않은 상품 중 숨김 처리되지 않은 상품을 검색할 수 있다.")
             void searchProductSuccessForCustomer() {
-                when(productRepository.findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(anyString(), any(Pageable.class))).thenReturn(Page.empty());
+                when(searchIndex.search(SearchDocumentType.PRODUCT, PRODUCT_NAME, ProductVisibility.VISIBLE.searchVisibilities())).thenReturn(new SearchHits(List.of(productId), false));
+                when(productRepository.searchProducts(eq(List.of(productId)), eq(ProductVisibility.VISIBLE), any(Pageable.class))).thenReturn(Page.empty());
                 when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
                 productService.searchProducts(PRODUCT_NAME, 0, 10, "createdAt", "desc", principalDetails);
 
-                verify(productRepository, times(1)).findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(anyString(), any(Pageable.class));
+                verify(productRepository, times(1)).searchProducts(eq(List.of(productId)), eq(ProductVisibility.VISIBLE), any(Pageable.class));
+            }
+
+            @Test
+            @DisplayName("관련도 순 검색은 색인 순서대로 조회 범위에 포함된 상품만 반환한다.")
+            void searchProductSuccessByRelevance() {
+                UUID hiddenProductId = UUID.randomUUID();
+                List<UUID> rankedIds = List.of(hiddenProductId, productId);
+                when(searchIndex.search(SearchDocumentType.PRODUCT, PRODUCT_NAME, ProductVisibility.VISIBLE.searchVisibilities())).thenReturn(new SearchHits(rankedIds, false));
+                when(productRepository.findSearchableProductIds(rankedIds, ProductVisibility.VISIBLE)).thenReturn(List.of(productId));
+                when(productRepository.findProductViewsByIds(List.of(productId))).thenReturn(List.of(
+                        new ProductView(productId, PRODUCT_NAME, PRODUCT_DESCRIPTION, PRODUCT_PRICE, PRODUCT_QUANTITY, PRODUCT_HIDDEN, storeId)));
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+                Page<ProductResponseDto> result = productService.searchProducts(PRODUCT_NAME, 0, 10, "relevance", "desc", principalDetails);
+
+                assertEquals(1, result.getTotalElements());
+                assertEquals(productId, result.getContent().get(0).getProductId());
+            }
+
+            @Test
+            @DisplayName("색인에서 일치하는 상품이 최대 건수를 넘으면 DB 에서 검색한다.")
+            void searchProductSuccessByDatabaseFallback() {
+                when(searchIndex.search(SearchDocumentType.PRODUCT, PRODUCT_NAME, ProductVisibility.VISIBLE.searchVisibilities())).thenReturn(new SearchHits(List.of(productId), true));
+                when(productRepository.searchProductsByKeyword(eq(PRODUCT_NAME), eq(ProductVisibility.VISIBLE), any(Pageable.class))).thenReturn(Page.empty());
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+                productService.searchProducts(PRODUCT_NAME, 0, 10, "relevance", "desc", principalDetails);
+
+                verify(productRepository, times(1)).searchProductsByKeyword(eq(PRODUCT_NAME), eq(ProductVisibility.VISIBLE), any(Pageable.class));
+                verify(productRepository, never()).findSearchableProductIds(any(), any());
             }
         }
     }
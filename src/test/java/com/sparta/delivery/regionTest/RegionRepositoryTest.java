@@ -0,0 +1,66 @@
+package com.sparta.delivery.regionTest;
+
+import com.sparta.delivery.domain.region.dto.RegionView;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가게 목록 조회 시 사용하는 운영 지역 일괄 조회 테스트
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class RegionRepositoryTest {
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("가게별 운영 지역 조회 - 삭제된 운영 지역은 제외")
+    void testFindRegionViewsByStoreIdsExcludesDeleted() {
+        Stores store = storeRepository.save(Stores.builder()
+                .name("지역가게")
+                .address("서울")
+                .status(true)
+                .category(Category.한식)
+                .build());
+        saveRegion(store, "종로동");
+        saveRegion(store, "혜화동").setDeletedAt(LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<RegionView> regions = regionRepository.findRegionViewsByStoreIds(List.of(store.getStoreId()));
+
+        assertEquals(List.of("종로동"), regions.stream().map(RegionView::locality).toList());
+    }
+
+    private Region saveRegion(Stores store, String locality) {
+        return regionRepository.save(Region.builder()
+                .stores(store)
+                .province("서울특별시")
+                .city("종로구")
+                .locality(locality)
+                .build());
+    }
+}
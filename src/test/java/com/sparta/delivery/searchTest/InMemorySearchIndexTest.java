@@ -0,0 +1,133 @@
+package com.sparta.delivery.searchTest;
+
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.enums.SearchVisibility;
+import com.sparta.delivery.domain.search.service.InMemorySearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemorySearchIndexTest {
+
+    private InMemorySearchIndex searchIndex;
+
+    private final UUID bonjuk = UUID.randomUUID();
+    private final UUID bonjukJongno = UUID.randomUUID();
+    private final UUID jukStory = UUID.randomUUID();
+    private final UUID chicken = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InMemorySearchIndex(1000);
+        searchIndex.rebuild(SearchDocumentType.STORE, () -> List.of(
+                new SearchDocument(bonjuk, "본죽"),
+                new SearchDocument(bonjukJongno, "본죽 종로점"),
+                new SearchDocument(jukStory, "죽이야기"),
+                new SearchDocument(chicken, "BHC치킨")
+        ));
+    }
+
+    @Test
+    @DisplayName("검색 성공 - 완전 일치 > 접두 일치 > 부분 일치 순으로 정렬")
+    void testSearchRanking() {
+        assertEquals(List.of(bonjuk, bonjukJongno), searchIndex.search(SearchDocumentType.STORE, "본죽").ids());
+        assertEquals(List.of(jukStory, bonjuk, bonjukJongno), searchIndex.search(SearchDocumentType.STORE, "죽").ids());
+    }
+
+    @Test
+    @DisplayName("검색 성공 - 띄어쓰기와 대소문자를 무시")
+    void testSearchNormalized() {
+        assertEquals(List.of(bonjukJongno), searchIndex.search(SearchDocumentType.STORE, "본죽종로").ids());
+        assertEquals(List.of(bonjukJongno), searchIndex.search(SearchDocumentType.STORE, "죽 종로").ids());
+        assertEquals(List.of(chicken), searchIndex.search(SearchDocumentType.STORE, "bhc").ids());
+    }
+
+    @Test
+    @DisplayName("검색 성공 - 초성 검색")
+    void testSearchChoseong() {
+        assertEquals(List.of(bonjuk, bonjukJongno), searchIndex.search(SearchDocumentType.STORE, "ㅂㅈ").ids());
+        assertEquals(List.of(chicken), searchIndex.search(SearchDocumentType.STORE, "ㅊㅋ").ids());
+    }
+
+    @Test
+    @DisplayName("검색 실패 - bigram 은 모두 있지만 연속되지 않은 문자열은 제외")
+    void testSearchRequiresContiguousMatch() {
+        // "본죽 종로점" 은 "본죽", "종로" bigram 을 갖지만 "본죽로" 를 포함하지 않음
+        assertTrue(searchIndex.search(SearchDocumentType.STORE, "본죽로").ids().isEmpty());
+        assertTrue(searchIndex.search(SearchDocumentType.STORE, "   ").ids().isEmpty());
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 이름 변경 및 삭제 반영")
+    void testIndexAndRemove() {
+        searchIndex.index(SearchDocumentType.STORE, chicken, "교촌치킨");
+        searchIndex.remove(SearchDocumentType.STORE, bonjuk);
+
+        assertTrue(searchIndex.search(SearchDocumentType.STORE, "bhc").ids().isEmpty());
+        assertEquals(List.of(chicken), searchIndex.search(SearchDocumentType.STORE, "교촌").ids());
+        assertEquals(List.of(bonjukJongno), searchIndex.search(SearchDocumentType.STORE, "본죽").ids());
+        assertTrue(searchIndex.search(SearchDocumentType.PRODUCT, "본죽").ids().isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색 성공 - 조회 범위에 포함되는 공개 범위의 문서만 반환")
+    void testSearchVisibility() {
+        UUID hidden = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        searchIndex.index(SearchDocumentType.PRODUCT, hidden, "전복죽", SearchVisibility.HIDDEN);
+        searchIndex.index(SearchDocumentType.PRODUCT, deleted, "단호박죽", SearchVisibility.DELETED);
+
+        assertTrue(searchIndex.search(SearchDocumentType.PRODUCT, "죽").ids().isEmpty());
+        assertEquals(List.of(hidden), searchIndex.search(SearchDocumentType.PRODUCT, "죽",
+                EnumSet.of(SearchVisibility.PUBLIC, SearchVisibility.HIDDEN)).ids());
+        assertEquals(List.of(hidden, deleted), searchIndex.search(SearchDocumentType.PRODUCT, "죽",
+                EnumSet.allOf(SearchVisibility.class)).ids());
+    }
+
+    @Test
+    @DisplayName("검색 성공 - 최대 건수 제한은 조회 범위에 포함된 문서에만 적용하고, 초과하면 DB 검색으로 처리")
+    void testSearchMaxHits() {
+        InMemorySearchIndex smallIndex = new InMemorySearchIndex(2);
+        smallIndex.rebuild(SearchDocumentType.PRODUCT, () -> List.of(
+                new SearchDocument(UUID.randomUUID(), "호박죽", SearchVisibility.DELETED),
+                new SearchDocument(UUID.randomUUID(), "팥죽", SearchVisibility.HIDDEN),
+                new SearchDocument(bonjuk, "본죽"),
+                new SearchDocument(jukStory, "죽이야기")
+        ));
+
+        SearchHits visibleHits = smallIndex.search(SearchDocumentType.PRODUCT, "죽");
+        assertEquals(List.of(jukStory, bonjuk), visibleHits.ids());
+        assertFalse(visibleHits.useDatabase());
+
+        SearchHits allHits = smallIndex.search(SearchDocumentType.PRODUCT, "죽", EnumSet.allOf(SearchVisibility.class));
+        assertEquals(2, allHits.ids().size());
+        assertTrue(allHits.useDatabase());
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 트랜잭션 안의 변경은 커밋 이후에만 반영")
+    void testIndexAfterCommit() {
+        UUID newStore = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchIndex.index(SearchDocumentType.STORE, newStore, "죽마을");
+            assertFalse(searchIndex.search(SearchDocumentType.STORE, "죽마을").ids().contains(newStore));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(newStore), searchIndex.search(SearchDocumentType.STORE, "죽마을").ids());
+    }
+}
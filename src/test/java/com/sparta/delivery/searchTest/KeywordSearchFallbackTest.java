@@ -0,0 +1,148 @@
+package com.sparta.delivery.searchTest;
+
+import com.sparta.delivery.domain.product.dto.ProductView;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.enums.ProductVisibility;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.search.dto.SearchDocument;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.service.InMemorySearchIndex;
+import com.sparta.delivery.domain.store.dto.StoreListView;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 검색 색인의 결과가 search.maxHits 를 넘을 때 사용하는 DB LIKE 검색 테스트
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class KeywordSearchFallbackTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Stores store = storeRepository.save(Stores.builder()
+                .name("죽가게")
+                .address("서울")
+                .status(true)
+                .category(Category.한식)
+                .build());
+
+        saveProduct(store, "전복죽", 12000, false);
+        saveProduct(store, "죽이야기", 9000, false);
+        saveProduct(store, "죽", 8000, false);
+        saveProduct(store, "팥죽", 7000, true);
+        saveProduct(store, "호박죽", 6000, false).softDelete("master");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("관련도 순 - 완전 일치 > 접두 일치 > 부분 일치 순으로 조회 범위의 상품만 정렬")
+    void testSearchProductsByRelevance() {
+        Page<ProductView> visible = productRepository.searchProductsByKeyword("죽", ProductVisibility.VISIBLE, PageRequest.of(0, 10));
+
+        assertEquals(List.of("죽", "죽이야기", "전복죽"), visible.getContent().stream().map(ProductView::name).toList());
+        assertEquals(3, visible.getTotalElements());
+        assertEquals(4, productRepository.searchProductsByKeyword("죽", ProductVisibility.NOT_DELETED, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(5, productRepository.searchProductsByKeyword("죽", ProductVisibility.ALL, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("컬럼 정렬 - 정렬 조건이 있으면 해당 컬럼 기준으로 정렬하고 총 건수는 정확하게 반환")
+    void testSearchProductsBySort() {
+        Page<ProductView> page = productRepository.searchProductsByKeyword("죽", ProductVisibility.VISIBLE,
+                PageRequest.of(0, 2, ProductRepository.SORT_SPEC.toSort("price", "asc")));
+
+        assertEquals(List.of(8000, 9000), page.getContent().stream().map(ProductView::price).toList());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("DB 검색 - 검색 색인과 같이 띄어쓰기와 대소문자를 무시")
+    void testSearchStoresNormalizedLikeIndex() {
+        List<Stores> stores = List.of(
+                saveStore("본죽 종로점"),
+                saveStore("본죽"),
+                saveStore("BHC치킨"),
+                saveStore("치킨집"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Set<UUID> storeIds = stores.stream().map(Stores::getStoreId).collect(Collectors.toSet());
+        InMemorySearchIndex searchIndex = new InMemorySearchIndex(1000);
+        searchIndex.rebuild(SearchDocumentType.STORE, () -> stores.stream()
+                .map(store -> new SearchDocument(store.getStoreId(), store.getName()))
+                .toList());
+
+        for (String keyword : List.of("본죽종로", "죽 종로", "bhc", "Bhc 치킨", "치킨 집", "치킨")) {
+            Set<UUID> indexed = Set.copyOf(searchIndex.search(SearchDocumentType.STORE, keyword).ids());
+            Set<UUID> fallback = storeRepository.searchStoresByKeyword(keyword, Category.치킨, PageRequest.of(0, 10)).getContent().stream()
+                    .map(StoreListView::storeId)
+                    .filter(storeIds::contains)
+                    .collect(Collectors.toSet());
+
+            assertFalse(fallback.isEmpty(), keyword);
+            assertEquals(indexed, fallback, keyword);
+        }
+    }
+
+    @Test
+    @DisplayName("DB 검색 관련도 순 - 공백/대소문자를 무시하고 완전 일치를 먼저 정렬")
+    void testSearchStoresRelevanceNormalized() {
+        saveStore("치킨 집 본점");
+        saveStore("치킨집");
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<StoreListView> page = storeRepository.searchStoresByKeyword("치킨 집", Category.치킨, PageRequest.of(0, 10));
+
+        assertEquals(List.of("치킨집", "치킨 집 본점"), page.getContent().stream().map(StoreListView::name).toList());
+    }
+
+    private Stores saveStore(String name) {
+        return storeRepository.save(Stores.builder()
+                .name(name)
+                .address("서울")
+                .status(true)
+                .category(Category.치킨)
+                .build());
+    }
+
+    private Product saveProduct(Stores store, String name, int price, boolean hidden) {
+        return productRepository.save(Product.builder()
+                .store(store)
+                .name(name)
+                .price(price)
+                .quantity(10)
+                .hidden(hidden)
+                .build());
+    }
+}
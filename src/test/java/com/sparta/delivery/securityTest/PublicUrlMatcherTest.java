@@ -0,0 +1,58 @@
+package com.sparta.delivery.securityTest;
+
+import com.sparta.delivery.config.SecurityUrlProperties;
+import com.sparta.delivery.config.filter.PublicUrlMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인증 없이 접근 가능한 URL 판별 테스트 (security.permitAllUrls)
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class PublicUrlMatcherTest {
+
+    @Autowired
+    private PublicUrlMatcher publicUrlMatcher;
+
+    @Test
+    @DisplayName("공용 URL - 정확히 일치하는 경로와 /** 하위 경로는 허용")
+    void testPermittedPaths() {
+        assertTrue(publicUrlMatcher.matches("/api/user/signup"));
+        assertTrue(publicUrlMatcher.matches("/api/user/signin"));
+        assertTrue(publicUrlMatcher.matches("/api/token/reissue"));
+        assertTrue(publicUrlMatcher.matches("/swagger-ui"));
+        assertTrue(publicUrlMatcher.matches("/swagger-ui/index.html"));
+        assertTrue(publicUrlMatcher.matches("/v3/api-docs/swagger-config"));
+    }
+
+    @Test
+    @DisplayName("인증 필요 URL - 목록에 없는 경로, 접두어만 같은 경로, 하위 경로는 거부")
+    void testDeniedPaths() {
+        assertFalse(publicUrlMatcher.matches("/api/user"));
+        assertFalse(publicUrlMatcher.matches("/api/user/signup/extra"));
+        assertFalse(publicUrlMatcher.matches("/api/orders"));
+        assertFalse(publicUrlMatcher.matches("/swagger-uiX"));
+        assertFalse(publicUrlMatcher.matches("/v3/api-docsX/swagger-config"));
+    }
+
+    @Test
+    @DisplayName("와일드카드 패턴 - 중간에 와일드카드가 있는 경로는 패턴으로 검사")
+    void testPatternPaths() {
+        SecurityUrlProperties properties = new SecurityUrlProperties();
+        properties.setPermitAllUrls(List.of("/api/stores/*/products", "/api/public/**"));
+        PublicUrlMatcher matcher = new PublicUrlMatcher(properties);
+
+        assertTrue(matcher.matches("/api/stores/1234/products"));
+        assertTrue(matcher.matches("/api/public/notice/1"));
+        assertFalse(matcher.matches("/api/stores/1234/products/5678"));
+        assertFalse(matcher.matches("/api/stores"));
+    }
+}
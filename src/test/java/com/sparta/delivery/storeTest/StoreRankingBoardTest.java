@@ -0,0 +1,116 @@
+package com.sparta.delivery.storeTest;
+
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.enums.RankingMetric;
+import com.sparta.delivery.domain.store.service.StoreRankingBoard;
+import com.sparta.delivery.domain.store.service.StoreRankingBoard.StoreStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StoreRankingBoardTest {
+
+    private StoreRankingBoard board;
+
+    private StoreStats popular;   // 리뷰 100 개, 평균 4.8
+    private StoreStats singleFive; // 리뷰 1 개, 5 점
+    private StoreStats chicken;    // 리뷰 50 개, 평균 4.0
+
+    @BeforeEach
+    void setUp() {
+        board = new StoreRankingBoard(10);
+        popular = stats("본죽", Category.한식, Set.of("종로동"), 480, 100, 30);
+        singleFive = stats("김밥천국", Category.분식, Set.of("종로동", "혜화동"), 5, 1, 200);
+        chicken = stats("교촌치킨", Category.치킨, Set.of("혜화동"), 200, 50, 80);
+        board.rebuild(() -> List.of(popular, singleFive, chicken));
+    }
+
+    @Test
+    @DisplayName("평점 순위 - 리뷰 1 개짜리 5 점 가게가 리뷰가 많은 4.8 점 가게보다 앞서지 않음")
+    void testBayesianRating() {
+        List<UUID> ranking = topIds(RankingMetric.RATING, null, null, 10);
+
+        assertEquals(List.of(popular.storeId(), singleFive.storeId(), chicken.storeId()), ranking);
+    }
+
+    @Test
+    @DisplayName("카테고리 / 운영 지역 / 운영 지역 + 카테고리 별 순위")
+    void testRankingByCategoryAndLocality() {
+        assertEquals(List.of(chicken.storeId()), topIds(RankingMetric.RATING, Category.치킨, null, 10));
+        assertEquals(List.of(singleFive.storeId(), chicken.storeId()), topIds(RankingMetric.RATING, null, "혜화동", 10));
+        assertEquals(List.of(singleFive.storeId()), topIds(RankingMetric.RATING, Category.분식, "종로동", 10));
+        assertTrue(topIds(RankingMetric.RATING, Category.피자, "종로동", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("판매량 순위 - 주문 수 변경 시 순위 갱신")
+    void testOrderRanking() {
+        assertEquals(List.of(singleFive.storeId(), chicken.storeId(), popular.storeId()),
+                topIds(RankingMetric.ORDERS, null, null, 10));
+
+        board.addOrders(popular.storeId(), 500);
+
+        assertEquals(popular.storeId(), topIds(RankingMetric.ORDERS, null, null, 1).get(0));
+        assertEquals(530, board.top(RankingMetric.ORDERS, null, null, 1).get(0).stats().orderCount());
+    }
+
+    @Test
+    @DisplayName("가게 삭제 / 상위 K 개 제한")
+    void testRemoveAndLimit() {
+        board.remove(popular.storeId());
+
+        assertEquals(2, board.size());
+        assertEquals(List.of(singleFive.storeId()), topIds(RankingMetric.RATING, null, null, 1));
+        assertTrue(topIds(RankingMetric.RATING, Category.한식, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재계산 중 변경 - 재계산 이후에도 반영됨")
+    void testChangesDuringRebuild() {
+        StoreStats added = stats("홍콩반점", Category.중식, Set.of("종로동"), 0, 0, 0);
+
+        board.rebuild(() -> {
+            board.put(added);
+            board.remove(chicken.storeId());
+            return List.of(popular, singleFive, chicken);
+        });
+
+        assertEquals(List.of(added.storeId()), topIds(RankingMetric.RATING, Category.중식, null, 10));
+        assertTrue(topIds(RankingMetric.RATING, Category.치킨, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재계산 중 변경 - 다시 적용할 때 재계산에서 읽은 주문 수를 덮어쓰지 않음")
+    void testChangesDuringRebuildKeepRebuiltOrderCount() {
+        StoreStats renamed = new StoreStats(popular.storeId(), "본죽&비빔밥", popular.category(), popular.localities(),
+                popular.starSum(), popular.reviewCount(), 30);
+        StoreStats rebuiltPopular = new StoreStats(popular.storeId(), popular.name(), popular.category(), popular.localities(),
+                popular.starSum(), popular.reviewCount(), 45);
+
+        board.rebuild(() -> {
+            board.put(renamed);
+            return List.of(rebuiltPopular, singleFive, chicken);
+        });
+
+        StoreStats current = board.top(RankingMetric.RATING, Category.한식, null, 1).get(0).stats();
+        assertEquals("본죽&비빔밥", current.name());
+        assertEquals(45, current.orderCount());
+    }
+
+    private List<UUID> topIds(RankingMetric metric, Category category, String locality, int limit) {
+        return board.top(metric, category, locality, limit).stream()
+                .map(ranked -> ranked.stats().storeId())
+                .toList();
+    }
+
+    private static StoreStats stats(String name, Category category, Set<String> localities,
+                                    int starSum, int reviewCount, long orderCount) {
+        return new StoreStats(UUID.randomUUID(), name, category, localities, starSum, reviewCount, orderCount);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.delivery.storeTest;
+
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.store.dto.StoreListView;
+import com.sparta.delivery.domain.store.dto.StoreRankingResDto;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class StoreRankingServiceTest {
+
+    private StoreRepository storeRepository;
+    private RegionRepository regionRepository;
+    private OrderRepository orderRepository;
+    private StoreRankingService storeRankingService;
+
+    private final StoreListView bonjuk = new StoreListView(UUID.randomUUID(), "본죽", "서울", true, Category.한식, 48, 10);
+    private final StoreListView chicken = new StoreListView(UUID.randomUUID(), "교촌치킨", "서울", true, Category.치킨, 40, 10);
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        regionRepository = mock(RegionRepository.class);
+        orderRepository = mock(OrderRepository.class);
+        storeRankingService = new StoreRankingService(storeRepository, regionRepository, orderRepository,
+                mock(InvalidationBus.class), new SimpleMeterRegistry(), 10, 100);
+
+        when(storeRepository.findRankingSources(isNull())).thenReturn(List.of(bonjuk, chicken));
+        when(regionRepository.findActiveRegionViews(any())).thenReturn(List.of());
+        when(orderRepository.countPaidOrdersByStore(isNull())).thenReturn(Map.of(bonjuk.storeId(), 5L, chicken.storeId(), 3L));
+        storeRankingService.rebuild();
+    }
+
+    @Test
+    @DisplayName("주문 수 갱신 - 마지막 확인 이후 주문이 변경된 가게만 다시 조회")
+    void testRefreshChangedStoresOnly() {
+        when(orderRepository.findStoreIdsWithOrdersUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(chicken.storeId()));
+        when(storeRepository.findRankingSources(List.of(chicken.storeId()))).thenReturn(List.of(chicken));
+        when(orderRepository.countPaidOrdersByStore(List.of(chicken.storeId()))).thenReturn(Map.of(chicken.storeId(), 9L));
+
+        storeRankingService.refreshChangedStores();
+
+        List<StoreRankingResDto> top = storeRankingService.getTopStores("orders", null, null, 10);
+        assertEquals(List.of(chicken.storeId(), bonjuk.storeId()), top.stream().map(StoreRankingResDto::getStoreId).toList());
+        assertEquals(9, top.get(0).getOrderCount());
+        // 전체 GROUP BY 는 시작 시 재계산에서 한 번만 실행
+        verify(orderRepository, times(1)).countPaidOrdersByStore(isNull());
+    }
+
+    @Test
+    @DisplayName("주문 수 갱신 - 삭제된 가게는 순위에서 제거")
+    void testRefreshRemovesDeletedStore() {
+        when(orderRepository.findStoreIdsWithOrdersUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(bonjuk.storeId()));
+        when(storeRepository.findRankingSources(List.of(bonjuk.storeId()))).thenReturn(List.of());
+        when(orderRepository.countPaidOrdersByStore(List.of(bonjuk.storeId()))).thenReturn(Map.of());
+
+        storeRankingService.refreshChangedStores();
+
+        assertEquals(List.of(chicken.storeId()), storeRankingService.getTopStores("orders", null, null, 10).stream()
+                .map(StoreRankingResDto::getStoreId).toList());
+    }
+}
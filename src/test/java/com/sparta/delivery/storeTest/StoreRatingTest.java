@@ -0,0 +1,121 @@
+package com.sparta.delivery.storeTest;
+
+import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.store.dto.StoreRatingResDto;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class StoreRatingTest {
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        storeId = storeRepository.save(Stores.builder()
+                .name("별점가게")
+                .address("서울")
+                .status(true)
+                .category(Category.한식)
+                .build()).getStoreId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeRepository.deleteById(storeId);
+    }
+
+    @Test
+    @DisplayName("동시에 작성된 리뷰의 별점이 유실되지 않음")
+    void testConcurrentAddReviewRating() throws Exception {
+        int reviewCount = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            int star = i % 5 + 1;
+            futures.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                storeService.addReviewRating(storeId, star);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        StoreRatingResDto rating = storeService.getStoreRating(storeId);
+        assertEquals(reviewCount, rating.getReviewCount());
+        assertEquals(3.0, rating.getAverageStar());
+        assertEquals(Map.of(1, 8, 2, 8, 3, 8, 4, 8, 5, 8), rating.getStarHistogram());
+    }
+
+    @Test
+    @DisplayName("리뷰 수정/삭제 시 평균과 별점 분포 변경")
+    void testChangeAndRemoveReviewRating() {
+        storeService.addReviewRating(storeId, 5);
+        storeService.addReviewRating(storeId, 4);
+        storeService.changeReviewRating(storeId, 4, 2);
+        storeService.removeReviewRating(storeId, 5);
+
+        StoreRatingResDto rating = storeService.getStoreRating(storeId);
+        assertEquals(1, rating.getReviewCount());
+        assertEquals(2.0, rating.getAverageStar());
+        assertEquals(Map.of(1, 0, 2, 1, 3, 0, 4, 0, 5, 0), rating.getStarHistogram());
+    }
+
+    @Test
+    @DisplayName("삭제된 가게의 리뷰 수정/삭제 - 예외 없이 별점 집계 변경")
+    void testReviewRatingOfDeletedStore() {
+        storeService.addReviewRating(storeId, 5);
+        storeService.addReviewRating(storeId, 3);
+        Stores store = storeRepository.findById(storeId).orElseThrow();
+        store.setDeletedAt(LocalDateTime.now());
+        storeRepository.save(store);
+
+        assertDoesNotThrow(() -> storeService.changeReviewRating(storeId, 3, 1));
+        assertDoesNotThrow(() -> storeService.removeReviewRating(storeId, 5));
+
+        Stores deletedStore = storeRepository.findById(storeId).orElseThrow();
+        assertEquals(1, deletedStore.getReviewSum());
+        assertEquals(1, deletedStore.getStarSum());
+        assertEquals(1, deletedStore.getOneStarCount());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 가게의 별점 변경 시 예외")
+    void testAddReviewRatingStoreNotFound() {
+        assertThrows(StoreNotFoundException.class, () -> storeService.addReviewRating(UUID.randomUUID(), 5));
+    }
+}
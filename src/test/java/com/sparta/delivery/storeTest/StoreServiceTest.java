@@ -2,18 +2,28 @@ package com.sparta.delivery.storeTest;
 
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.config.global.exception.custom.InvalidSortException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.common.CatalogCacheEvictor;
+import com.sparta.delivery.domain.region.dto.RegionView;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.search.dto.SearchHits;
+import com.sparta.delivery.domain.search.enums.SearchDocumentType;
+import com.sparta.delivery.domain.search.interfaces.SearchIndex;
+import com.sparta.delivery.domain.store.dto.StoreListView;
 import com.sparta.delivery.domain.store.dto.StoreRegionResDto;
 import com.sparta.delivery.domain.store.dto.StoreReqDto;
 import com.sparta.delivery.domain.store.dto.StoreResDto;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreRankingService;
 import com.sparta.delivery.domain.store.service.StoreService;
 
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,7 +49,19 @@ public class StoreServiceTest {
     private StoreRepository storeRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private RegionRepository regionRepository;
+
+    @Mock
+    private CurrentUserResolver currentUserResolver;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private CatalogCacheEvictor catalogCacheEvictor;
+
+    @Mock
+    private StoreRankingService storeRankingService;
 
     private Stores testStore;
     private UUID storeId;
@@ -62,7 +84,8 @@ public class StoreServiceTest {
         StoreReqDto storeReqDto = new StoreReqDto("본죽", Category.한식, "종로동");
         User testUser = User.builder().username("tom").build();
         when(storeRepository.save(any(Stores.class))).thenReturn(testStore);
-        when(userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve(principalDetails.getUsername())).thenReturn(Optional.of(ResolvedUser.from(testUser)));
+        when(currentUserResolver.getReference(any(ResolvedUser.class))).thenReturn(testUser);
         // When - 가게를 저장했을때
         StoreResDto result = storeService.storeCreate(storeReqDto, principalDetails);
 
@@ -78,12 +101,15 @@ public class StoreServiceTest {
     @DisplayName("가게 리스트 조회 성공 테스트")
     void testGetListSuccess() {
         // Given
-        Stores testStore = Stores.builder().name("본죽").address("종로동").category(Category.한식).build();
-        Stores testStore2 = Stores.builder().name("쌀죽").address("본동").category(Category.한식).build();
+        UUID storeId2 = UUID.randomUUID();
+        StoreListView testStore = new StoreListView(storeId, "본죽", "종로동", true, Category.한식, 0, 0);
+        StoreListView testStore2 = new StoreListView(storeId2, "쌀죽", "본동", true, Category.한식, 0, 0);
 
         Pageable pageable = PageRequest.of(0, 2, Sort.by("name").ascending());
-        Page<Stores> storeList = new PageImpl<>(List.of(testStore, testStore2), pageable, 2);
-        when(storeRepository.findAllByDeletedAtIsNull(any(Pageable.class))).thenReturn(storeList);
+        Page<StoreListView> storeList = new PageImpl<>(List.of(testStore, testStore2), pageable, 2);
+        when(storeRepository.findStoreListViews(any(Pageable.class))).thenReturn(storeList);
+        when(regionRepository.findRegionViewsByStoreIds(List.of(storeId, storeId2)))
+                .thenReturn(List.of(new RegionView(UUID.randomUUID(), storeId, "도시", "서울", "적선동")));
 
         // When - 가게를 저장했을때
         Page<StoreRegionResDto> result = storeService.getStoreList(pageable);
@@ -95,23 +121,84 @@ public class StoreServiceTest {
         assertEquals("본죽", result.getContent().get(0).getName());
         assertEquals("종로동", result.getContent().get(0).getAddress());
         assertEquals(Category.한식, result.getContent().get(0).getCategory());
+        assertEquals("적선동", result.getContent().get(0).getRegionList().get(0).getLocality());
 
         //두번째 가게 검증
         assertEquals("쌀죽", result.getContent().get(1).getName());
         assertEquals("본동", result.getContent().get(1).getAddress());
         assertEquals(Category.한식, result.getContent().get(1).getCategory());
+        assertTrue(result.getContent().get(1).getRegionList().isEmpty());
     }
 
     @Test
     @DisplayName("가게 리스트 조회 실패 테스트")
     void testGetListFail() {
         // Given
-        Page<Stores> storeList = new PageImpl<>(List.of(), PageRequest.of(0, 2), 2);
-        when(storeRepository.findAllByDeletedAtIsNull(any(Pageable.class))).thenReturn(storeList);
+        Page<StoreListView> storeList = new PageImpl<>(List.of(), PageRequest.of(0, 2), 2);
+        when(storeRepository.findStoreListViews(any(Pageable.class))).thenReturn(storeList);
         //When && Then - 예외발생 여부 테스트
         assertThrows(StoreNotFoundException.class, () -> storeService.getStoreList(PageRequest.of(0, 2)));
     }
 
+    @Test
+    @DisplayName("가게 검색 성공 테스트 - 허용되지 않은 페이지 크기는 10으로 조회")
+    void testSearchSuccess() {
+        // Given
+        StoreListView testStore = new StoreListView(storeId, "본죽", "종로동", true, Category.한식, 0, 0);
+        Pageable expectedPageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt", "storeId"));
+        when(searchIndex.search(SearchDocumentType.STORE, "죽")).thenReturn(new SearchHits(List.of(storeId), false));
+        when(storeRepository.searchStores(List.of(storeId), Category.한식, expectedPageable))
+                .thenReturn(new PageImpl<>(List.of(testStore), expectedPageable, 11));
+
+        // When
+        Page<StoreResDto> result = storeService.searchStore("죽", PageRequest.of(1, 15), "한식", "createdAt", "desc");
+
+        // Then - 페이지 계산은 DB 에서 수행된 결과를 그대로 사용
+        assertEquals(11, result.getTotalElements());
+        assertEquals(storeId, result.getContent().get(0).getStoreId());
+        assertEquals("본죽", result.getContent().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("가게 검색 성공 테스트 - 관련도 순 정렬은 색인 순서를 유지하고 카테고리가 다른 가게는 제외")
+    void testSearchRelevanceSuccess() {
+        // Given - 색인 결과 : 본죽(storeId) > 죽이야기(storeId2) > 죽집(storeId3, 다른 카테고리)
+        UUID storeId2 = UUID.randomUUID();
+        UUID storeId3 = UUID.randomUUID();
+        List<UUID> rankedIds = List.of(storeId, storeId2, storeId3);
+        when(searchIndex.search(SearchDocumentType.STORE, "죽")).thenReturn(new SearchHits(rankedIds, false));
+        when(storeRepository.findSearchableStoreIds(rankedIds, Category.한식)).thenReturn(List.of(storeId2, storeId));
+        when(storeRepository.findStoreListViewsByIds(List.of(storeId, storeId2))).thenReturn(List.of(
+                new StoreListView(storeId2, "죽이야기", "본동", true, Category.한식, 0, 0),
+                new StoreListView(storeId, "본죽", "종로동", true, Category.한식, 0, 0)));
+
+        // When
+        Page<StoreResDto> result = storeService.searchStore("죽", PageRequest.of(0, 10), "한식", "relevance", "desc");
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of("본죽", "죽이야기"), result.getContent().stream().map(StoreResDto::getName).toList());
+    }
+
+    @Test
+    @DisplayName("가게 검색 실패 테스트 - 검색 결과 없음")
+    void testSearchFail() {
+        // Given
+        when(searchIndex.search(SearchDocumentType.STORE, "죽")).thenReturn(SearchHits.empty());
+
+        //When && Then - 예외발생 여부 테스트
+        assertThrows(StoreNotFoundException.class, () -> storeService.searchStore("죽", PageRequest.of(0, 10), "한식", "createdAt", "desc"));
+        verify(storeRepository, never()).searchStores(any(), any(Category.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("가게 검색 실패 테스트 - 허용되지 않은 정렬 기준은 검색 전에 거부")
+    void testSearchFailInvalidSort() {
+        //When && Then - 인덱스가 없는 컬럼(address)으로는 정렬할 수 없음
+        assertThrows(InvalidSortException.class, () -> storeService.searchStore("죽", PageRequest.of(0, 10), "한식", "address", "desc"));
+        verifyNoInteractions(searchIndex, storeRepository);
+    }
+
     @Test
     @DisplayName("가게 단일 조회 테스트")
     void testGetOneSuccess() {
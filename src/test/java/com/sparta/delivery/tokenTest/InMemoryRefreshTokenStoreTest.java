@@ -0,0 +1,134 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.token.dto.StoredRefreshToken;
+import com.sparta.delivery.domain.token.entity.RefreshToken;
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import com.sparta.delivery.domain.token.service.InMemoryRefreshTokenStore;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class InMemoryRefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryRefreshTokenStore refreshTokenStore;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenStore = new InMemoryRefreshTokenStore(refreshTokenRepository, userRepository, transactionManager, invalidationBus,
+                meterRegistry, 100, 2, 10);
+        userId = UUID.randomUUID();
+
+        when(refreshTokenRepository.findByUser_UserId(any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByRefresh(anyString())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        refreshTokenStore.shutdown();
+    }
+
+    @Test
+    @DisplayName("토큰 저장 후 조회 - DB 조회 없이 메모리에서 반환")
+    void testSaveAndFind() {
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-1", Instant.now().plusSeconds(60)));
+
+        assertEquals("refresh-1", refreshTokenStore.findByUserId(userId).orElseThrow().getRefresh());
+        assertEquals(userId, refreshTokenStore.findByRefresh("refresh-1").orElseThrow().getUserId());
+
+        verify(refreshTokenRepository, never()).findByUser_UserId(any());
+        verify(refreshTokenRepository, never()).findByRefresh(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 저장 - DB 에는 비동기로 반영")
+    void testSaveWriteBehind() {
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-1", Instant.now().plusSeconds(60)));
+
+        verify(refreshTokenRepository, timeout(1000)).deleteByUserId(userId);
+        verify(refreshTokenRepository, timeout(1000)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 - 재시도 후 결과를 지표로 집계")
+    void testWriteBehindRetry() throws InterruptedException {
+        // write-behind 스레드가 mock 을 호출하는 중에 stub 하지 않도록 저장 전에 모두 stub
+        when(refreshTokenRepository.save(any(RefreshToken.class)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(null);
+        doThrow(new IllegalStateException("db down")).when(refreshTokenRepository).deleteByRefresh("refresh-1");
+
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-1", Instant.now().plusSeconds(60)));
+        refreshTokenStore.remove("refresh-1");
+        refreshTokenStore.shutdown();
+
+        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, times(2)).deleteByRefresh("refresh-1");
+        assertEquals(1.0, meterRegistry.get("refresh.token.write.behind").tag("result", "retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("refresh.token.write.behind").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("토큰 재저장 - 같은 사용자의 기존 토큰은 교체")
+    void testSaveReplacesPrevious() {
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-1", Instant.now().plusSeconds(60)));
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-2", Instant.now().plusSeconds(60)));
+
+        assertEquals("refresh-2", refreshTokenStore.findByUserId(userId).orElseThrow().getRefresh());
+        assertTrue(refreshTokenStore.findByRefresh("refresh-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 조회되지 않음")
+    void testExpiredTokenEvicted() {
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-1", Instant.now().minusSeconds(1)));
+
+        assertTrue(refreshTokenStore.findByUserId(userId).isEmpty());
+        assertTrue(refreshTokenStore.findByRefresh("refresh-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("토큰 제거 성공 / 등록되지 않은 토큰 제거 실패")
+    void testRemove() {
+        refreshTokenStore.save(new StoredRefreshToken(userId, "refresh-1", Instant.now().plusSeconds(60)));
+
+        assertTrue(refreshTokenStore.remove("refresh-1"));
+        assertTrue(refreshTokenStore.findByUserId(userId).isEmpty());
+        assertFalse(refreshTokenStore.remove("refresh-1"));
+
+        verify(refreshTokenRepository, timeout(1000)).deleteByRefresh("refresh-1");
+    }
+}
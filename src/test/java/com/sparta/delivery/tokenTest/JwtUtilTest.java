@@ -0,0 +1,70 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.dto.VerifiedToken;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijkl";
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 100);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 한 번의 파싱으로 모든 claim 반환")
+    void testVerifySuccess() {
+        String token = jwtUtil.createJwt("access", USER_ID, "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+
+        VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+        assertEquals("access", verifiedToken.getCategory());
+        assertEquals(USER_ID, verifiedToken.getUserId());
+        assertEquals("testuser", verifiedToken.getUsername());
+        assertEquals("test@example.com", verifiedToken.getEmail());
+        assertEquals("ROLE_CUSTOMER", verifiedToken.getRole());
+        assertFalse(verifiedToken.isExpired());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 같은 토큰은 캐시된 검증 결과 반환")
+    void testVerifyCached() {
+        String token = jwtUtil.createJwt("access", USER_ID, "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+
+        VerifiedToken first = jwtUtil.verify(token);
+        VerifiedToken second = jwtUtil.verify(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 서명이 다른 토큰")
+    void testVerifyFailInvalidSignature() {
+        JwtUtil otherJwtUtil = new JwtUtil("zyxwvutsrqponmlkjihgfedcba9876543210zyxwvutsrqpo", 100);
+        String token = otherJwtUtil.createJwt("access", USER_ID, "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰")
+    void testVerifyFailExpired() {
+        String token = jwtUtil.createJwt("access", USER_ID, "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER, -1_000L);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import com.sparta.delivery.domain.token.service.RefreshTokenPurgeScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class RefreshTokenPurgeSchedulerTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+
+    private RefreshTokenPurgeScheduler purgeScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        meterRegistry = new SimpleMeterRegistry();
+        purgeScheduler = new RefreshTokenPurgeScheduler(refreshTokenRepository, transactionManager, meterRegistry, 2, 10);
+    }
+
+    @Test
+    @DisplayName("만료 토큰 삭제 - 배치 크기보다 적게 조회될 때까지 반복")
+    void testPurgeInBatches() {
+        when(refreshTokenRepository.findExpiredIds(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .thenReturn(List.of(UUID.randomUUID()));
+
+        int purged = purgeScheduler.purgeExpired();
+
+        assertEquals(3, purged);
+        verify(refreshTokenRepository, times(2)).deleteAllByIdInBatch(anyList());
+        assertEquals(3.0, meterRegistry.get("refresh.token.purge.deleted").counter().count());
+        assertEquals(1, meterRegistry.get("refresh.token.purge.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("만료 토큰 삭제 - 최대 배치 수 초과 시 다음 실행으로 넘김")
+    void testPurgeStopsAtMaxBatches() {
+        when(refreshTokenRepository.findExpiredIds(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        int purged = purgeScheduler.purgeExpired();
+
+        assertEquals(20, purged);
+        verify(refreshTokenRepository, times(10)).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("만료 토큰 없음 - 삭제 쿼리 실행하지 않음")
+    void testPurgeNothing() {
+        when(refreshTokenRepository.findExpiredIds(any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, purgeScheduler.purgeExpired());
+        verify(refreshTokenRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+}
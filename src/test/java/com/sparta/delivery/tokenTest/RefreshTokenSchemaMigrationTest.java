@@ -0,0 +1,99 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.config.RefreshTokenSchemaMigration;
+import com.sparta.delivery.domain.token.entity.RefreshToken;
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이전 스키마(문자열 expiration 컬럼)의 p_refresh_token 보정 테스트
+ *
+ * 테스트 DB 의 테이블을 이전 스키마로 되돌린 뒤 보정하므로 @Transactional 을 사용하지 않습니다. (보정 후에는 엔티티 스키마와 같아짐)
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class RefreshTokenSchemaMigrationTest {
+
+    @Autowired
+    private RefreshTokenSchemaMigration refreshTokenSchemaMigration;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM p_refresh_token");
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("이전 스키마 - 이전 토큰은 만료 처리로 백필 후 expiration 컬럼 삭제, 다시 실행하면 아무것도 하지 않음")
+    void testMigrateLegacyExpiration() {
+        Instant before = Instant.now().minus(1, ChronoUnit.SECONDS);
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_refresh_token_expires_at");
+        jdbcTemplate.execute("ALTER TABLE p_refresh_token DROP COLUMN expires_at");
+        jdbcTemplate.execute("ALTER TABLE p_refresh_token ADD COLUMN expiration VARCHAR(255) NOT NULL DEFAULT ''");
+        insertLegacyToken(createUser("legacyToken1"), "legacy-refresh-1", "Sun Oct 18 12:19:21 UTC 2026");
+        insertLegacyToken(createUser("legacyToken2"), "legacy-refresh-2", "not a date");
+
+        try {
+            assertTrue(refreshTokenSchemaMigration.migrate());
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON p_refresh_token (expires_at)");
+        }
+
+        // 문자열 값과 관계없이 보정 시각으로 만료 처리
+        for (String refresh : List.of("legacy-refresh-1", "legacy-refresh-2")) {
+            RefreshToken migrated = refreshTokenRepository.findByRefresh(refresh).orElseThrow();
+            assertFalse(migrated.getExpiresAt().isBefore(before), refresh);
+            assertFalse(migrated.getExpiresAt().isAfter(Instant.now().plus(1, ChronoUnit.SECONDS)), refresh);
+        }
+
+        // expires_at 으로 전환된 뒤에는 아무것도 하지 않음
+        assertFalse(refreshTokenSchemaMigration.migrate());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM p_refresh_token", Integer.class));
+    }
+
+    private void insertLegacyToken(User user, String refresh, String expiration) {
+        jdbcTemplate.update("INSERT INTO p_refresh_token (refresh_token_id, user_id, refresh, expiration) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), user.getUserId(), refresh, expiration);
+    }
+
+    private User createUser(String username) {
+        User user = userRepository.save(User.builder()
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .username(username)
+                .nickname(username)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.delivery.userTest;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.invalidation.interfaces.InvalidationBus;
+import com.sparta.delivery.domain.user.dto.ResolvedUser;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.CurrentUserResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 현재 사용자 캐시 테스트 (사용자 스냅샷 반환, 커밋 이후 캐시 무효화)
+ */
+public class CurrentUserResolverTest {
+
+    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        currentUserResolver = new CurrentUserResolver(userRepository, mock(InvalidationBus.class), 100, 300);
+
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .username("testuser")
+                .email("test@test.com")
+                .nickname("테스트")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build();
+        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(user));
+
+        PrincipalDetails principalDetails = new PrincipalDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principalDetails, null, principalDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 조회 - 두 번째 조회부터 캐시된 스냅샷 반환")
+    void testResolveCachesSnapshot() {
+        ResolvedUser first = currentUserResolver.resolve("testuser").orElseThrow();
+        ResolvedUser second = currentUserResolver.resolve("testuser").orElseThrow();
+
+        assertEquals(ResolvedUser.from(user), first);
+        assertEquals(first, second);
+        verify(userRepository, times(1)).findByUsernameAndDeletedAtIsNull("testuser");
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 - 트랜잭션 안에서는 커밋 이후에 무효화")
+    void testEvictAfterCommit() {
+        currentUserResolver.resolve("testuser");
+
+        TransactionSynchronizationManager.initSynchronization();
+        currentUserResolver.evict(user.getUserId());
+
+        // 커밋 전에는 기존 캐시 유지
+        currentUserResolver.resolve("testuser");
+        verify(userRepository, times(1)).findByUsernameAndDeletedAtIsNull("testuser");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        currentUserResolver.resolve("testuser");
+        verify(userRepository, times(2)).findByUsernameAndDeletedAtIsNull("testuser");
+    }
+}
@@ -0,0 +1,97 @@
+package com.sparta.delivery.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gemini generateContent API 대역 (로컬 HTTP 서버)
+ *
+ * ai.baseUrl 을 getBaseUrl() 로 지정해서 사용합니다.
+ * - respondWith(status, answer) : 응답 상태/문구 지정
+ * - hold() / release() : release() 가 호출될 때까지 응답을 보내지 않음 (느린 외부 API 재현)
+ */
+public class StubGeminiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile int status = 200;
+    private volatile String answer = "🍕 하와이안 피자";
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    public StubGeminiServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    // 요청이 count 건 도착할 때까지 대기 (최대 5 초)
+    public void awaitRequests(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requestCount.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    public void respondWith(int status, String answer) {
+        this.status = status;
+        this.answer = answer;
+    }
+
+    public void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    public void release() {
+        gate.countDown();
+    }
+
+    @Override
+    public void close() {
+        release();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            gate.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String body = status == 200
+                ? "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + answer + "\"}]}}]}"
+                : "{\"error\":{\"code\":" + status + "}}";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}